@@ -0,0 +1,32 @@
+package com.agendastudy.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Utilitário para remover os diretórios temporários criados pelos
+ * benchmarks.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ArquivosBenchmark {
+
+    private ArquivosBenchmark() {
+    }
+
+    static void apagar(Path diretorio) throws IOException {
+        if (diretorio == null || !Files.exists(diretorio)) {
+            return;
+        }
+        try (Stream<Path> caminhos = Files.walk(diretorio)) {
+            for (Path caminho : (Iterable<Path>) caminhos.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(caminho);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.agendastudy.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agendastudy.DAO.AulaDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Professor;
+
+/**
+ * Benchmark de {@link AulaDAO#findAulasPorPeriodo}: janela de um dia na
+ * agenda de um professor, com 10 mil a 1 milhão de aulas no sistema.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AulaDAOBenchmark {
+
+    private static final int CONSULTAS = 1024;
+
+    @Param({ "10000", "100000", "1000000" })
+    public int aulas;
+
+    private AulaDAO aulaDAO;
+    private String[] professorIds;
+    private LocalDateTime[] inicios;
+    private int proxima;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        GeradorDados.silenciarSaida();
+        GeradorDados.limparTudo();
+        GeradorDados gerador = new GeradorDados(42);
+        List<Professor> professores = gerador.professores(Math.max(10, aulas / 50));
+        gerador.aulas(aulas, professores, gerador.estudantes(Math.max(10, aulas / 20)));
+        aulaDAO = new AulaDAO();
+
+        // Consultas pré-sorteadas, para não medir o Random
+        professorIds = new String[CONSULTAS];
+        inicios = new LocalDateTime[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            professorIds[i] = professores.get(gerador.getRandom().nextInt(professores.size())).getId();
+            inicios[i] = gerador.getBase().plusDays(gerador.getRandom().nextInt(GeradorDados.DIAS_AGENDA));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        GeradorDados.limparTudo();
+        GeradorDados.restaurarSaida();
+    }
+
+    @Benchmark
+    public List<Aula> findAulasPorPeriodo() {
+        int i = proxima++ & (CONSULTAS - 1);
+        return aulaDAO.findAulasPorPeriodo(professorIds[i], inicios[i], inicios[i].plusDays(1));
+    }
+}
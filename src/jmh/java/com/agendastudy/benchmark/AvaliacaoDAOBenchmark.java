@@ -0,0 +1,88 @@
+package com.agendastudy.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agendastudy.DAO.AvaliacaoDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.StatusAula;
+
+/**
+ * Benchmark de {@link AvaliacaoDAO#avaliar}: registro de uma nova avaliação
+ * (validação + journal em disco) sobre uma base de 10 mil a 1 milhão de
+ * avaliações. A base é montada pelo próprio {@link AvaliacaoDAO#avaliar},
+ * então o preparo de 1 milhão também exercita a compactação do journal.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AvaliacaoDAOBenchmark {
+
+    @Param({ "10000", "100000", "1000000" })
+    public int avaliacoes;
+
+    private Path diretorio;
+    private AvaliacaoDAO avaliacaoDAO;
+    private List<Professor> professores;
+    private List<Estudante> estudantes;
+    private LocalDateTime passado;
+    private long proxima;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        GeradorDados.silenciarSaida();
+        GeradorDados.limparTudo();
+        diretorio = Files.createTempDirectory("bench-avaliacoes");
+
+        GeradorDados gerador = new GeradorDados(42);
+        professores = gerador.professores(Math.max(10, avaliacoes / 100));
+        estudantes = gerador.estudantes(Math.max(10, avaliacoes / 50));
+        avaliacaoDAO = new AvaliacaoDAO(diretorio.toString());
+        gerador.avaliacoes(avaliacaoDAO, avaliacoes, professores, estudantes);
+        passado = gerador.getBase().minusDays(2);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws IOException {
+        GeradorDados.limparTudo();
+        ArquivosBenchmark.apagar(diretorio);
+        GeradorDados.restaurarSaida();
+    }
+
+    @Benchmark
+    public boolean avaliar() {
+        long i = proxima++;
+        Professor professor = professores.get((int) (i % professores.size()));
+        Estudante estudante = estudantes.get((int) (i % estudantes.size()));
+        Aula aula = new Aula("BENCH_" + i, "Aula", "", professor, estudante, passado, 60);
+        aula.setStatus(StatusAula.CONCLUIDA);
+        return avaliacaoDAO.avaliar(estudante, aula, 1 + (int) (i % 5));
+    }
+}
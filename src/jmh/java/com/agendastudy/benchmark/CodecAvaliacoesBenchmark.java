@@ -0,0 +1,139 @@
+package com.agendastudy.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agendastudy.DAO.CodecAvaliacoes;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Avaliacao;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.StatusAula;
+
+/**
+ * Compara o snapshot de avaliações no formato binário de
+ * {@link CodecAvaliacoes} com o antigo {@code avaliacoes.ser} (serialização
+ * Java do mapa professor -> avaliações): tempo de escrita e de leitura de
+ * um snapshot inteiro. A comparação de tamanho dos dois formatos fica em
+ * {@code AvaliacaoDAOTest#deveGravarSnapshotCompacto}.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CodecAvaliacoesBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int avaliacoes;
+
+    private Map<Professor, List<Avaliacao>> porProfessor;
+    private byte[] binario;
+    private byte[] serializacaoJava;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        Random random = new Random(42);
+        List<Professor> professores = new ArrayList<>();
+        for (int i = 0; i < Math.max(10, avaliacoes / 100); i++) {
+            Professor professor = new Professor("USER_P" + i, "Professor " + i, "prof" + i + "@bench.com", "senha123");
+            professor.adicionarDisciplina(GeradorDados.DISCIPLINAS[random.nextInt(GeradorDados.DISCIPLINAS.length)]);
+            professor.adicionarDisciplina(GeradorDados.DISCIPLINAS[random.nextInt(GeradorDados.DISCIPLINAS.length)]);
+            professores.add(professor);
+        }
+        List<Estudante> estudantes = new ArrayList<>();
+        for (int i = 0; i < Math.max(10, avaliacoes / 20); i++) {
+            estudantes.add(new Estudante("USER_E" + i, "Estudante " + i, "est" + i + "@bench.com", "senha123"));
+        }
+
+        porProfessor = new HashMap<>();
+        LocalDateTime passado = LocalDateTime.now().minusDays(30).withSecond(0).withNano(0);
+        for (int i = 0; i < avaliacoes; i++) {
+            Professor professor = professores.get(random.nextInt(professores.size()));
+            Estudante estudante = estudantes.get(random.nextInt(estudantes.size()));
+            Aula aula = new Aula("AULA_" + i, "Aula " + i, "Revisão", professor, estudante,
+                    passado.plusMinutes(30L * random.nextInt(1000)), 60);
+            aula.setStatus(StatusAula.CONCLUIDA);
+            Avaliacao avaliacao = new Avaliacao(UUID.randomUUID().toString(), estudante, aula,
+                    1 + random.nextInt(5), "Comentário " + i);
+            porProfessor.computeIfAbsent(professor, p -> new ArrayList<>()).add(avaliacao);
+        }
+
+        binario = escreverBinario();
+        serializacaoJava = serializarJava();
+    }
+
+    @Benchmark
+    public byte[] escreverBinario() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        CodecAvaliacoes.escreverCabecalho(saida);
+        CodecAvaliacoes.Escritor escritor = new CodecAvaliacoes.Escritor();
+        for (List<Avaliacao> lista : porProfessor.values()) {
+            for (Avaliacao avaliacao : lista) {
+                CodecAvaliacoes.escreverQuadro(saida, escritor.codificar(avaliacao));
+            }
+        }
+        return saida.toByteArray();
+    }
+
+    @Benchmark
+    public List<Avaliacao> lerBinario() throws IOException {
+        List<Avaliacao> lidas = new ArrayList<>(avaliacoes);
+        InputStream entrada = new BufferedInputStream(new ByteArrayInputStream(binario));
+        CodecAvaliacoes.lerCabecalho(entrada);
+        CodecAvaliacoes.Leitor leitor = new CodecAvaliacoes.Leitor();
+        byte[] quadro;
+        while ((quadro = CodecAvaliacoes.lerQuadro(entrada)) != null) {
+            lidas.add(leitor.decodificar(quadro));
+        }
+        return lidas;
+    }
+
+    @Benchmark
+    public byte[] serializarJava() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (ObjectOutputStream objetos = new ObjectOutputStream(saida)) {
+            objetos.writeObject(porProfessor);
+        }
+        return saida.toByteArray();
+    }
+
+    @Benchmark
+    public Object desserializarJava() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objetos = new ObjectInputStream(
+                new BufferedInputStream(new ByteArrayInputStream(serializacaoJava)))) {
+            return objetos.readObject();
+        }
+    }
+}
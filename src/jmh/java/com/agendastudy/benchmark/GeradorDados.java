@@ -0,0 +1,165 @@
+package com.agendastudy.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.agendastudy.DAO.AulaDAO;
+import com.agendastudy.DAO.AvaliacaoDAO;
+import com.agendastudy.DAO.DisponibilidadeDAO;
+import com.agendastudy.DAO.ProfessorDAO;
+import com.agendastudy.DAO.UsuarioDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.SlotDisponivel;
+import com.agendastudy.model.StatusAula;
+
+/**
+ * Gerador de dados sintéticos para os benchmarks.
+ *
+ * Popula os DAOs em memória com professores, estudantes, aulas,
+ * disponibilidades e avaliações. Usa uma semente fixa, para que execuções
+ * diferentes meçam exatamente o mesmo conjunto de dados.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GeradorDados {
+
+    /** Disciplinas usadas nos perfis gerados. */
+    public static final String[] DISCIPLINAS = {
+            "Matemática", "Física", "Química", "Biologia", "História",
+            "Geografia", "Português", "Inglês", "Programação", "Cálculo"
+    };
+
+    /** Janela (em dias) em que as aulas futuras são distribuídas. */
+    public static final int DIAS_AGENDA = 30;
+
+    private static final PrintStream SAIDA_ORIGINAL = System.out;
+
+    private final Random random;
+    private final ProfessorDAO usuarioDAO = new ProfessorDAO();
+    private final AulaDAO aulaDAO = new AulaDAO();
+    private final DisponibilidadeDAO dispDAO = new DisponibilidadeDAO();
+
+    /** Início da agenda gerada: amanhã, às 8h. */
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS).plusHours(8);
+
+    public GeradorDados(long semente) {
+        this.random = new Random(semente);
+    }
+
+    /**
+     * Limpa todo o estado estático dos DAOs (usuários, aulas e slots).
+     */
+    public static void limparTudo() {
+        UsuarioDAO.clear();
+        AulaDAO.clear();
+        DisponibilidadeDAO.clear();
+    }
+
+    /**
+     * Desliga o System.out: os DAOs imprimem uma linha por operação, o que
+     * dominaria a medição e o tempo de carga.
+     */
+    public static void silenciarSaida() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    public static void restaurarSaida() {
+        System.setOut(SAIDA_ORIGINAL);
+    }
+
+    public LocalDateTime getBase() {
+        return base;
+    }
+
+    /**
+     * Cria e salva professores, cada um com uma a três disciplinas.
+     */
+    public List<Professor> professores(int quantidade) {
+        List<Professor> professores = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Professor professor = new Professor(null, "Professor " + i, "prof" + i + "@bench.com", "senha123");
+            int disciplinas = 1 + random.nextInt(3);
+            for (int d = 0; d < disciplinas; d++) {
+                professor.adicionarDisciplina(DISCIPLINAS[random.nextInt(DISCIPLINAS.length)]);
+            }
+            professor.setTaxaCancelamento(random.nextDouble() * 0.3);
+            usuarioDAO.salvar(professor);
+            professores.add(professor);
+        }
+        return professores;
+    }
+
+    /**
+     * Cria e salva estudantes.
+     */
+    public List<Estudante> estudantes(int quantidade) {
+        List<Estudante> estudantes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Estudante estudante = new Estudante(null, "Estudante " + i, "est" + i + "@bench.com", "senha123");
+            usuarioDAO.salvar(estudante);
+            estudantes.add(estudante);
+        }
+        return estudantes;
+    }
+
+    /**
+     * Cria e salva aulas futuras, em horários cheios ou meias horas entre 8h
+     * e 20h. Cerca de 20% ficam como vaga aberta (sem estudante) e 5% são
+     * canceladas.
+     */
+    public List<Aula> aulas(int quantidade, List<Professor> professores, List<Estudante> estudantes) {
+        List<Aula> aulas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Professor professor = professores.get(random.nextInt(professores.size()));
+            Estudante estudante = random.nextInt(5) == 0 ? null : estudantes.get(random.nextInt(estudantes.size()));
+            LocalDateTime inicio = base.plusDays(random.nextInt(DIAS_AGENDA)).plusMinutes(30L * random.nextInt(24));
+            Aula aula = new Aula(null, "Aula " + i, "", professor, estudante, inicio, 30 + 30 * random.nextInt(4));
+            if (random.nextInt(20) == 0) {
+                aula.setStatus(StatusAula.CANCELADA_PROFESSOR);
+            }
+            aulas.add(aulaDAO.salvarOuAtualizar(aula));
+        }
+        return aulas;
+    }
+
+    /**
+     * Cadastra, para cada professor, um bloco de disponibilidade das 8h às 18h
+     * em cada um dos próximos dias.
+     */
+    public void disponibilidades(List<Professor> professores, int dias) {
+        for (Professor professor : professores) {
+            for (int d = 0; d < dias; d++) {
+                LocalDateTime inicio = base.plusDays(d);
+                dispDAO.salvarSlot(new SlotDisponivel(professor.getId(), inicio, inicio.plusHours(10)));
+            }
+        }
+    }
+
+    /**
+     * Registra avaliações de aulas passadas pelo DAO informado.
+     */
+    public void avaliacoes(AvaliacaoDAO avaliacaoDAO, int quantidade, List<Professor> professores,
+            List<Estudante> estudantes) {
+        LocalDateTime passado = base.minusDays(DIAS_AGENDA);
+        for (int i = 0; i < quantidade; i++) {
+            Professor professor = professores.get(random.nextInt(professores.size()));
+            Estudante estudante = estudantes.get(random.nextInt(estudantes.size()));
+            Aula aula = new Aula("PASSADA_" + i, "Aula passada " + i, "", professor, estudante, passado, 60);
+            aula.setStatus(StatusAula.CONCLUIDA);
+            avaliacaoDAO.avaliar(estudante, aula, 1 + random.nextInt(5));
+        }
+    }
+
+    public Random getRandom() {
+        return random;
+    }
+}
@@ -0,0 +1,84 @@
+package com.agendastudy.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agendastudy.DAO.AulaDAO;
+import com.agendastudy.DAO.DisponibilidadeDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.HorarioSugerido;
+import com.agendastudy.model.Professor;
+import com.agendastudy.service.ReagendamentoService;
+
+/**
+ * Benchmark de {@link ReagendamentoService#getSugestoesReagendamento}, com
+ * disponibilidade diária de 10 horas para todos os professores.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReagendamentoServiceBenchmark {
+
+    @Param({ "10000", "100000", "1000000" })
+    public int aulas;
+
+    private ReagendamentoService servico;
+    private List<Aula> reservadas;
+    private int proxima;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        GeradorDados.silenciarSaida();
+        GeradorDados.limparTudo();
+        GeradorDados gerador = new GeradorDados(42);
+        List<Professor> professores = gerador.professores(Math.max(10, aulas / 50));
+        List<Aula> geradas = gerador.aulas(aulas, professores, gerador.estudantes(Math.max(10, aulas / 20)));
+        gerador.disponibilidades(professores, 8);
+
+        reservadas = new ArrayList<>();
+        for (Aula aula : geradas) {
+            if (aula.getEstudante() != null && !aula.isCancelada()) {
+                reservadas.add(aula);
+            }
+        }
+        servico = new ReagendamentoService(new DisponibilidadeDAO(), new AulaDAO());
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        GeradorDados.limparTudo();
+        GeradorDados.restaurarSaida();
+    }
+
+    @Benchmark
+    public List<HorarioSugerido> getSugestoesReagendamento() {
+        return servico.getSugestoesReagendamento(reservadas.get(proxima++ % reservadas.size()));
+    }
+
+    @Benchmark
+    public List<HorarioSugerido> getPrimeirasSugestoes() {
+        return servico.getSugestoesReagendamento(reservadas.get(proxima++ % reservadas.size()), 5);
+    }
+}
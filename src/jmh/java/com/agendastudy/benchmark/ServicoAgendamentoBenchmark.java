@@ -0,0 +1,83 @@
+package com.agendastudy.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agendastudy.DAO.AulaDAO;
+import com.agendastudy.DAO.DisponibilidadeDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.service.ServicoAgendamento;
+
+/**
+ * Benchmark de {@link ServicoAgendamento#agendarAula}: reserva de uma vaga
+ * aberta por um estudante. A vaga é liberada logo depois, para que a mesma
+ * massa de dados sirva a todas as iterações.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ServicoAgendamentoBenchmark {
+
+    @Param({ "10000", "100000", "1000000" })
+    public int aulas;
+
+    private ServicoAgendamento servico;
+    private List<Aula> vagas;
+    private List<Estudante> estudantes;
+    private int proxima;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        GeradorDados.silenciarSaida();
+        GeradorDados.limparTudo();
+        GeradorDados gerador = new GeradorDados(42);
+        estudantes = gerador.estudantes(Math.max(10, aulas / 20));
+        List<Aula> geradas = gerador.aulas(aulas, gerador.professores(Math.max(10, aulas / 50)), estudantes);
+
+        vagas = new ArrayList<>();
+        for (Aula aula : geradas) {
+            if (aula.getEstudante() == null && !aula.isCancelada()) {
+                vagas.add(aula);
+            }
+        }
+        servico = new ServicoAgendamento(new AulaDAO(), new DisponibilidadeDAO());
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        GeradorDados.limparTudo();
+        GeradorDados.restaurarSaida();
+    }
+
+    @Benchmark
+    public Aula agendarAula() {
+        int i = proxima++;
+        Aula vaga = vagas.get(i % vagas.size());
+        Aula reservada = servico.agendarAula(vaga.getIdAula(), estudantes.get(i % estudantes.size()));
+        vaga.setEstudante(null); // libera a vaga para as próximas chamadas
+        return reservada;
+    }
+}
@@ -0,0 +1,98 @@
+package com.agendastudy.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agendastudy.DAO.AvaliacaoDAO;
+import com.agendastudy.DAO.DisponibilidadeDAO;
+import com.agendastudy.DAO.ProfessorDAO;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.service.DisponibilidadeService;
+import com.agendastudy.service.TutorRankingService;
+
+/**
+ * Benchmark de {@link TutorRankingService#getTopNProfessores}: top 10 de uma
+ * disciplina, com e sem uma alteração de perfil entre as buscas.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TutorRankingServiceBenchmark {
+
+    @Param({ "10000", "100000" })
+    public int professores;
+
+    @Param({ "100000" })
+    public int avaliacoes;
+
+    private Path diretorio;
+    private TutorRankingService servico;
+    private ProfessorDAO professorDAO;
+    private List<Professor> lista;
+    private Estudante estudante;
+    private int proxima;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        GeradorDados.silenciarSaida();
+        GeradorDados.limparTudo();
+        diretorio = Files.createTempDirectory("bench-ranking");
+
+        GeradorDados gerador = new GeradorDados(42);
+        lista = gerador.professores(professores);
+        List<Estudante> estudantes = gerador.estudantes(1000);
+        estudante = estudantes.get(0);
+        gerador.disponibilidades(lista, 3);
+
+        AvaliacaoDAO avaliacaoDAO = new AvaliacaoDAO(diretorio.toString());
+        gerador.avaliacoes(avaliacaoDAO, avaliacoes, lista, estudantes);
+
+        professorDAO = new ProfessorDAO();
+        servico = new TutorRankingService(professorDAO, avaliacaoDAO,
+                new DisponibilidadeService(new DisponibilidadeDAO()));
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws IOException {
+        GeradorDados.limparTudo();
+        ArquivosBenchmark.apagar(diretorio);
+        GeradorDados.restaurarSaida();
+    }
+
+    @Benchmark
+    public List<Professor> getTopNProfessores() {
+        return servico.getTopNProfessores(estudante, GeradorDados.DISCIPLINAS[proxima++ % GeradorDados.DISCIPLINAS.length], 10);
+    }
+
+    @Benchmark
+    public List<Professor> getTopNProfessoresAposAlteracao() {
+        // Um perfil salvo entre as buscas força o recálculo daquele professor
+        professorDAO.salvarProfessor(lista.get(proxima % lista.size()));
+        return servico.getTopNProfessores(estudante, GeradorDados.DISCIPLINAS[proxima++ % GeradorDados.DISCIPLINAS.length], 10);
+    }
+}
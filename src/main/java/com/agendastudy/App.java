@@ -1,5 +1,7 @@
 package com.agendastudy; // Pacote raiz do projeto
 
+import com.agendastudy.service.ContextoAplicacao;
+
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -40,6 +42,9 @@ public class App extends Application {
         }
         // ---------------------------------------
 
+        // Conclui as aulas que terminam enquanto a aplicação está aberta
+        ContextoAplicacao.getInstancia().getAgendadorConclusao().iniciar();
+
         // --- IMPORTANTE: Coloque aqui o FXML que você quer testar ---
 
         String fxmlFile = "view/Login.fxml";
@@ -69,6 +74,11 @@ public class App extends Application {
         stage.show();
     }
 
+    @Override
+    public void stop() {
+        ContextoAplicacao.getInstancia().getAgendadorConclusao().parar();
+    }
+
     /**
      * Método main que inicia a aplicação JavaFX.
      */
@@ -0,0 +1,329 @@
+package com.agendastudy.DAO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Armazém de fotos de perfil endereçado pelo conteúdo.
+ *
+ * Cada foto é gravada uma única vez em disco, com o nome igual ao seu hash
+ * SHA-256 ({@code <raiz>/ab/abcdef...}); as entidades guardam só o hash.
+ * Fotos iguais (ex: o avatar padrão) ocupam um único arquivo.
+ *
+ * A leitura é feita por mapeamento em memória: o conteúdo não é copiado
+ * para o heap e o sistema operacional carrega as páginas sob demanda. Os
+ * últimos {@value #LIMITE_MAPEADAS} mapeamentos usados ficam guardados; os
+ * mais antigos são liberados pelo coletor quando deixam de ser usados.
+ * {@link #transferir} envia a foto direto do arquivo para um canal
+ * (sem cópia pelo espaço do usuário).
+ *
+ * Cada foto pode ter variantes reduzidas (miniaturas), gravadas ao lado do
+ * original como {@code <hash>_<lado>} e localizadas só pelo hash do original.
+ *
+ * O diretório pode ser configurado pela propriedade de sistema
+ * {@code agendastudy.fotos.dir}.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.2
+ * @since 2026-10-18
+ */
+public final class ArmazemFotos {
+
+    private static final String DIRETORIO_PADRAO = "src/main/resources/data/fotos";
+    private static final Pattern FORMATO_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private static final ArmazemFotos instancia = new ArmazemFotos(
+            Paths.get(System.getProperty("agendastudy.fotos.dir", DIRETORIO_PADRAO)));
+
+    /** Quantidade máxima de mapeamentos guardados. */
+    static final int LIMITE_MAPEADAS = 256;
+
+    private final Path raiz;
+
+    // Últimas fotos mapeadas, em ordem de acesso (o mapeamento continua
+    // válido após fechar o canal). Protegido por 'mapeadas'.
+    private final Map<String, MappedByteBuffer> mapeadas = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MappedByteBuffer> maisAntiga) {
+            return size() > LIMITE_MAPEADAS;
+        }
+    };
+
+    /**
+     * Construtor usado pela instância padrão e pelos testes.
+     *
+     * @param raiz Diretório raiz do armazém.
+     */
+    ArmazemFotos(Path raiz) {
+        this.raiz = raiz;
+    }
+
+    public static ArmazemFotos getInstancia() {
+        return instancia;
+    }
+
+    /**
+     * Grava uma foto, se ela ainda não existir no armazém.
+     *
+     * @param conteudo Os bytes da imagem.
+     * @return O hash SHA-256 (hexadecimal) da foto.
+     * @throws IllegalArgumentException se o conteúdo for nulo ou vazio.
+     * @throws IOException              se a gravação falhar.
+     */
+    public String salvar(byte[] conteudo) throws IOException {
+        if (conteudo == null || conteudo.length == 0) {
+            throw new IllegalArgumentException("A foto não pode ser vazia");
+        }
+        String hash = calcularHash(conteudo);
+        gravar(caminho(hash), conteudo);
+        return hash;
+    }
+
+    /**
+     * Grava uma variante reduzida (miniatura) de uma foto já armazenada.
+     *
+     * @param hash     O hash da foto original.
+     * @param lado     O lado máximo da variante, em pixels.
+     * @param conteudo Os bytes da variante.
+     * @throws IllegalArgumentException se o hash for inválido, o lado não for
+     *                                  positivo ou o conteúdo for vazio.
+     * @throws IOException              se a gravação falhar.
+     */
+    public void salvarVariante(String hash, int lado, byte[] conteudo) throws IOException {
+        if (conteudo == null || conteudo.length == 0) {
+            throw new IllegalArgumentException("A variante não pode ser vazia");
+        }
+        gravar(caminhoVariante(hash, lado), conteudo);
+    }
+
+    /**
+     * Grava o conteúdo no destino, se ele ainda não existir.
+     */
+    private void gravar(Path destino, byte[] conteudo) throws IOException {
+        if (Files.exists(destino)) {
+            return; // Deduplicação: o mesmo conteúdo já está gravado
+        }
+
+        Files.createDirectories(destino.getParent());
+        // Grava em um temporário e move: leitores nunca veem a foto pela metade
+        Path temporario = Files.createTempFile(destino.getParent(), destino.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporario, conteudo);
+            Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Outra thread gravou o mesmo conteúdo ao mesmo tempo
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    /**
+     * Retorna a foto mapeada em memória, somente leitura.
+     *
+     * @param hash O hash da foto.
+     * @return Uma visão própria (posição e limite independentes) do conteúdo,
+     *         ou null se a foto não existir ou não puder ser lida.
+     * @throws IllegalArgumentException se o hash for inválido.
+     */
+    public ByteBuffer ler(String hash) {
+        return mapear(hash, caminho(hash));
+    }
+
+    /**
+     * Retorna uma variante reduzida da foto, mapeada em memória.
+     *
+     * @param hash O hash da foto original.
+     * @param lado O lado máximo da variante, em pixels.
+     * @return O conteúdo da variante, ou null se ela ainda não foi gerada.
+     * @throws IllegalArgumentException se o hash ou o lado forem inválidos.
+     */
+    public ByteBuffer lerVariante(String hash, int lado) {
+        return mapear(hash + '_' + lado, caminhoVariante(hash, lado));
+    }
+
+    private ByteBuffer mapear(String chave, Path arquivo) {
+        MappedByteBuffer mapeada;
+        synchronized (mapeadas) {
+            mapeada = mapeadas.get(chave);
+        }
+        if (mapeada == null) {
+            // Mapeia fora da trava: outra thread pode mapear a mesma foto, sem prejuízo
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                mapeada = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            } catch (IOException e) {
+                return null; // Foto inexistente
+            }
+            synchronized (mapeadas) {
+                MappedByteBuffer anterior = mapeadas.putIfAbsent(chave, mapeada);
+                if (anterior != null) {
+                    mapeada = anterior;
+                }
+            }
+        }
+        return mapeada.asReadOnlyBuffer();
+    }
+
+    /**
+     * Quantidade de mapeamentos guardados (no máximo {@value #LIMITE_MAPEADAS}).
+     */
+    int getQuantidadeMapeadas() {
+        synchronized (mapeadas) {
+            return mapeadas.size();
+        }
+    }
+
+    /**
+     * Abre a foto como fluxo de leitura, direto do mapeamento (útil para
+     * decodificadores de imagem).
+     *
+     * @param hash O hash da foto.
+     * @return O fluxo, ou null se a foto não existir.
+     */
+    public InputStream abrir(String hash) {
+        ByteBuffer conteudo = ler(hash);
+        return conteudo == null ? null : new FluxoBuffer(conteudo);
+    }
+
+    /**
+     * Abre uma variante reduzida da foto como fluxo de leitura.
+     *
+     * @param hash O hash da foto original.
+     * @param lado O lado máximo da variante, em pixels.
+     * @return O fluxo, ou null se a variante ainda não foi gerada.
+     */
+    public InputStream abrirVariante(String hash, int lado) {
+        ByteBuffer conteudo = lerVariante(hash, lado);
+        return conteudo == null ? null : new FluxoBuffer(conteudo);
+    }
+
+    /**
+     * Copia a foto para um array (para APIs que exigem {@code byte[]}).
+     *
+     * @param hash O hash da foto.
+     * @return Os bytes da foto, ou null se ela não existir.
+     */
+    public byte[] lerBytes(String hash) {
+        ByteBuffer conteudo = ler(hash);
+        if (conteudo == null) {
+            return null;
+        }
+        byte[] bytes = new byte[conteudo.remaining()];
+        conteudo.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Envia a foto para um canal sem passar pelo heap (transferTo).
+     *
+     * @param hash    O hash da foto.
+     * @param destino O canal de destino.
+     * @return Quantidade de bytes enviados.
+     * @throws IOException se a foto não existir ou a escrita falhar.
+     */
+    public long transferir(String hash, WritableByteChannel destino) throws IOException {
+        try (FileChannel canal = FileChannel.open(caminho(hash), StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            long enviados = 0;
+            while (enviados < tamanho) {
+                enviados += canal.transferTo(enviados, tamanho - enviados, destino);
+            }
+            return enviados;
+        }
+    }
+
+    /**
+     * Indica se a foto está no armazém.
+     */
+    public boolean existe(String hash) {
+        return Files.exists(caminho(hash));
+    }
+
+    /**
+     * Calcula o hash SHA-256 do conteúdo, em hexadecimal.
+     */
+    static String calcularHash(byte[] conteudo) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(conteudo));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e); // Obrigatório em toda JVM
+        }
+    }
+
+    /**
+     * Caminho da foto: subdiretório com os dois primeiros caracteres do hash,
+     * para não concentrar todos os arquivos em um só diretório.
+     *
+     * @throws IllegalArgumentException se o hash não tiver o formato esperado
+     *                                  (evita acesso fora do armazém).
+     */
+    private Path caminho(String hash) {
+        if (hash == null || !FORMATO_HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Hash de foto inválido: " + hash);
+        }
+        return raiz.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path caminhoVariante(String hash, int lado) {
+        if (lado <= 0) {
+            throw new IllegalArgumentException("Lado da variante inválido: " + lado);
+        }
+        return caminho(hash).resolveSibling(hash + '_' + lado);
+    }
+
+    /**
+     * InputStream sobre um ByteBuffer (sem copiar o conteúdo).
+     */
+    private static final class FluxoBuffer extends InputStream {
+        private final ByteBuffer buffer;
+
+        FluxoBuffer(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] destino, int inicio, int tamanho) {
+            if (tamanho == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int lidos = Math.min(tamanho, buffer.remaining());
+            buffer.get(destino, inicio, lidos);
+            return lidos;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public long skip(long n) {
+            int pulados = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + pulados);
+            return pulados;
+        }
+    }
+}
@@ -6,16 +6,29 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.concurrent.ConcurrentHashMap; // Adicionado
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.ObservadorStatusAula;
 import com.agendastudy.model.Professor;
+import com.agendastudy.model.StatusAula;
 
 /**
  * Gerencia as operações de acesso a dados (DAO) para a entidade Aula.
  * Simula um banco de dados de aulas em memória.
+ * As consultas por participante e por período usam um índice temporal
+ * ({@link IndiceTemporalAulas}) em vez de percorrer todas as aulas.
+ * As consultas e contagens por status usam partições por participante e
+ * status ({@link IndiceStatusAulas}), mantidas em dia pelas transições de
+ * status da própria Aula ({@link ObservadorStatusAula}).
+ *
+ * Os IDs novos ("AULA_" + 16 dígitos hexadecimais) vêm de um
+ * {@link GeradorIds} e crescem com o tempo de criação.
  *
  * @author VINICIUS ALVES RIBEIRO SILVA
- * @version 1.1
+ * @version 1.7
  */
 public class AulaDAO {
 
@@ -26,7 +39,33 @@ public class AulaDAO {
      * possam acessar o mapa ao mesmo tempo sem quebrar a aplicação.
      */
     private static Map<String, Aula> aulas = new ConcurrentHashMap<>();
-    private static int proximoId = 1; // contagem de id
+    private static volatile GeradorIds geradorIds = GeradorIdsTemporal.getInstancia();
+
+    /**
+     * Índice secundário por professor e por estudante, ordenado por dataHora.
+     * Mantido em sincronia por {@link #salvarOuAtualizar(Aula)}.
+     */
+    private static final IndiceTemporalAulas indice = new IndiceTemporalAulas();
+
+    /**
+     * Partições por participante e status, com contagem em O(1).
+     */
+    private static final IndiceStatusAulas indiceStatus = new IndiceStatusAulas();
+
+    /**
+     * Move a aula de partição quando o status muda direto na Aula. Aulas que
+     * não estão mais no DAO (ex: após {@link #clear()}) são ignoradas.
+     */
+    private static final ObservadorStatusAula observadorStatus = (aula, anterior) -> {
+        if (aula.getIdAula() != null && aulas.get(aula.getIdAula()) == aula) {
+            indiceStatus.indexar(aula);
+        }
+    };
+
+    /**
+     * Avisados depois de cada salvamento (ex: o agendador de conclusão).
+     */
+    private static final List<Consumer<Aula>> ouvintesSalvamento = new CopyOnWriteArrayList<>();
 
     /**
      * Busca uma aula pelo seu ID.
@@ -40,24 +79,94 @@ public class AulaDAO {
      */
     public Aula salvarOuAtualizar(Aula aula) {
         if (aula.getIdAula() == null || aula.getIdAula().isEmpty()) {
-            aula.setIdAula("AULA_" + proximoId++);
+            aula.setIdAula(geradorIds.proximo("AULA_"));
+        }
+        Aula anterior = aulas.put(aula.getIdAula(), aula);
+        if (anterior != null && anterior != aula) {
+            anterior.setObservadorStatus(null); // Substituída por outra instância
+        }
+        aula.setObservadorStatus(observadorStatus);
+        indice.indexar(aula);
+        indiceStatus.indexar(aula);
+
+        // Cancelamentos influenciam a pontuação do professor no ranking
+        if (aula.isCancelada() && aula.getProfessor() != null) {
+            RegistroAlteracoes.registrarProfessor(aula.getProfessor().getId());
+        }
+        for (Consumer<Aula> ouvinte : ouvintesSalvamento) {
+            ouvinte.accept(aula);
         }
-        aulas.put(aula.getIdAula(), aula);
         return aula;
     }
 
     /**
      * Busca todas as aulas de um professor específico.
      * Filtra apenas aulas que não foram canceladas.
+     * O resultado vem ordenado por data e hora.
      */
     public List<Aula> buscarAulasDoProfessor(Professor professor) {
         if (professor == null) {
             return new ArrayList<>();
         }
-        // Usa Stream para filtrar as aulas do mapa
-        return aulas.values().stream()
-                .filter(aula -> aula.getProfessor().getId().equals(professor.getId()) && !aula.isCancelada())
-                .collect(Collectors.toList());
+        // Lê só as partições de aulas ativas do professor
+        return indiceStatus.buscar(professor.getId(), StatusAula.AGENDADA, StatusAula.CONCLUIDA);
+    }
+
+    /**
+     * Busca as aulas de um participante (professor ou estudante) que estão em
+     * algum dos status informados, ordenadas por data e hora.
+     *
+     * @param usuarioId O ID do Professor ou Estudante.
+     * @param status    Os status desejados.
+     * @return Lista de aulas (vazia se não houver).
+     */
+    public List<Aula> buscarPorStatus(String usuarioId, StatusAula... status) {
+        if (usuarioId == null || status == null || status.length == 0) {
+            return new ArrayList<>();
+        }
+        return indiceStatus.buscar(usuarioId, status);
+    }
+
+    /**
+     * Busca as aulas de um participante com o status informado, iniciadas no
+     * período [inicio, fim] (inclusive), ordenadas por data e hora.
+     */
+    public List<Aula> buscarPorStatusNoPeriodo(String usuarioId, StatusAula status, LocalDateTime inicio,
+            LocalDateTime fim) {
+        if (usuarioId == null || status == null || inicio == null || fim == null) {
+            return new ArrayList<>();
+        }
+        return indiceStatus.buscarNoPeriodo(usuarioId, status, inicio, fim);
+    }
+
+    /**
+     * Conta as aulas de um participante com o status informado, em O(1).
+     *
+     * @param usuarioId O ID do Professor ou Estudante.
+     * @param status    O status.
+     * @return A quantidade de aulas.
+     */
+    public int contarPorStatus(String usuarioId, StatusAula status) {
+        if (usuarioId == null || status == null) {
+            return 0;
+        }
+        return indiceStatus.contar(usuarioId, status);
+    }
+
+    /**
+     * Busca as aulas de um estudante com o status informado.
+     * Lê só a partição do status na agenda do estudante.
+     * O resultado vem ordenado por data e hora.
+     *
+     * @param estudante O estudante.
+     * @param status    O status desejado.
+     * @return Lista de aulas do estudante com o status (vazia se não houver).
+     */
+    public List<Aula> buscarAulasDoEstudante(Estudante estudante, StatusAula status) {
+        if (estudante == null || status == null) {
+            return new ArrayList<>();
+        }
+        return indiceStatus.buscar(estudante.getId(), status);
     }
 
     /**
@@ -67,25 +176,19 @@ public class AulaDAO {
      * @param usuarioId O ID do Professor ou Estudante.
      * @param inicio    O início do período de busca.
      * @param fim       O fim do período de busca.
-     * @return Lista de Aulas ativas em que o usuário está envolvido no período.
+     * @return Lista de Aulas ativas em que o usuário está envolvido no período,
+     *         ordenada por data e hora.
      */
     public List<Aula> findAulasPorPeriodo(String usuarioId, LocalDateTime inicio, LocalDateTime fim) {
         if (usuarioId == null || inicio == null || fim == null) {
             return new ArrayList<>();
         }
 
-        return aulas.values().stream()
-                .filter(aula ->
-                // 1. O usuário é o Professor OU o Estudante
-                (aula.getProfessor().getId().equals(usuarioId) ||
-                        (aula.getEstudante() != null && aula.getEstudante().getId().equals(usuarioId))) &&
-
-                // 2. A aula não está cancelada
-                        !aula.isCancelada() &&
-
-                        // 3. Checa se a aula se sobrepõe ao período de busca:
-                        aula.getDataHora().isBefore(fim) &&
-                        aula.getFimAula().isAfter(inicio))
+        // O índice já devolve só as aulas do usuário que se sobrepõem ao período
+        // (início da aula < fim da busca E fim da aula > início da busca).
+        // Resta descartar as canceladas.
+        return indice.buscarSobrepostas(usuarioId, inicio, fim).stream()
+                .filter(aula -> !aula.isCancelada())
                 .collect(Collectors.toList());
     }
 
@@ -98,4 +201,46 @@ public class AulaDAO {
         return new ArrayList<>(aulas.values());
     }
 
+    /**
+     * Troca o gerador de IDs usado para novas aulas.
+     *
+     * @param gerador O novo gerador.
+     * @throws IllegalArgumentException se o gerador for nulo.
+     */
+    public static void setGeradorIds(GeradorIds gerador) {
+        if (gerador == null) {
+            throw new IllegalArgumentException("O gerador de IDs não pode ser nulo");
+        }
+        geradorIds = gerador;
+    }
+
+    /**
+     * Registra uma ação chamada depois de cada {@link #salvarOuAtualizar}.
+     *
+     * @param ouvinte A ação, que recebe a aula salva.
+     * @throws IllegalArgumentException se o ouvinte for nulo.
+     */
+    public static void adicionarOuvinteSalvamento(Consumer<Aula> ouvinte) {
+        if (ouvinte == null) {
+            throw new IllegalArgumentException("O ouvinte não pode ser nulo");
+        }
+        ouvintesSalvamento.add(ouvinte);
+    }
+
+    /**
+     * Remove uma ação registrada por {@link #adicionarOuvinteSalvamento}.
+     * Não faz nada se ela não estiver registrada.
+     *
+     * @param ouvinte A ação a remover.
+     */
+    public static void removerOuvinteSalvamento(Consumer<Aula> ouvinte) {
+        ouvintesSalvamento.remove(ouvinte);
+    }
+
+    // Método auxiliar, útil para testes e para limpar o 'banco' em memória
+    public static void clear() {
+        aulas.clear();
+        indice.limpar();
+        indiceStatus.limpar();
+    }
 }
\ No newline at end of file
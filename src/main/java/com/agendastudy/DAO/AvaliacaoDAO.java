@@ -4,30 +4,99 @@ import com.agendastudy.model.Estudante;
 import com.agendastudy.model.Professor;
 import com.agendastudy.model.Avaliacao;
 import com.agendastudy.model.Aula;
+import com.agendastudy.model.EstatisticasAvaliacao;
 import com.agendastudy.model.StatusAula;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Gerencia as operações de acesso a dados (DAO) para a entidade Avaliacao.
  * Armazena e recupera avaliações, associando-as aos professores.
  *
+ * A persistência usa um snapshot ({@code avaliacoes.dat}) mais um journal
+ * somente-anexação ({@code avaliacoes.journal}): cada nova avaliação custa uma
+ * única escrita sequencial no fim do journal, por um fluxo mantido aberto.
+ * O journal é compactado em um novo snapshot quando passa de metade do
+ * tamanho do snapshot (e de {@value #LIMITE_MINIMO_JOURNAL} bytes): como o
+ * limite cresce junto com a base, as regravações completas ficam cada vez
+ * mais raras, e o custo total de N avaliações é O(N), e não O(N²).
+ * Na inicialização o snapshot é lido e o journal é reaplicado.
+ * Os dois arquivos usam o formato binário de {@link CodecAvaliacoes}.
+ * Arquivos antigos em serialização Java ({@code avaliacoes.ser} e o journal
+ * antigo) são lidos uma vez e migrados para o formato novo; o snapshot
+ * antigo é mantido como {@code avaliacoes.ser.bak}.
+ *
+ * Para cada professor é mantido também um agregado das notas
+ * ({@link EstatisticasAvaliacao}), atualizado a cada avaliação armazenada,
+ * de forma que média, variância e distribuição são lidas em O(1).
+ * Por estudante, são indexadas as avaliações feitas e as aulas já avaliadas:
+ * as consultas do estudante custam só o tamanho do seu próprio histórico.
+ *
  * @author MATHEUS PEREIRA RODRIGUES
- * @version 1.0
+ * @version 1.6
  * @since 2025-11-13
  */
 public class AvaliacaoDAO {
+
+    /** Diretório padrão dos arquivos de avaliações. */
+    private static final String DIRETORIO_PADRAO = "src/main/resources/data";
+
+    /** Tamanho mínimo do journal, em bytes, para disparar a compactação. */
+    static final long LIMITE_MINIMO_JOURNAL = 64 * 1024;
+
     // Simula uma tabela de avaliações, agrupada por professor
     private Map<Professor, List<Avaliacao>> avaliacoesPorProfessor = new HashMap<>();
 
+    // Chave canônica de cada professor no mapa acima, pelo ID.
+    // Necessário para o replay do journal, em que cada registro desserializa
+    // uma cópia própria do professor.
+    private final Map<String, Professor> professoresPorId = new HashMap<>();
+
+    // Agregado das notas por ID do professor (lido sem bloqueio pelos rankings)
+    private final Map<String, EstatisticasAvaliacao> estatisticasPorProfessor = new ConcurrentHashMap<>();
+
+    // Índices por ID do estudante: as avaliações feitas e os IDs das aulas já
+    // avaliadas. Escritos sob a trava do DAO e lidos sem bloqueio pelas telas.
+    private final Map<String, List<Avaliacao>> avaliacoesPorEstudante = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> aulasAvaliadasPorEstudante = new ConcurrentHashMap<>();
+
+    private final File arquivoSnapshot;
+    private final File arquivoSnapshotLegado;
+    private final File arquivoJournal;
+    private long bytesJournal;
+    private long bytesSnapshot;
+
+    // Fluxo de anexação do journal, aberto na primeira escrita e fechado na compactação
+    private OutputStream fluxoJournal;
+
+    // Tabelas de referências do journal atual (ver CodecAvaliacoes)
+    private CodecAvaliacoes.Escritor escritorJournal = new CodecAvaliacoes.Escritor();
+
     /**
      * Construtor sem parâmetros que chama o método que faz a leitura de arquivos,
      * para resgatar as avaliações
      * que já houvessem sido feitas.
      */
     public AvaliacaoDAO() {
+        this(DIRETORIO_PADRAO);
+    }
+
+    /**
+     * Construtor que permite escolher o diretório dos arquivos de avaliações
+     * (útil para testes e benchmarks).
+     *
+     * @param diretorio Diretório onde ficam o snapshot e o journal.
+     */
+    public AvaliacaoDAO(String diretorio) {
+        this.arquivoSnapshot = new File(diretorio, "avaliacoes.dat");
+        this.arquivoSnapshotLegado = new File(diretorio, "avaliacoes.ser");
+        this.arquivoJournal = new File(diretorio, "avaliacoes.journal");
         lerArquivo();
     }
 
@@ -70,24 +139,22 @@ public class AvaliacaoDAO {
      * @return true se a avaliação foi criada e armazenada com sucesso, false caso
      *         contrário.
      */
-    private boolean avaliarInterno(Estudante estudante, Aula aula, int nota, String comentario) {
+    private synchronized boolean avaliarInterno(Estudante estudante, Aula aula, int nota, String comentario) {
         boolean avaliado;
         if (podeAvaliar(estudante, aula)) {
             String idAvaliacao = UUID.randomUUID().toString(); // Gera novo ID para cada avaliação
             Avaliacao avaliacao = new Avaliacao(idAvaliacao, estudante, aula, nota, comentario);
 
-            // Se não existir uma lista para o professor, cria uma nova
-            avaliacoesPorProfessor.putIfAbsent(aula.getProfessor(), new LinkedList<>());
-
             // Adiciona a avaliação à lista do professor no DAO
-            avaliacoesPorProfessor.get(aula.getProfessor()).add(avaliacao);
+            armazenar(avaliacao);
 
             // Adiciona também na lista interna do Model Professor
             // (ESSENCIAL PARA OS MÉTODOS 'get' do ProfessorDAO)
             aula.getProfessor().getAvaliacoes().add(avaliacao);
 
             avaliado = true;
-            salvarArquivo();
+            registrarNoJournal(avaliacao);
+            RegistroAlteracoes.registrarProfessor(aula.getProfessor().getId());
 
         } else {
             System.err.println("Erro: Aula " + aula.getIdAula() + " não pode ser avaliada.");
@@ -118,39 +185,43 @@ public class AvaliacaoDAO {
             return false;
         }
 
-        // pega as avaliações do professor da aula (ou lista vazia, se não existir)
-        List<Avaliacao> avaliacoesDoProfessor = avaliacoesPorProfessor
-                .getOrDefault(aula.getProfessor(), Collections.emptyList());
-
         // Se a aula já foi avaliada por este estudante, não pode avaliar de novo
-        for (Avaliacao a : avaliacoesDoProfessor) {
-            if (a.getAula().getIdAula().equals(aula.getIdAula()) &&
-                    a.getEstudante().getId().equals(estudante.getId())) {
-                return false;
-            }
-        }
+        return !jaAvaliou(estudante, aula);
+    }
 
-        return true;
+    /**
+     * Verifica se o estudante já avaliou a aula, pelo índice do estudante.
+     *
+     * @param estudante O estudante.
+     * @param aula      A aula.
+     * @return true se existe avaliação do estudante para a aula.
+     */
+    public boolean jaAvaliou(Estudante estudante, Aula aula) {
+        return getAulasAvaliadas(estudante).contains(aula.getIdAula());
+    }
+
+    /**
+     * Retorna os IDs das aulas já avaliadas pelo estudante.
+     *
+     * @param estudante O estudante.
+     * @return Conjunto somente leitura (vazio se o estudante não avaliou nada).
+     */
+    public Set<String> getAulasAvaliadas(Estudante estudante) {
+        Set<String> avaliadas = aulasAvaliadasPorEstudante.get(estudante.getId());
+        return avaliadas == null ? Collections.emptySet() : Collections.unmodifiableSet(avaliadas);
     }
 
     /**
      * Retorna todas as avaliações feitas por um estudante específico.
+     * Lê só o índice do estudante, sem bloqueio (as telas consultam em
+     * segundo plano).
      *
      * @param estudante O estudante cujas as avaliações devem ser retornadas.
      * @return uma lista contendo as avaliações feitas pelo estudante.
      */
     public List<Avaliacao> getAvaliacaoPorEstudante(Estudante estudante) {
-        List<Avaliacao> resultado = new ArrayList<>();
-
-        // Itera por todas as listas de avaliação de todos os professores
-        for (List<Avaliacao> lista : avaliacoesPorProfessor.values()) {
-            for (Avaliacao a : lista) {
-                if (a.getEstudante().getId().equals(estudante.getId())) {
-                    resultado.add(a);
-                }
-            }
-        }
-        return resultado;
+        List<Avaliacao> doEstudante = avaliacoesPorEstudante.get(estudante.getId());
+        return doEstudante == null ? new ArrayList<>() : new ArrayList<>(doEstudante);
     }
 
     /**
@@ -160,46 +231,170 @@ public class AvaliacaoDAO {
      * @return A média das notas (0.0 a 5.0) ou 0.0 se não houver avaliações.
      */
     public double getMediaAvaliacoes(String idProfessor) {
-        // Encontra a lista de avaliacoes do professor procurando nas chaves do mapa
-        // (Isso é um pouco ineficiente dado que a chave é o Objeto Professor, mas
-        // compatível com a estrutura atual)
-        List<Avaliacao> avaliacoes = null;
-        for (Map.Entry<Professor, List<Avaliacao>> entry : avaliacoesPorProfessor.entrySet()) {
-            if (entry.getKey().getId().equals(idProfessor)) {
-                avaliacoes = entry.getValue();
-                break;
+        return getEstatisticas(idProfessor).getMedia();
+    }
+
+    /**
+     * Retorna o agregado das avaliações de um professor (total, média,
+     * variância e distribuição das notas).
+     *
+     * @param idProfessor O ID do professor.
+     * @return O agregado do professor, ou {@link EstatisticasAvaliacao#VAZIA}
+     *         se ele ainda não tiver avaliações.
+     */
+    public EstatisticasAvaliacao getEstatisticas(String idProfessor) {
+        if (idProfessor == null) {
+            return EstatisticasAvaliacao.VAZIA;
+        }
+        return estatisticasPorProfessor.getOrDefault(idProfessor, EstatisticasAvaliacao.VAZIA);
+    }
+
+    /**
+     * Adiciona a avaliação ao mapa em memória, usando como chave a instância
+     * canônica do professor (a primeira vista com aquele ID), e soma a nota
+     * ao agregado do professor.
+     */
+    private void armazenar(Avaliacao avaliacao) {
+        Professor chave = professoresPorId.computeIfAbsent(avaliacao.getProfessor().getId(),
+                id -> avaliacao.getProfessor());
+        avaliacoesPorProfessor.computeIfAbsent(chave, p -> new LinkedList<>()).add(avaliacao);
+        estatisticasPorProfessor.merge(chave.getId(), EstatisticasAvaliacao.deNota(avaliacao.getNota()),
+                EstatisticasAvaliacao::somar);
+
+        String idEstudante = avaliacao.getEstudante().getId();
+        avaliacoesPorEstudante.computeIfAbsent(idEstudante, id -> new CopyOnWriteArrayList<>()).add(avaliacao);
+        aulasAvaliadasPorEstudante.computeIfAbsent(idEstudante, id -> ConcurrentHashMap.newKeySet())
+                .add(avaliacao.getAula().getIdAula());
+    }
+
+    /**
+     * Ler os dados das avaliações feitas que foram salvas em arquivo:
+     * primeiro o snapshot, depois os registros do journal. Se algum dos
+     * arquivos estiver no formato antigo, migra tudo para o formato novo.
+     */
+    private void lerArquivo() {
+        Set<String> idsCarregados = new HashSet<>();
+        boolean migrar = false;
+
+        if (arquivoSnapshot.exists()) {
+            try (InputStream fluxo = new BufferedInputStream(new FileInputStream(arquivoSnapshot))) {
+                int versao = CodecAvaliacoes.lerCabecalho(fluxo);
+                lerQuadros(fluxo, new CodecAvaliacoes.Leitor(versao), idsCarregados);
+            } catch (IOException e) {
+                e.printStackTrace();
             }
+        } else if (arquivoSnapshotLegado.exists()) {
+            lerSnapshotLegado(idsCarregados);
+            migrar = true;
         }
 
-        if (avaliacoes == null || avaliacoes.isEmpty()) {
-            return 0.0;
+        if (arquivoJournal.length() > 0) {
+            try (InputStream fluxo = new BufferedInputStream(new FileInputStream(arquivoJournal))) {
+                fluxo.mark(4);
+                boolean formatoNovo = CodecAvaliacoes.temMagica(fluxo.readNBytes(4));
+                fluxo.reset();
+
+                if (formatoNovo) {
+                    int versao = CodecAvaliacoes.lerCabecalho(fluxo);
+                    CodecAvaliacoes.Leitor leitor = new CodecAvaliacoes.Leitor(versao);
+                    lerQuadros(fluxo, leitor, idsCarregados);
+                    if (versao == CodecAvaliacoes.VERSAO) {
+                        escritorJournal = leitor.continuar();
+                    } else {
+                        migrar = true; // Não se anexa quadros novos a um journal de versão antiga
+                    }
+                } else {
+                    lerJournalLegado(fluxo, idsCarregados);
+                    migrar = true;
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        // Mantém a lista interna do Model Professor coerente com o que foi lido
+        for (Map.Entry<Professor, List<Avaliacao>> entry : avaliacoesPorProfessor.entrySet()) {
+            entry.getKey().getAvaliacoes().clear();
+            entry.getKey().getAvaliacoes().addAll(entry.getValue());
         }
 
-        double soma = 0;
-        for (Avaliacao a : avaliacoes) {
-            soma += a.getNota();
+        bytesSnapshot = arquivoSnapshot.length();
+        bytesJournal = arquivoJournal.length();
+        if (migrar && gravarSnapshot() && arquivoSnapshotLegado.exists()) {
+            arquivoSnapshotLegado.renameTo(new File(arquivoSnapshotLegado.getPath() + ".bak"));
+        }
+    }
+
+    /**
+     * Lê os quadros de um arquivo no formato binário até o fim. Um último
+     * quadro incompleto (queda durante a escrita) é descartado.
+     */
+    private void lerQuadros(InputStream fluxo, CodecAvaliacoes.Leitor leitor, Set<String> idsCarregados)
+            throws IOException {
+        try {
+            byte[] quadro;
+            while ((quadro = CodecAvaliacoes.lerQuadro(fluxo)) != null) {
+                Avaliacao a = leitor.decodificar(quadro);
+                // Ignora registros que já entraram no snapshot (compactação interrompida)
+                if (idsCarregados.add(a.getIdAvaliacao())) {
+                    armazenar(a);
+                }
+            }
+        } catch (EOFException e) {
+            System.err.println("Aviso: registro incompleto no fim do arquivo de avaliações foi ignorado.");
         }
-        return soma / avaliacoes.size();
     }
 
     /**
-     * Ler os dados das avaliações feitas que foram salvas em arquivo.
+     * Lê o snapshot antigo, gravado com serialização Java.
      */
     @SuppressWarnings("unchecked")
-    private void lerArquivo() {
-        File file = new File("src/main/resources/data/avaliacoes.ser");
-        if (!file.exists()) {
-            return;
+    private void lerSnapshotLegado(Set<String> idsCarregados) {
+        try (ObjectInputStream fluxoObjetos = new ObjectInputStream(
+                new BufferedInputStream(new FileInputStream(arquivoSnapshotLegado)))) {
+
+            Map<Professor, List<Avaliacao>> snapshot = (Map<Professor, List<Avaliacao>>) fluxoObjetos
+                    .readObject();
+            for (List<Avaliacao> lista : snapshot.values()) {
+                for (Avaliacao a : lista) {
+                    idsCarregados.add(a.getIdAvaliacao());
+                    migrarFotosLegadas(a);
+                    armazenar(a);
+                }
+            }
+
+        } catch (ClassNotFoundException e) {
+            e.printStackTrace();
+        } catch (IOException e) {
+            e.printStackTrace();
         }
-        try {
-            FileInputStream fluxoArquivo = new FileInputStream(file);
-            ObjectInputStream fluxoObjetos = new ObjectInputStream(fluxoArquivo);
+    }
 
-            avaliacoesPorProfessor = (Map<Professor, List<Avaliacao>>) fluxoObjetos.readObject();
+    /**
+     * Lê o journal antigo: registros (tamanho + objeto em serialização Java).
+     */
+    private void lerJournalLegado(InputStream fluxo, Set<String> idsCarregados) {
+        DataInputStream fluxoJournal = new DataInputStream(fluxo);
+        try {
+            while (true) {
+                int tamanho;
+                try {
+                    tamanho = fluxoJournal.readInt();
+                } catch (EOFException fim) {
+                    break;
+                }
+                byte[] registro = new byte[tamanho];
+                fluxoJournal.readFully(registro);
 
-            fluxoArquivo.close();
-            fluxoObjetos.close();
+                Avaliacao a = desserializarLegado(registro);
+                if (idsCarregados.add(a.getIdAvaliacao())) {
+                    armazenar(a);
+                }
+            }
 
+        } catch (EOFException e) {
+            // Último registro incompleto (queda durante a escrita): descartado
+            System.err.println("Aviso: registro incompleto no fim do journal de avaliações foi ignorado.");
         } catch (ClassNotFoundException e) {
             e.printStackTrace();
         } catch (IOException e) {
@@ -208,24 +403,132 @@ public class AvaliacaoDAO {
     }
 
     /**
-     * Salava as avaliações feitas em um arquivo.
+     * Anexa uma avaliação ao fim do journal (um quadro do formato binário), em
+     * uma única escrita sequencial. Compacta o journal quando ele passa do
+     * limite proporcional ao snapshot.
      */
-    private void salvarArquivo() {
-        if (avaliacoesPorProfessor.isEmpty()) {
+    private void registrarNoJournal(Avaliacao avaliacao) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+            if (bytesJournal == 0) {
+                // Journal novo (ou recém-compactado): cabeçalho e tabelas vazias
+                escritorJournal = new CodecAvaliacoes.Escritor();
+                CodecAvaliacoes.escreverCabecalho(buffer);
+            }
+            CodecAvaliacoes.escreverQuadro(buffer, escritorJournal.codificar(avaliacao));
+
+            if (fluxoJournal == null) {
+                fluxoJournal = new FileOutputStream(arquivoJournal, true);
+            }
+            buffer.writeTo(fluxoJournal);
+            bytesJournal += buffer.size();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            // As tabelas do escritor podem ter ficado à frente do arquivo:
+            // grava tudo em um snapshot novo e recomeça o journal
+            fecharJournal();
+            compactar();
             return;
-        } else {
-            try {
-                FileOutputStream fluxoArquivo = new FileOutputStream("src/main/resources/data/avaliacoes.ser");
-                ObjectOutputStream fluxoObjetos = new ObjectOutputStream(fluxoArquivo);
+        }
 
-                fluxoObjetos.writeObject(avaliacoesPorProfessor);
+        if (bytesJournal >= Math.max(LIMITE_MINIMO_JOURNAL, bytesSnapshot / 2)) {
+            compactar();
+        }
+    }
 
-                fluxoArquivo.close();
-                fluxoObjetos.close();
+    /**
+     * Fecha o fluxo do journal (ex: ao encerrar a aplicação). A próxima
+     * avaliação o reabre.
+     */
+    public synchronized void fechar() {
+        fecharJournal();
+    }
 
+    private void fecharJournal() {
+        if (fluxoJournal != null) {
+            try {
+                fluxoJournal.close();
             } catch (IOException e) {
                 e.printStackTrace();
             }
+            fluxoJournal = null;
+        }
+    }
+
+    /**
+     * Grava um novo snapshot com todas as avaliações e esvazia o journal.
+     */
+    synchronized void compactar() {
+        if (avaliacoesPorProfessor.isEmpty()) {
+            return;
+        }
+        gravarSnapshot();
+    }
+
+    /**
+     * Escreve o snapshot em um arquivo temporário e o move atomicamente, para
+     * que uma queda no meio da compactação não corrompa os dados; depois
+     * trunca o journal.
+     *
+     * @return true se o snapshot foi gravado.
+     */
+    private boolean gravarSnapshot() {
+        File temporario = new File(arquivoSnapshot.getPath() + ".tmp");
+        try {
+            try (OutputStream fluxo = new BufferedOutputStream(new FileOutputStream(temporario))) {
+                CodecAvaliacoes.escreverCabecalho(fluxo);
+                CodecAvaliacoes.Escritor escritor = new CodecAvaliacoes.Escritor();
+                for (List<Avaliacao> lista : avaliacoesPorProfessor.values()) {
+                    for (Avaliacao a : lista) {
+                        CodecAvaliacoes.escreverQuadro(fluxo, escritor.codificar(a));
+                    }
+                }
+            }
+            Files.move(temporario.toPath(), arquivoSnapshot.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            bytesSnapshot = arquivoSnapshot.length();
+
+            // Trunca o journal: tudo o que havia nele já está no snapshot
+            fecharJournal();
+            new FileOutputStream(arquivoJournal).close();
+            bytesJournal = 0;
+            return true;
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private static Avaliacao desserializarLegado(byte[] registro) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream fluxoObjetos = new ObjectInputStream(new ByteArrayInputStream(registro))) {
+            Avaliacao avaliacao = (Avaliacao) fluxoObjetos.readObject();
+            migrarFotosLegadas(avaliacao);
+            return avaliacao;
+        }
+    }
+
+    /**
+     * Objetos gravados antes do {@link ArmazemFotos} trazem os bytes da foto:
+     * grava-os no armazém e guarda o hash. Uma foto que não puder ser gravada
+     * é perdida, mas a avaliação é carregada.
+     */
+    private static void migrarFotosLegadas(Avaliacao avaliacao) {
+        try {
+            Professor professor = avaliacao.getProfessor();
+            byte[] foto = professor == null ? null : professor.retirarFotoLegada();
+            if (foto != null) {
+                professor.setHashFoto(ArmazemFotos.getInstancia().salvar(foto));
+            }
+            Estudante estudante = avaliacao.getEstudante();
+            foto = estudante == null ? null : estudante.retirarFotoLegada();
+            if (foto != null) {
+                estudante.setHashFoto(ArmazemFotos.getInstancia().salvar(foto));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+}
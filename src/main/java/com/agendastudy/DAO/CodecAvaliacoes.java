@@ -0,0 +1,588 @@
+package com.agendastudy.DAO;
+
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Avaliacao;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.StatusAula;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Formato binário compacto e versionado dos arquivos de avaliações
+ * (snapshot e journal), no lugar da serialização Java.
+ *
+ * Um arquivo é um cabeçalho ({@code "AGAV"} + versão) seguido de quadros.
+ * Cada quadro é o tamanho (varint) e os registros de uma avaliação:
+ * primeiro as definições das entidades que ainda não apareceram no arquivo
+ * (disciplina, professor, estudante, aula) e por último a própria avaliação.
+ * Cada entidade é escrita uma única vez por arquivo; depois disso é citada
+ * pela sua posição na tabela daquele tipo. Disciplinas são um dicionário do
+ * mesmo jeito.
+ *
+ * Inteiros usam varint (7 bits por byte), datas são minutos desde a época
+ * (com os nanossegundos dentro do minuto, quando houver; até a versão 2
+ * eram milissegundos, e o que passava disso se perdia) e IDs de avaliação
+ * no formato UUID ocupam 16 bytes. O status da aula é gravado como um
+ * código fixo por constante, independente da ordem do enum. Dos usuários são gravados só ID, nome,
+ * email, (professor) disciplinas e, desde a versão 2, o hash da foto no
+ * {@link ArmazemFotos}: senha e bytes da foto ficam de fora.
+ *
+ * O estado das tabelas pertence ao arquivo: o {@link Escritor} e o
+ * {@link Leitor} de um mesmo arquivo precisam ver os quadros na mesma ordem.
+ * Uma entidade alterada depois de definida continua com os dados da
+ * definição até o próximo snapshot.
+ *
+ * @author MATHEUS PEREIRA RODRIGUES
+ * @version 1.2
+ * @since 2026-10-18
+ */
+public final class CodecAvaliacoes {
+
+    /** "AGAV" em ASCII. */
+    static final int MAGICA = 0x41474156;
+    static final int VERSAO = 3;
+
+    // Tipos de registro
+    private static final int DISCIPLINA = 1;
+    private static final int PROFESSOR = 2;
+    private static final int ESTUDANTE = 3;
+    private static final int AULA = 4;
+    private static final int AVALIACAO = 5;
+
+    private CodecAvaliacoes() {
+    }
+
+    /**
+     * Escreve o cabeçalho do formato.
+     */
+    public static void escreverCabecalho(OutputStream saida) throws IOException {
+        saida.write(new byte[] { 'A', 'G', 'A', 'V', (byte) VERSAO });
+    }
+
+    /**
+     * Lê e confere o cabeçalho.
+     *
+     * @return A versão do arquivo (a ser passada ao {@link Leitor}).
+     * @throws IOException se o arquivo não estiver neste formato ou for de
+     *                     uma versão mais nova.
+     */
+    public static int lerCabecalho(InputStream entrada) throws IOException {
+        byte[] cabecalho = entrada.readNBytes(5);
+        if (cabecalho.length < 5 || !temMagica(cabecalho)) {
+            throw new IOException("Arquivo de avaliações em formato desconhecido");
+        }
+        if (cabecalho[4] > VERSAO) {
+            throw new IOException("Versão do arquivo de avaliações não suportada: " + cabecalho[4]);
+        }
+        return cabecalho[4];
+    }
+
+    /**
+     * Indica se os primeiros bytes de um arquivo são deste formato.
+     */
+    static boolean temMagica(byte[] inicio) {
+        return inicio.length >= 4
+                && ((inicio[0] & 0xFF) << 24 | (inicio[1] & 0xFF) << 16 | (inicio[2] & 0xFF) << 8
+                        | (inicio[3] & 0xFF)) == MAGICA;
+    }
+
+    /**
+     * Escreve um quadro (tamanho + conteúdo).
+     */
+    public static void escreverQuadro(OutputStream saida, byte[] quadro) throws IOException {
+        Buffer tamanho = new Buffer(5);
+        tamanho.varint(quadro.length);
+        saida.write(tamanho.bytes, 0, tamanho.tamanho);
+        saida.write(quadro);
+    }
+
+    /**
+     * Lê o próximo quadro.
+     *
+     * @return O conteúdo do quadro, ou null no fim do arquivo.
+     * @throws EOFException se o último quadro estiver incompleto.
+     */
+    public static byte[] lerQuadro(InputStream entrada) throws IOException {
+        int tamanho = 0;
+        for (int deslocamento = 0;; deslocamento += 7) {
+            int b = entrada.read();
+            if (b < 0) {
+                if (deslocamento == 0) {
+                    return null;
+                }
+                throw new EOFException("Tamanho de quadro incompleto");
+            }
+            tamanho |= (b & 0x7F) << deslocamento;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        byte[] quadro = entrada.readNBytes(tamanho);
+        if (quadro.length < tamanho) {
+            throw new EOFException("Quadro incompleto");
+        }
+        return quadro;
+    }
+
+    /**
+     * Codifica avaliações, guardando as tabelas de entidades já escritas no
+     * arquivo.
+     */
+    public static final class Escritor {
+        private final Map<String, Integer> disciplinas = new HashMap<>();
+        private final Map<String, Integer> professores = new HashMap<>();
+        private final Map<String, Integer> estudantes = new HashMap<>();
+        private final Map<String, Integer> aulas = new HashMap<>();
+
+        /**
+         * Codifica uma avaliação em um quadro, incluindo as definições das
+         * entidades ainda não escritas.
+         */
+        public byte[] codificar(Avaliacao avaliacao) {
+            Buffer buffer = new Buffer(64);
+            int aula = referenciaAula(buffer, avaliacao.getAula());
+            int estudante = referenciaEstudante(buffer, avaliacao.getEstudante());
+
+            buffer.varint(AVALIACAO);
+            String id = avaliacao.getIdAvaliacao();
+            UUID uuid = comoUuid(id);
+            if (uuid != null) {
+                buffer.varint(1);
+                buffer.longFixo(uuid.getMostSignificantBits());
+                buffer.longFixo(uuid.getLeastSignificantBits());
+            } else {
+                buffer.varint(0);
+                buffer.texto(id);
+            }
+            buffer.varint(aula);
+            buffer.varint(estudante);
+            buffer.varint(avaliacao.getNota());
+            buffer.texto(avaliacao.getComentario());
+            buffer.dataHora(avaliacao.getDataAvaliacao());
+            return buffer.copia();
+        }
+
+        private int referenciaAula(Buffer buffer, Aula aula) {
+            Integer ref = aulas.get(aula.getIdAula());
+            if (ref != null) {
+                return ref;
+            }
+            int professor = referenciaProfessor(buffer, aula.getProfessor());
+            int estudante = aula.getEstudante() == null ? 0
+                    : referenciaEstudante(buffer, aula.getEstudante()) + 1;
+
+            buffer.varint(AULA);
+            buffer.texto(aula.getIdAula());
+            buffer.texto(aula.getTitulo());
+            buffer.texto(aula.getDescricao());
+            buffer.varint(professor);
+            buffer.varint(estudante);
+            buffer.dataHora(aula.getDataHora());
+            buffer.varint(aula.getDuracaoMinutos());
+            buffer.varint(codigoStatus(aula.getStatus()));
+            return novaReferencia(aulas, aula.getIdAula());
+        }
+
+        private int referenciaProfessor(Buffer buffer, Professor professor) {
+            Integer ref = professores.get(professor.getId());
+            if (ref != null) {
+                return ref;
+            }
+            List<String> nomes = professor.getDisciplinas() == null ? List.of() : professor.getDisciplinas();
+            int[] refs = new int[nomes.size()];
+            for (int i = 0; i < refs.length; i++) {
+                refs[i] = referenciaDisciplina(buffer, nomes.get(i));
+            }
+
+            buffer.varint(PROFESSOR);
+            buffer.texto(professor.getId());
+            buffer.texto(professor.getNome());
+            buffer.texto(professor.getEmail());
+            buffer.varint(refs.length);
+            for (int r : refs) {
+                buffer.varint(r);
+            }
+            buffer.foto(professor.getHashFoto(), professor.getTipoImagem());
+            return novaReferencia(professores, professor.getId());
+        }
+
+        private int referenciaEstudante(Buffer buffer, Estudante estudante) {
+            Integer ref = estudantes.get(estudante.getId());
+            if (ref != null) {
+                return ref;
+            }
+            buffer.varint(ESTUDANTE);
+            buffer.texto(estudante.getId());
+            buffer.texto(estudante.getNome());
+            buffer.texto(estudante.getEmail());
+            buffer.foto(estudante.getHashFoto(), estudante.getTipoImagem());
+            return novaReferencia(estudantes, estudante.getId());
+        }
+
+        private int referenciaDisciplina(Buffer buffer, String disciplina) {
+            Integer ref = disciplinas.get(disciplina);
+            if (ref != null) {
+                return ref;
+            }
+            buffer.varint(DISCIPLINA);
+            buffer.texto(disciplina);
+            return novaReferencia(disciplinas, disciplina);
+        }
+
+        private static int novaReferencia(Map<String, Integer> tabela, String chave) {
+            int ref = tabela.size();
+            tabela.put(chave, ref);
+            return ref;
+        }
+    }
+
+    /**
+     * Decodifica os quadros de um arquivo, reconstruindo as tabelas de
+     * entidades na mesma ordem em que foram escritas.
+     */
+    public static final class Leitor {
+        private final int versao;
+        private final List<String> disciplinas = new ArrayList<>();
+        private final List<Professor> professores = new ArrayList<>();
+        private final List<Estudante> estudantes = new ArrayList<>();
+        private final List<Aula> aulas = new ArrayList<>();
+
+        /**
+         * Cria um leitor para arquivos da versão atual.
+         */
+        public Leitor() {
+            this(VERSAO);
+        }
+
+        /**
+         * Cria um leitor para arquivos da versão informada.
+         *
+         * @param versao A versão lida do cabeçalho.
+         */
+        public Leitor(int versao) {
+            this.versao = versao;
+        }
+
+        /**
+         * Decodifica um quadro.
+         *
+         * @return A avaliação do quadro.
+         * @throws IOException se o quadro estiver corrompido.
+         */
+        public Avaliacao decodificar(byte[] quadro) throws IOException {
+            Buffer buffer = new Buffer(quadro);
+            try {
+                while (buffer.temMais()) {
+                    int tipo = buffer.lerVarint();
+                    switch (tipo) {
+                        case DISCIPLINA -> disciplinas.add(buffer.lerTexto());
+                        case PROFESSOR -> professores.add(lerProfessor(buffer));
+                        case ESTUDANTE -> estudantes.add(lerEstudante(buffer));
+                        case AULA -> aulas.add(lerAula(buffer));
+                        case AVALIACAO -> {
+                            return lerAvaliacao(buffer);
+                        }
+                        default -> throw new IOException("Tipo de registro desconhecido: " + tipo);
+                    }
+                }
+            } catch (IndexOutOfBoundsException e) {
+                throw new IOException("Quadro de avaliação corrompido", e);
+            }
+            throw new IOException("Quadro sem avaliação");
+        }
+
+        /**
+         * Cria um escritor que continua este arquivo (para anexar quadros a
+         * um journal recém-lido), com as mesmas tabelas de referências.
+         */
+        public Escritor continuar() {
+            Escritor escritor = new Escritor();
+            for (String disciplina : disciplinas) {
+                Escritor.novaReferencia(escritor.disciplinas, disciplina);
+            }
+            for (Professor professor : professores) {
+                Escritor.novaReferencia(escritor.professores, professor.getId());
+            }
+            for (Estudante estudante : estudantes) {
+                Escritor.novaReferencia(escritor.estudantes, estudante.getId());
+            }
+            for (Aula aula : aulas) {
+                Escritor.novaReferencia(escritor.aulas, aula.getIdAula());
+            }
+            return escritor;
+        }
+
+        private Professor lerProfessor(Buffer buffer) {
+            Professor professor = new Professor(buffer.lerTexto(), buffer.lerTexto(), buffer.lerTexto(), null);
+            int quantidade = buffer.lerVarint();
+            for (int i = 0; i < quantidade; i++) {
+                professor.adicionarDisciplina(disciplinas.get(buffer.lerVarint()));
+            }
+            if (versao >= 2 && buffer.lerVarint() == 1) {
+                professor.setHashFoto(buffer.lerHash());
+                professor.setTipoImagem(buffer.lerTexto());
+            }
+            return professor;
+        }
+
+        private Estudante lerEstudante(Buffer buffer) {
+            Estudante estudante = new Estudante(buffer.lerTexto(), buffer.lerTexto(), buffer.lerTexto(), null);
+            if (versao >= 2 && buffer.lerVarint() == 1) {
+                estudante.setHashFoto(buffer.lerHash());
+                estudante.setTipoImagem(buffer.lerTexto());
+            }
+            return estudante;
+        }
+
+        private Aula lerAula(Buffer buffer) throws IOException {
+            String id = buffer.lerTexto();
+            String titulo = buffer.lerTexto();
+            String descricao = buffer.lerTexto();
+            Professor professor = professores.get(buffer.lerVarint());
+            int estudante = buffer.lerVarint();
+            LocalDateTime dataHora = buffer.lerDataHora(versao);
+            int duracao = buffer.lerVarint();
+            Aula aula = new Aula(id, titulo, descricao, professor,
+                    estudante == 0 ? null : estudantes.get(estudante - 1), dataHora, duracao);
+            aula.setStatus(statusDoCodigo(buffer.lerVarint()));
+            return aula;
+        }
+
+        private Avaliacao lerAvaliacao(Buffer buffer) {
+            String id = buffer.lerVarint() == 1
+                    ? new UUID(buffer.lerLongFixo(), buffer.lerLongFixo()).toString()
+                    : buffer.lerTexto();
+            Aula aula = aulas.get(buffer.lerVarint());
+            Estudante estudante = estudantes.get(buffer.lerVarint());
+            int nota = buffer.lerVarint();
+            String comentario = buffer.lerTexto();
+            return new Avaliacao(id, estudante, aula, nota, comentario, buffer.lerDataHora(versao));
+        }
+    }
+
+    /**
+     * Código gravado para cada status. Os valores coincidem com a ordem do
+     * enum nas versões 1 e 2, que gravavam o ordinal; não devem mudar.
+     */
+    private static int codigoStatus(StatusAula status) {
+        return switch (status) {
+            case AGENDADA -> 0;
+            case CONCLUIDA -> 1;
+            case CANCELADA_ALUNO -> 2;
+            case CANCELADA_PROFESSOR -> 3;
+        };
+    }
+
+    private static StatusAula statusDoCodigo(int codigo) throws IOException {
+        return switch (codigo) {
+            case 0 -> StatusAula.AGENDADA;
+            case 1 -> StatusAula.CONCLUIDA;
+            case 2 -> StatusAula.CANCELADA_ALUNO;
+            case 3 -> StatusAula.CANCELADA_PROFESSOR;
+            default -> throw new IOException("Status de aula desconhecido: " + codigo);
+        };
+    }
+
+    /**
+     * Retorna o UUID equivalente ao texto, se ele estiver na forma canônica
+     * (só assim a conversão de volta devolve o mesmo texto).
+     */
+    private static UUID comoUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Buffer de bytes com as primitivas do formato (escrita e leitura).
+     */
+    private static final class Buffer {
+        private byte[] bytes;
+        private int tamanho; // escrita: bytes usados; leitura: fim dos dados
+        private int posicao; // leitura
+
+        Buffer(int capacidade) {
+            this.bytes = new byte[capacidade];
+        }
+
+        Buffer(byte[] dados) {
+            this.bytes = dados;
+            this.tamanho = dados.length;
+        }
+
+        byte[] copia() {
+            return Arrays.copyOf(bytes, tamanho);
+        }
+
+        boolean temMais() {
+            return posicao < tamanho;
+        }
+
+        private void garantir(int extra) {
+            if (tamanho + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, tamanho + extra));
+            }
+        }
+
+        // --- Escrita ---
+
+        void varint(long valor) {
+            garantir(10);
+            while ((valor & ~0x7FL) != 0) {
+                bytes[tamanho++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            bytes[tamanho++] = (byte) valor;
+        }
+
+        void longFixo(long valor) {
+            garantir(8);
+            for (int i = 56; i >= 0; i -= 8) {
+                bytes[tamanho++] = (byte) (valor >>> i);
+            }
+        }
+
+        /** Texto UTF-8 com o tamanho + 1 na frente; 0 representa null. */
+        void texto(String texto) {
+            if (texto == null) {
+                varint(0);
+                return;
+            }
+            byte[] utf8 = texto.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length + 1L);
+            garantir(utf8.length);
+            System.arraycopy(utf8, 0, bytes, tamanho, utf8.length);
+            tamanho += utf8.length;
+        }
+
+        /**
+         * Foto como referência ao {@link ArmazemFotos}: 0 sem foto, ou 1 + os
+         * 32 bytes do hash SHA-256 + o tipo da imagem.
+         */
+        void foto(String hash, String tipoImagem) {
+            if (hash == null) {
+                varint(0);
+                return;
+            }
+            varint(1);
+            byte[] bytesHash = HexFormat.of().parseHex(hash);
+            garantir(bytesHash.length);
+            System.arraycopy(bytesHash, 0, bytes, tamanho, bytesHash.length);
+            tamanho += bytesHash.length;
+            texto(tipoImagem);
+        }
+
+        /**
+         * Data como minutos desde a época (zigue-zague, para aceitar datas
+         * anteriores a 1970), com um bit indicando se seguem os nanossegundos
+         * dentro do minuto. O valor 0 representa null.
+         */
+        void dataHora(LocalDateTime dataHora) {
+            if (dataHora == null) {
+                varint(0);
+                return;
+            }
+            long segundos = dataHora.toEpochSecond(ZoneOffset.UTC);
+            long minutos = Math.floorDiv(segundos, 60);
+            long resto = Math.floorMod(segundos, 60) * 1_000_000_000L + dataHora.getNano();
+            long zigueZague = (minutos << 1) ^ (minutos >> 63);
+            varint(((zigueZague << 1) | (resto != 0 ? 1 : 0)) + 1);
+            if (resto != 0) {
+                varint(resto);
+            }
+        }
+
+        // --- Leitura ---
+
+        long lerVarlong() {
+            long valor = 0;
+            for (int deslocamento = 0;; deslocamento += 7) {
+                if (posicao >= tamanho) {
+                    throw new IndexOutOfBoundsException("Fim inesperado do quadro");
+                }
+                byte b = bytes[posicao++];
+                valor |= (long) (b & 0x7F) << deslocamento;
+                if ((b & 0x80) == 0) {
+                    return valor;
+                }
+            }
+        }
+
+        int lerVarint() {
+            return (int) lerVarlong();
+        }
+
+        long lerLongFixo() {
+            if (posicao + 8 > tamanho) {
+                throw new IndexOutOfBoundsException("Fim inesperado do quadro");
+            }
+            long valor = 0;
+            for (int i = 0; i < 8; i++) {
+                valor = (valor << 8) | (bytes[posicao++] & 0xFF);
+            }
+            return valor;
+        }
+
+        String lerTexto() {
+            int tamanhoTexto = lerVarint();
+            if (tamanhoTexto == 0) {
+                return null;
+            }
+            tamanhoTexto--;
+            if (posicao + tamanhoTexto > tamanho) {
+                throw new IndexOutOfBoundsException("Fim inesperado do quadro");
+            }
+            String texto = new String(bytes, posicao, tamanhoTexto, StandardCharsets.UTF_8);
+            posicao += tamanhoTexto;
+            return texto;
+        }
+
+        String lerHash() {
+            if (posicao + 32 > tamanho) {
+                throw new IndexOutOfBoundsException("Fim inesperado do quadro");
+            }
+            String hash = HexFormat.of().formatHex(bytes, posicao, posicao + 32);
+            posicao += 32;
+            return hash;
+        }
+
+        /**
+         * Lê uma data; até a versão 2 o resto do minuto era em milissegundos.
+         */
+        LocalDateTime lerDataHora(int versao) {
+            long valor = lerVarlong();
+            if (valor == 0) {
+                return null;
+            }
+            valor--;
+            boolean temResto = (valor & 1) != 0;
+            long zigueZague = valor >>> 1;
+            long minutos = (zigueZague >>> 1) ^ -(zigueZague & 1);
+            LocalDateTime dataHora = LocalDateTime.ofEpochSecond(minutos * 60, 0, ZoneOffset.UTC);
+            if (!temResto) {
+                return dataHora;
+            }
+            return dataHora.plusNanos(versao >= 3 ? lerVarlong() : lerVarlong() * 1_000_000L);
+        }
+    }
+}
@@ -4,8 +4,8 @@ import com.agendastudy.model.SlotDisponivel;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.ArrayList;
 
 /**
@@ -14,28 +14,77 @@ import java.util.ArrayList;
  * Simula um banco de dados em memória, garantindo segurança para operações
  * multi-thread.
  *
+ * Cada professor tem sua própria agenda de slots, ordenada pelo início.
+ * Na inserção, slots que se sobrepõem ou se encostam são unidos em um só,
+ * então a agenda nunca tem intervalos sobrepostos: uma consulta por período
+ * custa O(log n + k). Slots que já terminaram são descartados, para que o
+ * custo das consultas não cresça com o histórico.
+ *
  * @author Paulo Vitor Dias Soares
- * @version 1.0
+ * @version 1.1
  * @since 2025-11-29
  */
 public class DisponibilidadeDAO {
 
-    // Armazena os slots de tempo que o professor marcou como disponível.
-    // Usamos ConcurrentHashMap para ser seguro em ambientes multi-thread.
-    private static final Map<String, SlotDisponivel> slots = new ConcurrentHashMap<>();
-    private static int proximoId = 1;
+    // Slots de cada professor, indexados pelo horário de início.
+    // Usamos estruturas concorrentes para ser seguro em ambientes multi-thread.
+    private static final Map<String, ConcurrentSkipListMap<LocalDateTime, SlotDisponivel>> slotsPorProfessor = new ConcurrentHashMap<>();
 
     /**
      * Salva um novo SlotDisponivel na simulação de banco de dados.
-     * 
+     * Se o slot se sobrepuser ou encostar em slots já cadastrados do mesmo
+     * professor, todos são unidos em um único slot.
+     *
      * @param slot O objeto SlotDisponivel a ser salvo.
-     * @return O slot salvo (com ID implícito).
+     * @return O slot efetivamente armazenado (pode ser maior que o informado,
+     *         se houve união).
      */
     public SlotDisponivel salvarSlot(SlotDisponivel slot) {
-        String id = "SLOT_" + proximoId++;
-        // Na prática, você salvaria isso no banco. Aqui, usamos o Map.
-        slots.put(id, slot);
-        return slot;
+        ConcurrentSkipListMap<LocalDateTime, SlotDisponivel> agenda = slotsPorProfessor
+                .computeIfAbsent(slot.getProfessorId(), id -> new ConcurrentSkipListMap<>());
+
+        SlotDisponivel armazenado;
+        synchronized (agenda) {
+            descartarPassados(agenda, LocalDateTime.now());
+
+            LocalDateTime inicio = slot.getInicio();
+            LocalDateTime fim = slot.getFim();
+            List<LocalDateTime> unidos = new ArrayList<>();
+
+            // Slot anterior que alcança o novo (no máximo um, já que não há sobreposição)
+            Map.Entry<LocalDateTime, SlotDisponivel> anterior = agenda.floorEntry(inicio);
+            if (anterior != null && !anterior.getValue().getFim().isBefore(inicio)) {
+                inicio = anterior.getKey();
+                if (anterior.getValue().getFim().isAfter(fim)) {
+                    fim = anterior.getValue().getFim();
+                }
+                unidos.add(anterior.getKey());
+            }
+
+            // Slots que começam dentro do novo intervalo (ou exatamente no seu fim)
+            Map.Entry<LocalDateTime, SlotDisponivel> seguinte = agenda.higherEntry(slot.getInicio());
+            while (seguinte != null && !seguinte.getKey().isAfter(fim)) {
+                if (seguinte.getValue().getFim().isAfter(fim)) {
+                    fim = seguinte.getValue().getFim();
+                }
+                unidos.add(seguinte.getKey());
+                seguinte = agenda.higherEntry(seguinte.getKey());
+            }
+
+            armazenado = unidos.isEmpty() ? slot : new SlotDisponivel(slot.getProfessorId(), inicio, fim);
+
+            // Insere o slot unido antes de remover as partes, para que leituras
+            // concorrentes nunca deixem de ver o intervalo
+            agenda.put(inicio, armazenado);
+            for (LocalDateTime chave : unidos) {
+                if (!chave.equals(inicio)) {
+                    agenda.remove(chave);
+                }
+            }
+        }
+
+        RegistroAlteracoes.registrarProfessor(slot.getProfessorId());
+        return armazenado;
     }
 
     /**
@@ -44,31 +93,49 @@ public class DisponibilidadeDAO {
      * Este é o método CRUCIAL usado pelo ServicoAgendamento para sugerir horários.
      * * @param professorId O ID do professor cuja disponibilidade está sendo
      * consultada.
-     * 
+     *
      * @param inicio O início da janela de busca.
      * @param fim    O fim da janela de busca.
-     * @return Lista de SlotsDisponiveis que se sobrepõem ao período.
+     * @return Lista de SlotsDisponiveis que se sobrepõem ao período, em ordem
+     *         de início.
      */
     public List<SlotDisponivel> findDisponibilidade(String professorId, LocalDateTime inicio, LocalDateTime fim) {
+        List<SlotDisponivel> resultado = new ArrayList<>();
         // Se a busca for ampla, pode-se retornar uma lista vazia se o ID for nulo
         if (professorId == null) {
-            return new ArrayList<>();
+            return resultado;
         }
+        ConcurrentSkipListMap<LocalDateTime, SlotDisponivel> agenda = slotsPorProfessor.get(professorId);
+        if (agenda == null || !inicio.isBefore(fim)) {
+            return resultado;
+        }
+
+        descartarPassados(agenda, LocalDateTime.now());
+
+        // Checa se o slot de disponibilidade se sobrepõe ao período de busca:
+        // (Início do Slot < Fim da Busca) E (Fim do Slot > Início da Busca)
+        Map.Entry<LocalDateTime, SlotDisponivel> anterior = agenda.lowerEntry(inicio);
+        if (anterior != null && anterior.getValue().getFim().isAfter(inicio)) {
+            resultado.add(anterior.getValue());
+        }
+        resultado.addAll(agenda.subMap(inicio, true, fim, false).values());
+        return resultado;
+    }
 
-        return slots.values().stream()
-                .filter(slot ->
-                // 1. Filtra pelo professor
-                slot.getProfessorId().equals(professorId) &&
-                // 2. Checa se o slot de disponibilidade se sobrepõe ao período de busca:
-                // (Início do Slot < Fim da Busca) E (Fim do Slot > Início da Busca)
-                        slot.getInicio().isBefore(fim) &&
-                        slot.getFim().isAfter(inicio))
-                .collect(Collectors.toList());
+    /**
+     * Remove do começo da agenda os slots que já terminaram. Como os slots
+     * não se sobrepõem, os que terminaram formam um prefixo da agenda.
+     */
+    private static void descartarPassados(ConcurrentSkipListMap<LocalDateTime, SlotDisponivel> agenda,
+            LocalDateTime agora) {
+        Map.Entry<LocalDateTime, SlotDisponivel> primeiro;
+        while ((primeiro = agenda.firstEntry()) != null && !primeiro.getValue().getFim().isAfter(agora)) {
+            agenda.remove(primeiro.getKey(), primeiro.getValue());
+        }
     }
 
     // Método auxiliar, útil para testes e para limpar o 'banco' em memória
     public static void clear() {
-        slots.clear();
-        proximoId = 1;
+        slotsPorProfessor.clear();
     }
-}
\ No newline at end of file
+}
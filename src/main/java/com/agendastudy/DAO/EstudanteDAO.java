@@ -5,7 +5,7 @@ import com.agendastudy.model.Aula;
 import com.agendastudy.service.ServicoAgendamento; // Import do serviço
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 import com.agendastudy.model.StatusAula;
 
 /**
@@ -14,7 +14,7 @@ import com.agendastudy.model.StatusAula;
  * Delega a lógica de negócio complexa para os serviços apropriados.
  *
  * @author VINICIUS ALVES RIBEIRO SILVA
- * @version 1.0
+ * @version 1.2
  * @since 2025-11-11
  */
 public class EstudanteDAO extends UsuarioDAO {
@@ -54,6 +54,18 @@ public class EstudanteDAO extends UsuarioDAO {
         this.aulaDAO = new AulaDAO();
     }
 
+    /**
+     * Construtor com os dois DAOs fornecidos externamente (ex: pelo
+     * {@link com.agendastudy.service.ContextoAplicacao}).
+     *
+     * @param avaliacao A instância de AvaliacaoDAO a ser utilizada.
+     * @param aulaDAO   A instância de AulaDAO a ser utilizada.
+     */
+    public EstudanteDAO(AvaliacaoDAO avaliacao, AulaDAO aulaDAO) {
+        this.avaliacao = avaliacao;
+        this.aulaDAO = aulaDAO;
+    }
+
     /**
      * Método de ação para o estudante agendar uma aula (confirmar a reserva).
      * Delega a lógica para o ServicoAgendamento.
@@ -131,32 +143,43 @@ public class EstudanteDAO extends UsuarioDAO {
      * @return true se a aula foi avaliada, false caso contrário.
      */
     public boolean jaAvaliouAula(Estudante estudante, Aula aula) {
-        return avaliacao.getAvaliacaoPorEstudante(estudante).stream()
-                .anyMatch(a -> a.getAula().getIdAula().equals(aula.getIdAula()));
+        return avaliacao.jaAvaliou(estudante, aula);
+    }
+
+    /**
+     * Retorna as aulas concluídas do estudante que ele ainda não avaliou:
+     * as concluídas menos o conjunto de aulas já avaliadas.
+     *
+     * @param estudante O estudante.
+     * @return Lista de aulas pendentes de avaliação, ordenada por data e hora.
+     */
+    public List<Aula> getAulasAAvaliar(Estudante estudante) {
+        Set<String> avaliadas = avaliacao.getAulasAvaliadas(estudante);
+        List<Aula> pendentes = getAulasConcluidas(estudante);
+        pendentes.removeIf(a -> avaliadas.contains(a.getIdAula()));
+        return pendentes;
     }
 
     /**
      * Retorna todas as aulas concluídas por um determinado estudante.
+     * Percorre só a agenda do estudante (índice do AulaDAO).
      *
      * @param estudante O estudante cujas aulas concluídas serão retornadas.
-     * @return Lista de aulas com status CONCLUIDA.
+     * @return Lista de aulas com status CONCLUIDA, ordenada por data e hora.
      */
     public List<Aula> getAulasConcluidas(Estudante estudante) {
-        return aulaDAO.buscarTodasAulas().stream()
-                .filter(a -> estudante.equals(a.getEstudante()) && a.getStatus() == StatusAula.CONCLUIDA)
-                .collect(Collectors.toList());
+        return aulaDAO.buscarAulasDoEstudante(estudante, StatusAula.CONCLUIDA);
     }
 
     /**
      * Retorna todas as aulas agendadas por um determinado estudante.
+     * Percorre só a agenda do estudante (índice do AulaDAO).
      *
      * @param estudante O estudante cujas aulas agendadas serão retornadas.
-     * @return Lista de aulas com status AGENDADA.
+     * @return Lista de aulas com status AGENDADA, ordenada por data e hora.
      */
     public List<Aula> getAulasAgendadas(Estudante estudante) {
-        return aulaDAO.buscarTodasAulas().stream()
-                .filter(a -> estudante.equals(a.getEstudante()) && a.getStatus() == StatusAula.AGENDADA)
-                .collect(Collectors.toList());
+        return aulaDAO.buscarAulasDoEstudante(estudante, StatusAula.AGENDADA);
     }
 
 }
@@ -0,0 +1,44 @@
+package com.agendastudy.DAO;
+
+/**
+ * Estratégia de geração de IDs usada pelos DAOs.
+ *
+ * A implementação padrão é {@link GeradorIdsTemporal}; os DAOs aceitam outra
+ * (ex: uma sequência do banco) pelos seus métodos {@code setGeradorIds}.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface GeradorIds {
+
+    /**
+     * Gera um novo ID numérico, único entre todas as threads.
+     *
+     * @return Um ID positivo.
+     */
+    long proximo();
+
+    /**
+     * Gera um novo ID textual com o prefixo informado (ex: "AULA_").
+     *
+     * @param prefixo O prefixo do tipo de entidade.
+     * @return O prefixo seguido do ID em hexadecimal.
+     */
+    default String proximo(String prefixo) {
+        return prefixo + paraTexto(proximo());
+    }
+
+    /**
+     * Converte o ID para 16 dígitos hexadecimais, completando com zeros à
+     * esquerda. Com largura fixa, a ordem alfabética dos textos é a mesma
+     * ordem numérica dos IDs.
+     *
+     * @param id O ID numérico (não negativo).
+     * @return O texto de 16 caracteres.
+     */
+    static String paraTexto(long id) {
+        String hex = Long.toHexString(id);
+        return "0000000000000000".substring(hex.length()) + hex;
+    }
+}
@@ -0,0 +1,152 @@
+package com.agendastudy.DAO;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de IDs de 64 bits ordenados pelo tempo, no formato:
+ *
+ * <pre>
+ *  0 | 41 bits: ms desde 2025-01-01 | 10 bits: nó | 12 bits: sequência
+ * </pre>
+ *
+ * O nó identifica a instância da aplicação: JVMs com nós diferentes podem
+ * gerar IDs ao mesmo tempo sem colisão. Ele vem da propriedade de sistema
+ * {@code agendastudy.no} (0 a 1023). Sem ela, é derivado do host e do PID,
+ * o que basta para uma instância só, mas duas instâncias podem cair no mesmo
+ * nó (são só 10 bits): com mais de uma instância, cada uma deve receber o
+ * seu {@code agendastudy.no}, distinto dos demais.
+ *
+ * Cada thread reserva um bloco de {@value #TAMANHO_BLOCO} valores
+ * (instante + sequência) com um único compareAndSet e gera os IDs seguintes
+ * localmente, sem nenhuma disputa. O bloco é descartado quando o relógio
+ * passa do seu milissegundo, para que os IDs continuem acompanhando o tempo.
+ * Se a sequência de um milissegundo se esgota, o gerador avança para o
+ * milissegundo seguinte; se o relógio do sistema volta atrás, ele segue a
+ * partir do último valor reservado. Os IDs de um nó são, portanto, únicos e
+ * crescentes por thread, e entre threads ficam ordenados até a granularidade
+ * de um bloco.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public final class GeradorIdsTemporal implements GeradorIds {
+
+    /** Época própria (2025-01-01T00:00:00Z), em milissegundos. */
+    static final long EPOCA = 1_735_689_600_000L;
+
+    static final int BITS_NO = 10;
+    static final int BITS_SEQUENCIA = 12;
+    static final int MAXIMO_NO = (1 << BITS_NO) - 1;
+
+    private static final long MASCARA_SEQUENCIA = (1L << BITS_SEQUENCIA) - 1;
+    private static final int TAMANHO_BLOCO = 64;
+
+    private static final GeradorIdsTemporal instancia = new GeradorIdsTemporal(noPadrao(),
+            System::currentTimeMillis);
+
+    private final long no;
+    private final LongSupplier relogio;
+
+    // Próximo valor livre, no formato (ms desde a época << BITS_SEQUENCIA) | sequência
+    private final AtomicLong cursor = new AtomicLong();
+
+    // Bloco reservado por cada thread: {próximo valor, limite exclusivo}
+    private final ThreadLocal<long[]> blocos = ThreadLocal.withInitial(() -> new long[2]);
+
+    /**
+     * Construtor usado pela instância padrão e pelos testes.
+     *
+     * @param no      Identificador do nó (0 a {@value #MAXIMO_NO}).
+     * @param relogio Fonte do tempo atual, em milissegundos desde 1970.
+     * @throws IllegalArgumentException se o nó estiver fora da faixa.
+     */
+    GeradorIdsTemporal(int no, LongSupplier relogio) {
+        if (no < 0 || no > MAXIMO_NO) {
+            throw new IllegalArgumentException("O nó deve estar entre 0 e " + MAXIMO_NO + ": " + no);
+        }
+        this.no = no;
+        this.relogio = relogio;
+    }
+
+    public static GeradorIdsTemporal getInstancia() {
+        return instancia;
+    }
+
+    @Override
+    public long proximo() {
+        long[] bloco = blocos.get();
+        long agora = relogio.getAsLong() - EPOCA;
+        if (bloco[0] == bloco[1] || (bloco[0] >>> BITS_SEQUENCIA) < agora) {
+            bloco[0] = reservarBloco(agora);
+            bloco[1] = bloco[0] + TAMANHO_BLOCO;
+        }
+        long valor = bloco[0]++;
+        return ((valor >>> BITS_SEQUENCIA) << (BITS_NO + BITS_SEQUENCIA))
+                | (no << BITS_SEQUENCIA)
+                | (valor & MASCARA_SEQUENCIA);
+    }
+
+    /**
+     * Reserva o próximo bloco livre, começando no milissegundo atual se o
+     * cursor estiver atrasado em relação ao relógio.
+     */
+    private long reservarBloco(long agora) {
+        long inicioDoMilissegundo = agora << BITS_SEQUENCIA;
+        while (true) {
+            long atual = cursor.get();
+            long inicio = Math.max(atual, inicioDoMilissegundo);
+            if (cursor.compareAndSet(atual, inicio + TAMANHO_BLOCO)) {
+                return inicio;
+            }
+        }
+    }
+
+    /**
+     * Retorna o instante (ms desde 1970) embutido em um ID.
+     */
+    public static long getInstante(long id) {
+        return (id >>> (BITS_NO + BITS_SEQUENCIA)) + EPOCA;
+    }
+
+    /**
+     * Retorna o nó que gerou o ID.
+     */
+    public static int getNo(long id) {
+        return (int) ((id >>> BITS_SEQUENCIA) & MAXIMO_NO);
+    }
+
+    /**
+     * Nó da instância padrão: propriedade {@code agendastudy.no} ou, na falta
+     * dela, um valor derivado do host e do PID.
+     */
+    private static int noPadrao() {
+        String configurado = System.getProperty("agendastudy.no");
+        if (configurado != null) {
+            return lerNo(configurado);
+        }
+        String host = System.getenv().getOrDefault("HOSTNAME", System.getenv().getOrDefault("COMPUTERNAME", ""));
+        int h = (host + "/" + ProcessHandle.current().pid()).hashCode();
+        return (h ^ (h >>> 16)) & MAXIMO_NO;
+    }
+
+    /**
+     * Converte o valor da propriedade {@code agendastudy.no}.
+     *
+     * @throws IllegalStateException se o valor não for um inteiro entre 0 e
+     *                               {@value #MAXIMO_NO}.
+     */
+    static int lerNo(String valor) {
+        try {
+            int no = Integer.parseInt(valor.trim());
+            if (no >= 0 && no <= MAXIMO_NO) {
+                return no;
+            }
+        } catch (NumberFormatException e) {
+            // Mesma mensagem do valor fora da faixa
+        }
+        throw new IllegalStateException("Propriedade agendastudy.no inválida: \"" + valor
+                + "\" (use um inteiro de 0 a " + MAXIMO_NO + ", distinto em cada instância)");
+    }
+}
@@ -0,0 +1,181 @@
+package com.agendastudy.DAO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice invertido de disciplinas: para cada disciplina normalizada
+ * (sem espaços nas pontas e em minúsculas), guarda o conjunto de IDs dos
+ * professores que a lecionam.
+ *
+ * O índice guarda também as disciplinas de cada professor no momento em que
+ * foi salvo, para remover apenas as entradas que mudaram quando o perfil é
+ * atualizado. Quem consulta deve conferir os IDs contra o estado atual do
+ * usuário, já que o objeto pode ter sido alterado sem ser salvo novamente.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IndiceDisciplinas {
+
+    private final Map<String, Set<String>> professoresPorDisciplina = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> disciplinasPorProfessor = new ConcurrentHashMap<>();
+
+    // Primeira grafia vista de cada disciplina, usada na exibição das facetas
+    private final Map<String, String> nomesExibicao = new ConcurrentHashMap<>();
+
+    /**
+     * Indexa (ou reindexa) as disciplinas de um professor.
+     *
+     * @param idProfessor O ID do professor.
+     * @param disciplinas As disciplinas atuais (pode ser nula).
+     */
+    synchronized void indexar(String idProfessor, Collection<String> disciplinas) {
+        Set<String> novas = new HashSet<>();
+        if (disciplinas != null) {
+            for (String disciplina : disciplinas) {
+                String chave = normalizar(disciplina);
+                if (chave != null) {
+                    novas.add(chave);
+                    nomesExibicao.putIfAbsent(chave, disciplina.trim());
+                }
+            }
+        }
+
+        Set<String> antigas = disciplinasPorProfessor.getOrDefault(idProfessor, Collections.emptySet());
+        for (String chave : antigas) {
+            if (!novas.contains(chave)) {
+                removerPostagem(chave, idProfessor);
+            }
+        }
+        for (String chave : novas) {
+            if (!antigas.contains(chave)) {
+                professoresPorDisciplina.computeIfAbsent(chave, d -> ConcurrentHashMap.newKeySet()).add(idProfessor);
+            }
+        }
+
+        if (novas.isEmpty()) {
+            disciplinasPorProfessor.remove(idProfessor);
+        } else {
+            disciplinasPorProfessor.put(idProfessor, novas);
+        }
+    }
+
+    /**
+     * Remove o professor de todas as listas do índice.
+     */
+    synchronized void remover(String idProfessor) {
+        indexar(idProfessor, null);
+    }
+
+    /**
+     * Retorna os IDs dos professores indexados em uma disciplina.
+     */
+    Set<String> buscar(String disciplina) {
+        String chave = normalizar(disciplina);
+        Set<String> ids = chave == null ? null : professoresPorDisciplina.get(chave);
+        return ids == null ? new HashSet<>() : new HashSet<>(ids);
+    }
+
+    /**
+     * Retorna os IDs dos professores indexados em pelo menos uma das
+     * disciplinas (união das listas).
+     */
+    Set<String> buscarUniao(Collection<String> disciplinas) {
+        Set<String> resultado = new LinkedHashSet<>();
+        for (String disciplina : disciplinas) {
+            String chave = normalizar(disciplina);
+            Set<String> ids = chave == null ? null : professoresPorDisciplina.get(chave);
+            if (ids != null) {
+                resultado.addAll(ids);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna os IDs dos professores indexados em todas as disciplinas
+     * (interseção das listas). Começa pela menor lista, para que o custo seja
+     * proporcional a ela.
+     */
+    Set<String> buscarIntersecao(Collection<String> disciplinas) {
+        List<Set<String>> listas = new ArrayList<>();
+        for (String disciplina : disciplinas) {
+            String chave = normalizar(disciplina);
+            if (chave == null) {
+                continue;
+            }
+            Set<String> ids = professoresPorDisciplina.get(chave);
+            if (ids == null || ids.isEmpty()) {
+                return new HashSet<>();
+            }
+            listas.add(ids);
+        }
+        if (listas.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        listas.sort(Comparator.comparingInt(Set::size));
+        Set<String> resultado = new LinkedHashSet<>(listas.get(0));
+        for (int i = 1; i < listas.size() && !resultado.isEmpty(); i++) {
+            resultado.retainAll(listas.get(i));
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna as disciplinas indexadas (chave normalizada) e seus IDs.
+     */
+    Map<String, Set<String>> getPostagens() {
+        return Collections.unmodifiableMap(professoresPorDisciplina);
+    }
+
+    /**
+     * Retorna a grafia de exibição de uma disciplina normalizada.
+     */
+    String getNomeExibicao(String chave) {
+        return nomesExibicao.getOrDefault(chave, chave);
+    }
+
+    /**
+     * Esvazia o índice (usado junto com a limpeza do DAO).
+     */
+    synchronized void limpar() {
+        professoresPorDisciplina.clear();
+        disciplinasPorProfessor.clear();
+        nomesExibicao.clear();
+    }
+
+    /**
+     * Normaliza o nome da disciplina (trim + minúsculas).
+     *
+     * @return A chave normalizada, ou null se for nula/vazia.
+     */
+    static String normalizar(String disciplina) {
+        if (disciplina == null) {
+            return null;
+        }
+        String normalizada = disciplina.trim().toLowerCase(Locale.ROOT);
+        return normalizada.isEmpty() ? null : normalizada;
+    }
+
+    private void removerPostagem(String chave, String idProfessor) {
+        Set<String> ids = professoresPorDisciplina.get(chave);
+        if (ids != null) {
+            ids.remove(idProfessor);
+            if (ids.isEmpty()) {
+                professoresPorDisciplina.remove(chave, ids);
+            }
+        }
+    }
+}
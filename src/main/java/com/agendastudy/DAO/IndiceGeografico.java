@@ -0,0 +1,233 @@
+package com.agendastudy.DAO;
+
+import com.agendastudy.model.Coordenadas;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice geográfico em grade: a superfície é dividida em células de
+ * {@value #GRAUS_POR_CELULA} grau de latitude por {@value #GRAUS_POR_CELULA}
+ * de longitude (cerca de 11 km no equador), e cada célula guarda os IDs dos
+ * professores localizados nela.
+ *
+ * A busca por proximidade percorre as células em anéis quadrados ao redor da
+ * origem. Os professores encontrados entram em uma fila de prioridade pela
+ * distância, e só saem dela quando nenhum ponto fora dos anéis já
+ * percorridos pode estar mais perto (limite inferior calculado pelas bordas
+ * da área percorrida). Assim, os resultados saem do mais próximo para o
+ * mais distante sob demanda: pedir os 10 mais próximos examina só as
+ * células vizinhas, e não todos os professores. Com um raio máximo, os anéis
+ * param quando o limite inferior passa do raio.
+ *
+ * Como no {@link IndiceDisciplinas}, o índice guarda as coordenadas do
+ * último salvamento; quem consulta deve conferir os IDs contra o estado
+ * atual do usuário.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IndiceGeografico {
+
+    static final double GRAUS_POR_CELULA = 0.1;
+    private static final int LINHAS = (int) Math.round(180 / GRAUS_POR_CELULA);
+    private static final int COLUNAS = (int) Math.round(360 / GRAUS_POR_CELULA);
+
+    /**
+     * Professor encontrado e sua distância até a origem da busca.
+     */
+    record Vizinho(String id, double distanciaKm) {
+    }
+
+    private final Map<Long, Set<String>> professoresPorCelula = new ConcurrentHashMap<>();
+    private final Map<String, Coordenadas> coordenadasPorProfessor = new ConcurrentHashMap<>();
+
+    /**
+     * Indexa (ou reindexa) a localização de um professor.
+     *
+     * @param idProfessor O ID do professor.
+     * @param coordenadas As coordenadas atuais (null: sem localização).
+     */
+    synchronized void indexar(String idProfessor, Coordenadas coordenadas) {
+        Coordenadas anteriores = coordenadas == null ? coordenadasPorProfessor.remove(idProfessor)
+                : coordenadasPorProfessor.put(idProfessor, coordenadas);
+        if (anteriores != null && (coordenadas == null || celula(anteriores) != celula(coordenadas))) {
+            Set<String> ids = professoresPorCelula.get(celula(anteriores));
+            if (ids != null) {
+                ids.remove(idProfessor);
+                if (ids.isEmpty()) {
+                    professoresPorCelula.remove(celula(anteriores), ids);
+                }
+            }
+        }
+        if (coordenadas != null) {
+            professoresPorCelula.computeIfAbsent(celula(coordenadas), c -> ConcurrentHashMap.newKeySet())
+                    .add(idProfessor);
+        }
+    }
+
+    /**
+     * Remove o professor do índice.
+     */
+    synchronized void remover(String idProfessor) {
+        indexar(idProfessor, null);
+    }
+
+    /**
+     * Percorre os professores do mais próximo para o mais distante.
+     *
+     * @param origem   O ponto de referência.
+     * @param raioMaxKm Distância máxima, inclusiva (infinito: sem limite).
+     * @return Iterador preguiçoso, em ordem crescente de distância.
+     */
+    Iterator<Vizinho> proximos(Coordenadas origem, double raioMaxKm) {
+        return new BuscaPorAneis(origem, raioMaxKm);
+    }
+
+    /**
+     * Esvazia o índice (usado junto com a limpeza do DAO).
+     */
+    synchronized void limpar() {
+        professoresPorCelula.clear();
+        coordenadasPorProfessor.clear();
+    }
+
+    private static int linha(double latitude) {
+        return Math.min(LINHAS - 1, (int) Math.floor((latitude + 90) / GRAUS_POR_CELULA));
+    }
+
+    private static int coluna(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / GRAUS_POR_CELULA), COLUNAS);
+    }
+
+    private static long celula(Coordenadas c) {
+        return chave(linha(c.getLatitude()), coluna(c.getLongitude()));
+    }
+
+    private static long chave(int linha, int coluna) {
+        return (long) linha * COLUNAS + Math.floorMod(coluna, COLUNAS);
+    }
+
+    /**
+     * Busca incremental por anéis de células ao redor da origem.
+     */
+    private final class BuscaPorAneis implements Iterator<Vizinho> {
+
+        private final Coordenadas origem;
+        private final double raioMaxKm;
+        private final int linhaOrigem;
+        private final int colunaOrigem;
+
+        private final PriorityQueue<Vizinho> fila = new PriorityQueue<>(
+                Comparator.comparingDouble(Vizinho::distanciaKm));
+        // IDs já examinados (na volta ao mundo, a mesma célula aparece em dois lados do anel)
+        private final Set<String> examinados = new HashSet<>();
+        private int anel;
+        // Nenhum ponto fora dos anéis percorridos está a menos desta distância
+        private double limiteExplorado = -1;
+
+        BuscaPorAneis(Coordenadas origem, double raioMaxKm) {
+            this.origem = origem;
+            this.raioMaxKm = raioMaxKm;
+            this.linhaOrigem = linha(origem.getLatitude());
+            this.colunaOrigem = coluna(origem.getLongitude());
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (fila.isEmpty() ? limiteExplorado < raioMaxKm : fila.peek().distanciaKm() > limiteExplorado) {
+                if (limiteExplorado == Double.POSITIVE_INFINITY) {
+                    break;
+                }
+                explorarAnel();
+            }
+            return !fila.isEmpty();
+        }
+
+        @Override
+        public Vizinho next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return fila.poll();
+        }
+
+        private void explorarAnel() {
+            int alcanceColunas = Math.min(anel, COLUNAS / 2);
+            for (int di = -anel; di <= anel; di++) {
+                int l = linhaOrigem + di;
+                if (l < 0 || l >= LINHAS) {
+                    continue;
+                }
+                if (Math.abs(di) == anel) {
+                    // Linhas de cima e de baixo do anel: todas as colunas
+                    for (int dj = -alcanceColunas; dj <= alcanceColunas; dj++) {
+                        examinar(chave(l, colunaOrigem + dj));
+                    }
+                } else if (anel <= COLUNAS / 2) {
+                    // Linhas do meio: só as duas colunas das bordas
+                    examinar(chave(l, colunaOrigem - anel));
+                    examinar(chave(l, colunaOrigem + anel));
+                }
+            }
+            limiteExplorado = limiteInferior(anel);
+            anel++;
+        }
+
+        private void examinar(long celula) {
+            Set<String> ids = professoresPorCelula.get(celula);
+            if (ids == null) {
+                return;
+            }
+            for (String id : ids) {
+                Coordenadas coordenadas = coordenadasPorProfessor.get(id);
+                if (coordenadas != null && examinados.add(id)) {
+                    double distancia = origem.distanciaKm(coordenadas);
+                    if (distancia <= raioMaxKm) {
+                        fila.add(new Vizinho(id, distancia));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Menor distância possível até um ponto fora dos anéis 0..a.
+         * Pela fórmula de haversine, a distância é pelo menos R·|Δlat| e pelo
+         * menos 2R·asin(cos(latMax)·sen(|Δlon|/2)), onde latMax é a maior
+         * latitude (em módulo) da faixa percorrida.
+         */
+        private double limiteInferior(int a) {
+            if (examinados.size() >= coordenadasPorProfessor.size()) {
+                return Double.POSITIVE_INFINITY; // Todos já foram examinados
+            }
+            double latitude = origem.getLatitude();
+            double latMin = (linhaOrigem - a) * GRAUS_POR_CELULA - 90;
+            double latMax = (linhaOrigem + a + 1) * GRAUS_POR_CELULA - 90;
+            double kmPorGrau = Math.toRadians(1) * Coordenadas.RAIO_TERRA_KM;
+
+            double limite = Double.POSITIVE_INFINITY;
+            if (latMax < 90) {
+                limite = Math.min(limite, (latMax - latitude) * kmPorGrau);
+            }
+            if (latMin > -90) {
+                limite = Math.min(limite, (latitude - latMin) * kmPorGrau);
+            }
+            if (a < COLUNAS / 2) {
+                double lonMin = (colunaOrigem - a) * GRAUS_POR_CELULA - 180;
+                double lonMax = (colunaOrigem + a + 1) * GRAUS_POR_CELULA - 180;
+                double deltaLon = Math.min(origem.getLongitude() - lonMin, lonMax - origem.getLongitude());
+                double latExtrema = Math.min(90, Math.max(Math.abs(latMin), Math.abs(latMax)));
+                double seno = Math.cos(Math.toRadians(latExtrema)) * Math.sin(Math.toRadians(deltaLon) / 2);
+                limite = Math.min(limite, 2 * Coordenadas.RAIO_TERRA_KM * Math.asin(Math.min(1, seno)));
+            }
+            return Math.max(0, limite);
+        }
+    }
+}
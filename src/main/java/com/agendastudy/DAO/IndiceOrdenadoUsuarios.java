@@ -0,0 +1,107 @@
+package com.agendastudy.DAO;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índices ordenados dos usuários, usados na paginação por cursor: um por
+ * ordem de criação e um por nome.
+ *
+ * A ordem de criação não depende do formato dos IDs (IDs antigos ou
+ * informados manualmente não seguem o tempo, e os do
+ * {@link GeradorIdsTemporal} só ficam ordenados entre threads até a
+ * granularidade de um bloco): na primeira vez que um ID é indexado ele
+ * recebe o próximo número de uma sequência crescente, e a chave é esse
+ * número seguido do ID. Como a sequência é atribuída sob o bloqueio do
+ * índice, um usuário novo sempre fica depois de todos os já indexados.
+ *
+ * A chave do índice por nome é o nome normalizado seguido do ID, então
+ * nomes iguais não colidem e a ordem é total. O índice guarda a chave atual
+ * de cada usuário para removê-la quando o nome muda.
+ *
+ * Os mapas são {@link ConcurrentSkipListMap}: continuar a partir de uma
+ * chave custa O(log n), e percorrê-los durante escritas concorrentes não
+ * falha nem repete entradas. Quem consulta deve conferir os IDs contra o
+ * mapa de usuários.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.1
+ * @since 2026-10-18
+ */
+class IndiceOrdenadoUsuarios {
+
+    // Separa o nome do ID na chave; menor que qualquer caractere de um nome
+    private static final char SEPARADOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, String> porCriacao = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, String> porNome = new ConcurrentSkipListMap<>();
+    private final Map<String, String> chaveNomePorId = new ConcurrentHashMap<>();
+    private final Map<String, String> chaveCriacaoPorId = new ConcurrentHashMap<>();
+    private long sequencia; // protegido pelo bloqueio do índice
+
+    /**
+     * Indexa (ou reindexa) um usuário.
+     *
+     * @param idUsuario O ID do usuário.
+     * @param nome      O nome atual (pode ser nulo).
+     */
+    synchronized void indexar(String idUsuario, String nome) {
+        if (!chaveCriacaoPorId.containsKey(idUsuario)) {
+            String chaveCriacao = GeradorIds.paraTexto(sequencia++) + SEPARADOR + idUsuario;
+            chaveCriacaoPorId.put(idUsuario, chaveCriacao);
+            porCriacao.put(chaveCriacao, idUsuario);
+        }
+
+        String chave = chaveNome(nome, idUsuario);
+        String anterior = chaveNomePorId.put(idUsuario, chave);
+        if (anterior != null && !anterior.equals(chave)) {
+            porNome.remove(anterior, idUsuario);
+        }
+        porNome.put(chave, idUsuario);
+    }
+
+    /**
+     * Retorna os usuários (chave -> ID) em ordem de criação.
+     */
+    NavigableMap<String, String> getPorCriacao() {
+        return porCriacao;
+    }
+
+    /**
+     * Retorna os usuários (chave -> ID) em ordem de nome.
+     */
+    NavigableMap<String, String> getPorNome() {
+        return porNome;
+    }
+
+    /**
+     * Esvazia o índice (usado junto com a limpeza do DAO).
+     */
+    synchronized void limpar() {
+        porCriacao.clear();
+        porNome.clear();
+        chaveNomePorId.clear();
+        chaveCriacaoPorId.clear();
+        sequencia = 0;
+    }
+
+    /**
+     * Retorna a chave de ordenação por criação de um usuário já indexado.
+     *
+     * @return A chave, ou null se o ID não estiver no índice.
+     */
+    String chaveCriacao(String idUsuario) {
+        return chaveCriacaoPorId.get(idUsuario);
+    }
+
+    /**
+     * Monta a chave de ordenação por nome (nome normalizado + ID).
+     */
+    static String chaveNome(String nome, String idUsuario) {
+        String normalizado = nome == null ? "" : nome.trim().toLowerCase(Locale.ROOT);
+        return normalizado + SEPARADOR + idUsuario;
+    }
+}
@@ -0,0 +1,100 @@
+package com.agendastudy.DAO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índice ordenado do preço por hora dos professores: para cada preço, o
+ * conjunto de IDs dos professores que o cobram.
+ *
+ * Uma faixa de preço é localizada em O(log n) e percorrida em ordem, então o
+ * custo de uma busca por faixa é O(log n + k) para k professores na faixa, e
+ * o resultado já sai ordenado por preço (crescente ou decrescente).
+ * Professores sem preço informado (zero) não entram no índice.
+ *
+ * Como no {@link IndiceDisciplinas}, o índice guarda o preço de cada
+ * professor no momento em que foi salvo; quem consulta deve conferir os IDs
+ * contra o estado atual do usuário.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IndicePrecos {
+
+    private final ConcurrentSkipListMap<Double, Set<String>> professoresPorPreco = new ConcurrentSkipListMap<>();
+    private final Map<String, Double> precoPorProfessor = new ConcurrentHashMap<>();
+
+    /**
+     * Indexa (ou reindexa) o preço de um professor.
+     *
+     * @param idProfessor O ID do professor.
+     * @param preco       O preço por hora (zero ou menos: sem preço).
+     */
+    synchronized void indexar(String idProfessor, double preco) {
+        Double anterior = preco > 0 ? precoPorProfessor.put(idProfessor, preco)
+                : precoPorProfessor.remove(idProfessor);
+        if (anterior != null && anterior != preco) {
+            Set<String> ids = professoresPorPreco.get(anterior);
+            if (ids != null) {
+                ids.remove(idProfessor);
+                if (ids.isEmpty()) {
+                    professoresPorPreco.remove(anterior, ids);
+                }
+            }
+        }
+        if (preco > 0) {
+            professoresPorPreco.computeIfAbsent(preco, p -> ConcurrentHashMap.newKeySet()).add(idProfessor);
+        }
+    }
+
+    /**
+     * Remove o professor do índice.
+     */
+    synchronized void remover(String idProfessor) {
+        indexar(idProfessor, 0);
+    }
+
+    /**
+     * Retorna os IDs dos professores com preço dentro da faixa, ordenados por
+     * preço.
+     *
+     * @param minimo      Preço mínimo, inclusivo (null: sem limite).
+     * @param maximo      Preço máximo, inclusivo (null: sem limite).
+     * @param decrescente true para começar pelo mais caro.
+     * @return Os IDs, em ordem de preço (lista vazia se a faixa for inválida).
+     */
+    List<String> buscar(Double minimo, Double maximo, boolean decrescente) {
+        List<String> resultado = new ArrayList<>();
+        if (minimo != null && maximo != null && minimo > maximo) {
+            return resultado;
+        }
+        NavigableMap<Double, Set<String>> faixa = professoresPorPreco;
+        if (minimo != null) {
+            faixa = faixa.tailMap(minimo, true);
+        }
+        if (maximo != null) {
+            faixa = faixa.headMap(maximo, true);
+        }
+        if (decrescente) {
+            faixa = faixa.descendingMap();
+        }
+        for (Set<String> ids : faixa.values()) {
+            resultado.addAll(ids);
+        }
+        return resultado;
+    }
+
+    /**
+     * Esvazia o índice (usado junto com a limpeza do DAO).
+     */
+    synchronized void limpar() {
+        professoresPorPreco.clear();
+        precoPorProfessor.clear();
+    }
+}
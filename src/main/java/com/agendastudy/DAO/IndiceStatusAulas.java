@@ -0,0 +1,168 @@
+package com.agendastudy.DAO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.agendastudy.DAO.IndiceTemporalAulas.Chave;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.StatusAula;
+
+/**
+ * Índice de aulas particionado por participante (professor ou estudante) e
+ * por status.
+ *
+ * Cada participante tem uma partição ordenada por horário de início para
+ * cada {@link StatusAula}, com um contador próprio. Assim, consultas por
+ * status percorrem só as aulas daquele status, e as contagens custam O(1).
+ *
+ * A aula troca de partição quando é salva ou quando o seu status muda (o
+ * {@link AulaDAO} observa a Aula). A troca é atômica por aula: é feita dentro
+ * do {@code compute} do mapa de registros, como em
+ * {@link IndiceTemporalAulas}.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IndiceStatusAulas {
+
+    /** Fotografia usada para tirar a aula da partição antiga. */
+    private record Registro(Chave chave, StatusAula status, String professorId, String estudanteId) {
+    }
+
+    /** Aulas de um status, em ordem de início, com o tamanho à parte. */
+    private static final class Particao {
+        private final ConcurrentSkipListMap<Chave, Aula> aulas = new ConcurrentSkipListMap<>();
+        private final AtomicInteger tamanho = new AtomicInteger();
+    }
+
+    /** Partições de um participante (criadas todas de uma vez, só leitura depois). */
+    private static final class Particoes {
+        private final Map<StatusAula, Particao> porStatus = new EnumMap<>(StatusAula.class);
+
+        Particoes() {
+            for (StatusAula status : StatusAula.values()) {
+                porStatus.put(status, new Particao());
+            }
+        }
+    }
+
+    private final Map<String, Particoes> particoes = new ConcurrentHashMap<>();
+    private final Map<String, Registro> registros = new ConcurrentHashMap<>();
+
+    /**
+     * Coloca (ou move) a aula na partição do seu status atual.
+     *
+     * @param aula A aula salva no DAO (com ID já definido).
+     */
+    void indexar(Aula aula) {
+        registros.compute(aula.getIdAula(), (id, anterior) -> {
+            if (aula.getDataHora() == null || aula.getProfessor() == null || aula.getStatus() == null) {
+                if (anterior != null) {
+                    remover(anterior);
+                }
+                return null;
+            }
+
+            Registro novo = new Registro(new Chave(aula.getDataHora(), id), aula.getStatus(),
+                    aula.getProfessor().getId(), aula.getEstudante() != null ? aula.getEstudante().getId() : null);
+            if (novo.equals(anterior)) {
+                return anterior; // Nada mudou
+            }
+            if (anterior != null) {
+                remover(anterior);
+            }
+            inserir(novo.professorId(), novo, aula);
+            if (novo.estudanteId() != null) {
+                inserir(novo.estudanteId(), novo, aula);
+            }
+            return novo;
+        });
+    }
+
+    /**
+     * Retorna as aulas do participante que estão em algum dos status
+     * informados, em ordem de início.
+     */
+    List<Aula> buscar(String usuarioId, StatusAula... status) {
+        Particoes doUsuario = particoes.get(usuarioId);
+        if (doUsuario == null) {
+            return new ArrayList<>();
+        }
+        if (status.length == 1) {
+            return new ArrayList<>(doUsuario.porStatus.get(status[0]).aulas.values());
+        }
+
+        // Várias partições: junta e ordena pelas chaves (cada uma já ordenada)
+        List<Map.Entry<Chave, Aula>> entradas = new ArrayList<>();
+        for (StatusAula s : status) {
+            entradas.addAll(doUsuario.porStatus.get(s).aulas.entrySet());
+        }
+        entradas.sort(Map.Entry.comparingByKey());
+        List<Aula> resultado = new ArrayList<>(entradas.size());
+        for (Map.Entry<Chave, Aula> entrada : entradas) {
+            resultado.add(entrada.getValue());
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna as aulas do participante com o status, iniciadas no período
+     * [inicio, fim] (inclusive), em ordem de início.
+     */
+    List<Aula> buscarNoPeriodo(String usuarioId, StatusAula status, LocalDateTime inicio, LocalDateTime fim) {
+        Particoes doUsuario = particoes.get(usuarioId);
+        if (doUsuario == null || fim.isBefore(inicio)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(doUsuario.porStatus.get(status).aulas
+                .subMap(new Chave(inicio, ""), true, new Chave(fim.plusNanos(1), ""), false).values());
+    }
+
+    /**
+     * Quantidade de aulas do participante com o status, em O(1).
+     */
+    int contar(String usuarioId, StatusAula status) {
+        Particoes doUsuario = particoes.get(usuarioId);
+        return doUsuario == null ? 0 : doUsuario.porStatus.get(status).tamanho.get();
+    }
+
+    /**
+     * Esvazia o índice (usado junto com a limpeza do DAO).
+     */
+    void limpar() {
+        particoes.clear();
+        registros.clear();
+    }
+
+    private void inserir(String usuarioId, Registro registro, Aula aula) {
+        Particao particao = particoes.computeIfAbsent(usuarioId, id -> new Particoes()).porStatus
+                .get(registro.status());
+        if (particao.aulas.put(registro.chave(), aula) == null) {
+            particao.tamanho.incrementAndGet();
+        }
+    }
+
+    private void remover(Registro anterior) {
+        removerDaParticao(anterior.professorId(), anterior);
+        if (anterior.estudanteId() != null) {
+            removerDaParticao(anterior.estudanteId(), anterior);
+        }
+    }
+
+    private void removerDaParticao(String usuarioId, Registro anterior) {
+        Particoes doUsuario = particoes.get(usuarioId);
+        if (doUsuario != null) {
+            Particao particao = doUsuario.porStatus.get(anterior.status());
+            if (particao.aulas.remove(anterior.chave()) != null) {
+                particao.tamanho.decrementAndGet();
+            }
+        }
+    }
+}
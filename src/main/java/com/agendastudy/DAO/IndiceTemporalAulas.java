@@ -0,0 +1,151 @@
+package com.agendastudy.DAO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.agendastudy.model.Aula;
+
+/**
+ * Índice secundário de aulas por participante (professor ou estudante),
+ * ordenado pelo horário de início.
+ *
+ * Cada participante possui sua própria agenda ordenada, de modo que as
+ * consultas por período custam O(log n + k) em vez de percorrer todas as
+ * aulas do sistema. Para responder consultas de sobreposição, a agenda guarda
+ * também a maior duração já indexada: qualquer aula que termine depois do
+ * início da janela precisa ter começado, no máximo, essa duração antes dele.
+ *
+ * O índice guarda uma "fotografia" (início, fim e participantes) de cada aula
+ * no momento em que foi salva, porque o objeto Aula é alterado no lugar
+ * (ex: reagendamento) antes de ser persistido novamente.
+ *
+ * A reindexação é atômica por aula (feita dentro do {@code compute} do mapa
+ * de registros), sem trava global: aulas diferentes são indexadas em
+ * paralelo.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.2
+ * @since 2026-10-18
+ */
+class IndiceTemporalAulas {
+
+    /**
+     * Chave de ordenação: início da aula, desempatado pelo ID.
+     * O ID vazio ("") é usado como limite inferior nas buscas por faixa.
+     * Compartilhada com {@link IndiceStatusAulas}.
+     */
+    record Chave(LocalDateTime inicio, String idAula) implements Comparable<Chave> {
+        @Override
+        public int compareTo(Chave outra) {
+            int cmp = inicio.compareTo(outra.inicio);
+            return cmp != 0 ? cmp : idAula.compareTo(outra.idAula);
+        }
+    }
+
+    /** Aula indexada junto com o horário de término no momento da indexação. */
+    private record Entrada(Aula aula, LocalDateTime fim) {
+    }
+
+    /** Fotografia usada para remover a aula do índice quando ela for alterada. */
+    private record Registro(Chave chave, String professorId, String estudanteId) {
+    }
+
+    /** Agenda ordenada de um participante. */
+    private static final class Agenda {
+        private final ConcurrentSkipListMap<Chave, Entrada> aulas = new ConcurrentSkipListMap<>();
+        private volatile int maiorDuracaoMinutos;
+    }
+
+    private final Map<String, Agenda> agendas = new ConcurrentHashMap<>();
+    private final Map<String, Registro> registros = new ConcurrentHashMap<>();
+
+    /**
+     * Indexa (ou reindexa) uma aula. Remove a posição antiga, se existir,
+     * antes de inserir a nova, mantendo o índice consistente com o último
+     * estado salvo.
+     *
+     * @param aula A aula salva no DAO (com ID já definido).
+     */
+    void indexar(Aula aula) {
+        registros.compute(aula.getIdAula(), (id, anterior) -> {
+            if (anterior != null) {
+                remover(anterior);
+            }
+            if (aula.getDataHora() == null || aula.getProfessor() == null) {
+                return null;
+            }
+
+            Chave chave = new Chave(aula.getDataHora(), id);
+            Entrada entrada = new Entrada(aula, aula.getFimAula());
+            String professorId = aula.getProfessor().getId();
+            String estudanteId = aula.getEstudante() != null ? aula.getEstudante().getId() : null;
+
+            inserir(professorId, chave, entrada, aula.getDuracaoMinutos());
+            if (estudanteId != null) {
+                inserir(estudanteId, chave, entrada, aula.getDuracaoMinutos());
+            }
+            return new Registro(chave, professorId, estudanteId);
+        });
+    }
+
+    /**
+     * Retorna as aulas de um participante que se sobrepõem ao período
+     * [inicio, fim), em ordem de início.
+     */
+    List<Aula> buscarSobrepostas(String usuarioId, LocalDateTime inicio, LocalDateTime fim) {
+        List<Aula> resultado = new ArrayList<>();
+        Agenda agenda = agendas.get(usuarioId);
+        if (agenda == null || !inicio.isBefore(fim)) {
+            return resultado;
+        }
+
+        // Só aulas iniciadas até 'maiorDuracao' antes da janela podem alcançá-la
+        Chave de = new Chave(inicio.minusMinutes(agenda.maiorDuracaoMinutos), "");
+        Chave ate = new Chave(fim, "");
+        NavigableMap<Chave, Entrada> candidatas = agenda.aulas.subMap(de, true, ate, false);
+
+        for (Entrada entrada : candidatas.values()) {
+            if (entrada.fim().isAfter(inicio)) {
+                resultado.add(entrada.aula());
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Esvazia o índice (usado junto com a limpeza do DAO).
+     */
+    void limpar() {
+        agendas.clear();
+        registros.clear();
+    }
+
+    private void inserir(String usuarioId, Chave chave, Entrada entrada, int duracaoMinutos) {
+        Agenda agenda = agendas.computeIfAbsent(usuarioId, id -> new Agenda());
+        synchronized (agenda) {
+            if (duracaoMinutos > agenda.maiorDuracaoMinutos) {
+                agenda.maiorDuracaoMinutos = duracaoMinutos;
+            }
+        }
+        agenda.aulas.put(chave, entrada);
+    }
+
+    private void remover(Registro anterior) {
+        removerDaAgenda(anterior.professorId(), anterior.chave());
+        if (anterior.estudanteId() != null) {
+            removerDaAgenda(anterior.estudanteId(), anterior.chave());
+        }
+    }
+
+    private void removerDaAgenda(String usuarioId, Chave chave) {
+        Agenda agenda = agendas.get(usuarioId);
+        if (agenda != null) {
+            agenda.aulas.remove(chave);
+        }
+    }
+}
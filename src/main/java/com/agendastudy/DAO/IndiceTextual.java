@@ -0,0 +1,254 @@
+package com.agendastudy.DAO;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índice invertido de texto livre dos perfis dos professores, com
+ * relevância BM25.
+ *
+ * Cada campo (nome, disciplinas, biografia, qualificações) é quebrado em
+ * termos sem acentos e em minúsculas, e cada termo aponta para os
+ * professores que o contêm e quantas vezes (frequência ponderada pelo peso
+ * do campo: um termo do nome vale mais que um da biografia). Uma consulta
+ * soma a pontuação BM25 de cada termo só nos professores das listas desses
+ * termos, e os k melhores são separados com um heap de tamanho k, sem
+ * ordenar todos os encontrados.
+ *
+ * Termos da consulta que não existem no índice são tratados como prefixo
+ * (ex: "mate" encontra "matematica"), expandidos para no máximo
+ * {@value #MAX_EXPANSOES} termos do dicionário, que é ordenado.
+ *
+ * Como nos outros índices, o texto indexado é o do último salvamento, e a
+ * atualização de um perfil troca só as postagens daquele professor.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IndiceTextual {
+
+    // Parâmetros usuais do BM25
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    static final int MAX_EXPANSOES = 32;
+
+    // Peso de cada ocorrência, por campo
+    private static final int PESO_NOME = 3;
+    private static final int PESO_DISCIPLINA = 3;
+    private static final int PESO_QUALIFICACAO = 2;
+    private static final int PESO_BIOGRAFIA = 1;
+
+    private static final Set<String> PALAVRAS_VAZIAS = Set.of(
+            "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos", "para", "com", "por", "um", "uma",
+            "the", "and", "of");
+
+    /**
+     * Professor encontrado e sua pontuação de relevância.
+     */
+    record Resultado(String id, double pontuacao) {
+    }
+
+    // termo -> (ID -> frequência ponderada); o dicionário ordenado permite a busca por prefixo
+    private final ConcurrentSkipListMap<String, Map<String, Integer>> postagens = new ConcurrentSkipListMap<>();
+    private final Map<String, Map<String, Integer>> termosPorDocumento = new ConcurrentHashMap<>();
+    private final Map<String, Integer> comprimentos = new ConcurrentHashMap<>();
+    private volatile long somaComprimentos;
+
+    /**
+     * Indexa (ou reindexa) o perfil de um professor.
+     *
+     * @param idProfessor   O ID do professor.
+     * @param nome          O nome.
+     * @param disciplinas   As disciplinas (pode ser nula).
+     * @param biografia     A biografia (pode ser nula).
+     * @param qualificacoes As qualificações (pode ser nula).
+     */
+    synchronized void indexar(String idProfessor, String nome, List<String> disciplinas, String biografia,
+            List<String> qualificacoes) {
+        Map<String, Integer> frequencias = new HashMap<>();
+        int comprimento = contar(nome, PESO_NOME, frequencias);
+        if (disciplinas != null) {
+            for (String disciplina : disciplinas) {
+                comprimento += contar(disciplina, PESO_DISCIPLINA, frequencias);
+            }
+        }
+        comprimento += contar(biografia, PESO_BIOGRAFIA, frequencias);
+        if (qualificacoes != null) {
+            for (String qualificacao : qualificacoes) {
+                comprimento += contar(qualificacao, PESO_QUALIFICACAO, frequencias);
+            }
+        }
+
+        removerPostagens(idProfessor);
+        if (frequencias.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entrada : frequencias.entrySet()) {
+            postagens.computeIfAbsent(entrada.getKey(), t -> new ConcurrentHashMap<>())
+                    .put(idProfessor, entrada.getValue());
+        }
+        termosPorDocumento.put(idProfessor, frequencias);
+        comprimentos.put(idProfessor, comprimento);
+        somaComprimentos += comprimento;
+    }
+
+    /**
+     * Remove o professor do índice.
+     */
+    synchronized void remover(String idProfessor) {
+        removerPostagens(idProfessor);
+    }
+
+    /**
+     * Retorna os k professores mais relevantes para a consulta.
+     *
+     * @param consulta O texto buscado.
+     * @param k        Máximo de resultados (zero ou menos: todos os
+     *                 encontrados).
+     * @return Os resultados, do mais para o menos relevante (empates pelo ID).
+     */
+    List<Resultado> buscar(String consulta, int k) {
+        int documentos = comprimentos.size();
+        if (documentos == 0) {
+            return new ArrayList<>();
+        }
+        double comprimentoMedio = Math.max(1.0, (double) somaComprimentos / documentos);
+
+        Map<String, Double> pontuacoes = new HashMap<>();
+        for (String termo : expandir(tokenizar(consulta))) {
+            Map<String, Integer> lista = postagens.get(termo);
+            if (lista == null || lista.isEmpty()) {
+                continue;
+            }
+            double idf = Math.log(1 + (documentos - lista.size() + 0.5) / (lista.size() + 0.5));
+            for (Map.Entry<String, Integer> postagem : lista.entrySet()) {
+                int tf = postagem.getValue();
+                double comprimento = comprimentos.getOrDefault(postagem.getKey(), 0);
+                double parcela = idf * tf * (K1 + 1)
+                        / (tf + K1 * (1 - B + B * comprimento / comprimentoMedio));
+                pontuacoes.merge(postagem.getKey(), parcela, Double::sum);
+            }
+        }
+        return melhores(pontuacoes, k <= 0 ? pontuacoes.size() : k);
+    }
+
+    /**
+     * Esvazia o índice (usado junto com a limpeza do DAO).
+     */
+    synchronized void limpar() {
+        postagens.clear();
+        termosPorDocumento.clear();
+        comprimentos.clear();
+        somaComprimentos = 0;
+    }
+
+    /**
+     * Quebra o texto em termos: sem acentos, em minúsculas, só letras e
+     * dígitos, sem termos de uma letra e sem palavras vazias.
+     */
+    static List<String> tokenizar(String texto) {
+        List<String> termos = new ArrayList<>();
+        if (texto == null) {
+            return termos;
+        }
+        String normalizado = Normalizer.normalize(texto, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        for (String termo : normalizado.split("[^\\p{L}\\p{N}]+")) {
+            if (termo.length() > 1 && !PALAVRAS_VAZIAS.contains(termo)) {
+                termos.add(termo);
+            }
+        }
+        return termos;
+    }
+
+    /**
+     * Soma as ocorrências dos termos do texto, com o peso do campo.
+     *
+     * @return O comprimento ponderado do texto.
+     */
+    private static int contar(String texto, int peso, Map<String, Integer> frequencias) {
+        int comprimento = 0;
+        for (String termo : tokenizar(texto)) {
+            frequencias.merge(termo, peso, Integer::sum);
+            comprimento += peso;
+        }
+        return comprimento;
+    }
+
+    /**
+     * Troca cada termo ausente do dicionário pelos termos que começam com
+     * ele. Termos repetidos na consulta contam uma vez só.
+     */
+    private Set<String> expandir(List<String> termos) {
+        Set<String> expandidos = new LinkedHashSet<>();
+        for (String termo : termos) {
+            if (postagens.containsKey(termo)) {
+                expandidos.add(termo);
+                continue;
+            }
+            int expansoes = 0;
+            for (String candidato : postagens.tailMap(termo, false).keySet()) {
+                if (!candidato.startsWith(termo) || expansoes++ == MAX_EXPANSOES) {
+                    break;
+                }
+                expandidos.add(candidato);
+            }
+        }
+        return expandidos;
+    }
+
+    /**
+     * Separa os k maiores com um heap de mínimo de tamanho k: O(m log k)
+     * para m professores encontrados.
+     */
+    private static List<Resultado> melhores(Map<String, Double> pontuacoes, int k) {
+        Comparator<Resultado> ordem = Comparator.comparingDouble(Resultado::pontuacao)
+                .thenComparing(Resultado::id, Comparator.reverseOrder());
+        PriorityQueue<Resultado> heap = new PriorityQueue<>(Math.max(1, Math.min(k, pontuacoes.size())), ordem);
+        for (Map.Entry<String, Double> entrada : pontuacoes.entrySet()) {
+            Resultado resultado = new Resultado(entrada.getKey(), entrada.getValue());
+            if (heap.size() < k) {
+                heap.add(resultado);
+            } else if (ordem.compare(resultado, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(resultado);
+            }
+        }
+        List<Resultado> resultados = new ArrayList<>(heap);
+        resultados.sort(ordem.reversed());
+        return resultados;
+    }
+
+    private void removerPostagens(String idProfessor) {
+        Map<String, Integer> anteriores = termosPorDocumento.remove(idProfessor);
+        if (anteriores == null) {
+            return;
+        }
+        for (String termo : anteriores.keySet()) {
+            Map<String, Integer> lista = postagens.get(termo);
+            if (lista != null) {
+                lista.remove(idProfessor);
+                if (lista.isEmpty()) {
+                    postagens.remove(termo, lista);
+                }
+            }
+        }
+        Integer comprimento = comprimentos.remove(idProfessor);
+        if (comprimento != null) {
+            somaComprimentos -= comprimento;
+        }
+    }
+}
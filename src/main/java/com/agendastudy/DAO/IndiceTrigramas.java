@@ -0,0 +1,135 @@
+package com.agendastudy.DAO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice de trigramas para busca por trecho (substring) em nome e email.
+ *
+ * Cada texto normalizado (em minúsculas) é quebrado em todas as sequências de
+ * 3 caracteres, e cada trigrama aponta para o conjunto de IDs dos usuários
+ * que o contêm. Um termo de busca com 3 ou mais caracteres só pode aparecer
+ * nos usuários que têm todos os trigramas dele, então a busca começa pela
+ * interseção dessas listas (da menor para a maior) em vez de percorrer todos
+ * os usuários. Os trigramas de um campo não se misturam com os do outro.
+ *
+ * A interseção é só um filtro de candidatos: quem consulta deve confirmar o
+ * trecho no estado atual do usuário, que pode ter mudado sem ser salvo de
+ * novo. Como no {@link IndiceDisciplinas}, o índice guarda os trigramas de
+ * cada usuário para remover apenas os que mudaram na atualização.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IndiceTrigramas {
+
+    static final int TAMANHO = 3;
+
+    private final Map<String, Set<String>> usuariosPorTrigrama = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> trigramasPorUsuario = new ConcurrentHashMap<>();
+
+    /**
+     * Indexa (ou reindexa) os textos de um usuário.
+     *
+     * @param idUsuario O ID do usuário.
+     * @param textos    Os campos pesquisáveis (nulos são ignorados).
+     */
+    synchronized void indexar(String idUsuario, String... textos) {
+        Set<String> novos = new HashSet<>();
+        for (String texto : textos) {
+            adicionarTrigramas(normalizar(texto), novos);
+        }
+
+        Set<String> antigos = trigramasPorUsuario.getOrDefault(idUsuario, Collections.emptySet());
+        for (String trigrama : antigos) {
+            if (!novos.contains(trigrama)) {
+                Set<String> ids = usuariosPorTrigrama.get(trigrama);
+                if (ids != null) {
+                    ids.remove(idUsuario);
+                    if (ids.isEmpty()) {
+                        usuariosPorTrigrama.remove(trigrama, ids);
+                    }
+                }
+            }
+        }
+        for (String trigrama : novos) {
+            if (!antigos.contains(trigrama)) {
+                usuariosPorTrigrama.computeIfAbsent(trigrama, t -> ConcurrentHashMap.newKeySet()).add(idUsuario);
+            }
+        }
+
+        if (novos.isEmpty()) {
+            trigramasPorUsuario.remove(idUsuario);
+        } else {
+            trigramasPorUsuario.put(idUsuario, novos);
+        }
+    }
+
+    /**
+     * Retorna os IDs candidatos a conter o termo: os que têm todos os seus
+     * trigramas.
+     *
+     * @param termo O termo de busca, já normalizado, com pelo menos
+     *              {@value #TAMANHO} caracteres.
+     * @return Os IDs candidatos (nova coleção, pode ser alterada).
+     * @throws IllegalArgumentException se o termo for menor que um trigrama.
+     */
+    Set<String> candidatos(String termo) {
+        if (termo == null || termo.length() < TAMANHO) {
+            throw new IllegalArgumentException("O termo deve ter pelo menos " + TAMANHO + " caracteres");
+        }
+        Set<String> trigramas = new HashSet<>();
+        adicionarTrigramas(termo, trigramas);
+
+        List<Set<String>> listas = new ArrayList<>(trigramas.size());
+        for (String trigrama : trigramas) {
+            Set<String> ids = usuariosPorTrigrama.get(trigrama);
+            if (ids == null || ids.isEmpty()) {
+                return new HashSet<>();
+            }
+            listas.add(ids);
+        }
+
+        listas.sort(Comparator.comparingInt(Set::size));
+        Set<String> resultado = new HashSet<>(listas.get(0));
+        for (int i = 1; i < listas.size() && !resultado.isEmpty(); i++) {
+            resultado.retainAll(listas.get(i));
+        }
+        return resultado;
+    }
+
+    /**
+     * Esvazia o índice (usado junto com a limpeza do DAO).
+     */
+    synchronized void limpar() {
+        usuariosPorTrigrama.clear();
+        trigramasPorUsuario.clear();
+    }
+
+    /**
+     * Normaliza o texto para a busca (minúsculas, sem depender do idioma do
+     * sistema).
+     *
+     * @return O texto normalizado, ou null se for nulo.
+     */
+    static String normalizar(String texto) {
+        return texto == null ? null : texto.toLowerCase(Locale.ROOT);
+    }
+
+    private static void adicionarTrigramas(String texto, Set<String> destino) {
+        if (texto == null) {
+            return;
+        }
+        for (int i = 0; i + TAMANHO <= texto.length(); i++) {
+            destino.add(texto.substring(i, i + TAMANHO));
+        }
+    }
+}
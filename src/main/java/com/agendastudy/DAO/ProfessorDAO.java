@@ -1,18 +1,32 @@
 package com.agendastudy.DAO;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
+import com.agendastudy.model.Coordenadas;
 import com.agendastudy.model.Professor;
 import com.agendastudy.model.Usuario;
 
 /**
  * Gerencia as operações de acesso a dados (DAO) para a entidade Professor.
- * 
+ *
+ * As buscas por disciplina usam o índice invertido mantido pelo
+ * {@link UsuarioDAO#salvar(Usuario)}: cada consulta percorre apenas os
+ * professores daquela disciplina, e não todos os usuários do sistema.
+ * Por isso, alterações nas disciplinas de um professor só passam a valer nas
+ * buscas depois que o professor é salvo novamente. O mesmo vale para as
+ * buscas por faixa de preço, feitas sobre o índice ordenado de preços, e
+ * para as buscas por distância, feitas sobre a grade geográfica, e as buscas
+ * por texto livre, feitas sobre o índice invertido dos perfis.
  *
  * @author PAULO VITOR DIAS SOARES
- * @version 1.1
+ * @version 1.5
  * @since 2025-11-10
  */
 public class ProfessorDAO extends UsuarioDAO {
@@ -61,16 +75,223 @@ public class ProfessorDAO extends UsuarioDAO {
         if (nomeDisciplina == null || nomeDisciplina.trim().isEmpty()) {
             return new ArrayList<>();
         }
+        return resolver(indiceDisciplinas.buscar(nomeDisciplina), List.of(nomeDisciplina), false);
+    }
+
+    /**
+     * Busca os Professores que lecionam pelo menos uma das disciplinas
+     * informadas (união).
+     *
+     * @param disciplinas Os nomes das disciplinas.
+     * @return Uma lista de Professores, sem repetições.
+     */
+    public List<Professor> findByQualquerDisciplina(Collection<String> disciplinas) {
+        if (disciplinas == null || disciplinas.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return resolver(indiceDisciplinas.buscarUniao(disciplinas), disciplinas, false);
+    }
+
+    /**
+     * Busca os Professores que lecionam todas as disciplinas informadas
+     * (interseção).
+     *
+     * @param disciplinas Os nomes das disciplinas.
+     * @return Uma lista de Professores que atendem a todas as disciplinas.
+     */
+    public List<Professor> findByTodasDisciplinas(Collection<String> disciplinas) {
+        if (disciplinas == null || disciplinas.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return resolver(indiceDisciplinas.buscarIntersecao(disciplinas), disciplinas, true);
+    }
+
+    /**
+     * Busca os Professores cujo preço por hora está dentro da faixa, já
+     * ordenados por preço. Professores sem preço informado não entram.
+     *
+     * @param precoMin    Preço mínimo, inclusivo (null: sem limite).
+     * @param precoMax    Preço máximo, inclusivo (null: sem limite).
+     * @param decrescente true para começar pelo mais caro.
+     * @return Uma lista de Professores, em ordem de preço.
+     */
+    public List<Professor> findByFaixaDePreco(Double precoMin, Double precoMax, boolean decrescente) {
+        List<String> ids = indicePrecos.buscar(precoMin, precoMax, decrescente);
+        List<Professor> resultado = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Professor professor = buscarPorId(id);
+            // Confere o preço atual: o índice guarda o preço do último salvamento
+            if (professor != null && professor.getPrecoHora() > 0
+                    && (precoMin == null || professor.getPrecoHora() >= precoMin)
+                    && (precoMax == null || professor.getPrecoHora() <= precoMax)) {
+                resultado.add(professor);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Percorre os Professores localizados, do mais próximo da origem para o
+     * mais distante. Os professores são buscados sob demanda: consumir só os
+     * primeiros examina apenas as regiões vizinhas da origem.
+     *
+     * @param origem    O ponto de referência (ex: a localização do estudante).
+     * @param raioMaxKm Distância máxima em km, inclusiva (null: sem limite).
+     * @return Iterador em ordem crescente de distância.
+     * @throws IllegalArgumentException se a origem for nula.
+     */
+    public Iterator<Professor> findPorProximidade(Coordenadas origem, Double raioMaxKm) {
+        if (origem == null) {
+            throw new IllegalArgumentException("A origem da busca não pode ser nula");
+        }
+        Iterator<IndiceGeografico.Vizinho> vizinhos = indiceGeografico.proximos(origem,
+                raioMaxKm == null ? Double.POSITIVE_INFINITY : raioMaxKm);
+        return new Iterator<>() {
+            private Professor proximo;
+
+            @Override
+            public boolean hasNext() {
+                while (proximo == null && vizinhos.hasNext()) {
+                    Professor professor = buscarPorId(vizinhos.next().id());
+                    // Descarta entradas de professores removidos ou sem localização
+                    if (professor != null && professor.getCoordenadas() != null) {
+                        proximo = professor;
+                    }
+                }
+                return proximo != null;
+            }
+
+            @Override
+            public Professor next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Professor professor = proximo;
+                proximo = null;
+                return professor;
+            }
+        };
+    }
+
+    /**
+     * Busca os Professores a até {@code raioKm} da origem, do mais próximo
+     * para o mais distante.
+     *
+     * @param origem O ponto de referência.
+     * @param raioKm A distância máxima em km, inclusiva.
+     * @return Uma lista de Professores, em ordem de distância.
+     */
+    public List<Professor> findNoRaio(Coordenadas origem, double raioKm) {
+        List<Professor> resultado = new ArrayList<>();
+        findPorProximidade(origem, raioKm).forEachRemaining(resultado::add);
+        return resultado;
+    }
+
+    /**
+     * Busca os Professores mais relevantes para um texto livre (nome,
+     * disciplinas, biografia e qualificações), pela pontuação BM25.
+     *
+     * @param consulta O texto buscado.
+     * @param k        Máximo de resultados (zero ou menos: todos os
+     *                 encontrados).
+     * @return Uma lista de Professores, do mais para o menos relevante.
+     */
+    public List<Professor> findPorTexto(String consulta, int k) {
+        List<Professor> resultado = new ArrayList<>();
+        for (IndiceTextual.Resultado encontrado : indiceTextual.buscar(consulta, k)) {
+            Professor professor = buscarPorId(encontrado.id());
+            if (professor != null) {
+                resultado.add(professor);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna todos os Professores cadastrados.
+     *
+     * @return Uma nova lista com os Professores.
+     */
+    public List<Professor> listarProfessores() {
+        List<Professor> resultado = new ArrayList<>();
+        for (Usuario usuario : usuarios.values()) {
+            if (usuario instanceof Professor) {
+                resultado.add((Professor) usuario);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Conta quantos professores lecionam cada disciplina (para exibição de
+     * facetas na busca).
+     *
+     * @return Mapa disciplina -> quantidade de professores, em ordem alfabética.
+     */
+    public Map<String, Integer> contarPorDisciplina() {
+        Map<String, Integer> contagem = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, Set<String>> entry : indiceDisciplinas.getPostagens().entrySet()) {
+            int total = 0;
+            for (String id : entry.getValue()) {
+                if (professorValido(id, entry.getKey()) != null) {
+                    total++;
+                }
+            }
+            if (total > 0) {
+                contagem.merge(indiceDisciplinas.getNomeExibicao(entry.getKey()), total, Integer::sum);
+            }
+        }
+        return contagem;
+    }
+
+    /**
+     * Converte os IDs vindos do índice em Professores, descartando entradas
+     * que não correspondem mais ao estado salvo.
+     *
+     * @param ids         IDs candidatos.
+     * @param disciplinas Disciplinas da consulta.
+     * @param todas       true se o professor precisa ter todas as disciplinas,
+     *                    false se basta uma.
+     */
+    private List<Professor> resolver(Set<String> ids, Collection<String> disciplinas, boolean todas) {
+        List<Professor> resultado = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Professor professor = null;
+            for (String disciplina : disciplinas) {
+                String chave = IndiceDisciplinas.normalizar(disciplina);
+                if (chave == null) {
+                    continue;
+                }
+                professor = professorValido(id, chave);
+                if ((professor != null) != todas) {
+                    break;
+                }
+            }
+            if (professor != null) {
+                resultado.add(professor);
+            }
+        }
+        return resultado;
+    }
 
-        // Acesso direto ao mapa estático de 'usuarios' assumido no UsuarioDAO
-        return usuarios.values().stream()
-                // Filtra apenas objetos que são instâncias de Professor
-                .filter(usuario -> usuario instanceof Professor)
-                .map(usuario -> (Professor) usuario)
-                // Filtra onde a lista de disciplinas do Professor contém a disciplina buscada
-                // (ignorando case)
-                .filter(professor -> professor.getDisciplinas().stream()
-                        .anyMatch(d -> d.equalsIgnoreCase(nomeDisciplina.trim())))
-                .collect(Collectors.toList());
+    /**
+     * Retorna o professor se ele ainda estiver salvo e lecionar a disciplina
+     * (chave normalizada), ou null caso contrário.
+     */
+    private Professor professorValido(String id, String chave) {
+        Usuario usuario = usuarios.get(id);
+        if (!(usuario instanceof Professor)) {
+            return null;
+        }
+        Professor professor = (Professor) usuario;
+        if (professor.getDisciplinas() == null) {
+            return null;
+        }
+        for (String disciplina : professor.getDisciplinas()) {
+            if (chave.equals(IndiceDisciplinas.normalizar(disciplina))) {
+                return professor;
+            }
+        }
+        return null;
     }
 }
@@ -0,0 +1,82 @@
+package com.agendastudy.DAO;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Registro sequencial das alterações que afetam a pontuação de um professor
+ * no ranking (nova avaliação, aula cancelada, disponibilidade cadastrada e
+ * perfil salvo).
+ *
+ * Os DAOs anotam o ID do professor a cada alteração, e quem mantém dados
+ * derivados (ex: {@code MotorRanking}) lê as alterações a partir da última
+ * sequência que já processou. Apenas as {@value #CAPACIDADE} alterações mais
+ * recentes são guardadas; quem ficar para trás recebe a indicação de que
+ * precisa recalcular tudo.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class RegistroAlteracoes {
+
+    /** Quantidade máxima de alterações mantidas em memória. */
+    static final int CAPACIDADE = 10_000;
+
+    private static final TreeMap<Long, String> alteracoes = new TreeMap<>();
+    private static long sequencia = 0;
+
+    /**
+     * Resultado de uma leitura do registro.
+     *
+     * @param sequencia   A sequência da última alteração lida (usar na próxima
+     *                    leitura).
+     * @param professores Os IDs dos professores alterados desde a leitura
+     *                    anterior.
+     * @param completo    false se alterações foram descartadas antes de serem
+     *                    lidas; nesse caso, todos os dados derivados devem ser
+     *                    recalculados.
+     */
+    public record Leitura(long sequencia, Set<String> professores, boolean completo) {
+    }
+
+    private RegistroAlteracoes() {
+    }
+
+    /**
+     * Anota uma alteração que afeta o professor informado.
+     *
+     * @param professorId O ID do professor (ignorado se for nulo).
+     */
+    public static synchronized void registrarProfessor(String professorId) {
+        if (professorId == null) {
+            return;
+        }
+        alteracoes.put(++sequencia, professorId);
+        if (alteracoes.size() > CAPACIDADE) {
+            alteracoes.pollFirstEntry();
+        }
+    }
+
+    /**
+     * Retorna as alterações registradas depois da sequência informada.
+     *
+     * @param ultimaLida A sequência retornada pela leitura anterior (0 na
+     *                   primeira leitura).
+     * @return Os professores alterados e a nova sequência.
+     */
+    public static synchronized Leitura lerDesde(long ultimaLida) {
+        Set<String> professores = new HashSet<>(alteracoes.tailMap(ultimaLida, false).values());
+        boolean completo = ultimaLida >= sequencia
+                || (!alteracoes.isEmpty() && alteracoes.firstKey() <= ultimaLida + 1);
+        return new Leitura(sequencia, professores, completo);
+    }
+
+    /**
+     * @return A sequência da alteração mais recente.
+     */
+    public static synchronized long getSequenciaAtual() {
+        return sequencia;
+    }
+}
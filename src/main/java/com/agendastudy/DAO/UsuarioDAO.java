@@ -1,46 +1,190 @@
 package com.agendastudy.DAO;
 
+import com.agendastudy.model.Professor;
 import com.agendastudy.model.Usuario;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap; // ADICIONADO (Para SCRUM-114)
 import java.util.List; // Adicionado
 import java.util.ArrayList; // Adicionado
 import java.util.concurrent.CopyOnWriteArrayList; // ADICIONADO (Para SCRUM-114)
-import java.util.stream.Collectors;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 
 /**
  * Classe DAO (Data Access Object) abstrata para Usuários.
  * Gerencia o armazenamento e recuperação de todos os tipos de usuários
  * em um mapa estático compartilhado (simulando um banco de dados).
  *
+ * Mantém também um índice de email normalizado (sem espaços nas pontas e em
+ * minúsculas) para o ID do usuário, atualizado em {@link #salvar(Usuario)}.
+ * Com ele, login e verificação de email custam O(1), e a unicidade do email é
+ * garantida no momento da inserção. As disciplinas dos professores são
+ * indexadas da mesma forma (ver {@link IndiceDisciplinas}), os preços em um
+ * índice ordenado ({@link IndicePrecos}), as coordenadas em uma grade
+ * geográfica ({@link IndiceGeografico}), o texto dos perfis em um índice
+ * invertido com relevância BM25 ({@link IndiceTextual}), e nome e email
+ * alimentam um índice de trigramas ({@link IndiceTrigramas}) usado pela busca
+ * paginada do painel de administração. A paginação por cursor percorre os
+ * índices ordenados por criação e por nome ({@link IndiceOrdenadoUsuarios}).
+ *
+ * Os IDs novos ("USER_" + 16 dígitos hexadecimais) vêm de um
+ * {@link GeradorIds}, por padrão o {@link GeradorIdsTemporal}, e são
+ * reservados no mapa de usuários com {@code putIfAbsent} antes de qualquer
+ * outra gravação: dois cadastros simultâneos nunca recebem o mesmo ID, nem
+ * se o gerador repetir um valor ou colidir com um ID informado manualmente.
+ *
  * @author PAULO VITOR DIAS SOARES
- * @version 1.1
+ * @version 2.0
  * @since 2025-11-11
  */
 public abstract class UsuarioDAO {
 
     protected static Map<String, Usuario> usuarios = new ConcurrentHashMap<>();
-    protected static int proximoId = 1;
+    private static volatile GeradorIds geradorIds = GeradorIdsTemporal.getInstancia();
     private static final List<String> logs = new CopyOnWriteArrayList<>();
 
+    // Índice email normalizado -> ID do usuário, e o inverso (para atualizar o
+    // índice quando o email de um usuário muda). As entradas sempre são
+    // conferidas contra 'usuarios' na leitura, então entradas antigas (ex: após
+    // limpar o mapa de usuários) são ignoradas.
+    private static final Map<String, String> idPorEmail = new ConcurrentHashMap<>();
+    private static final Map<String, String> emailPorId = new ConcurrentHashMap<>();
+
+    // Índice invertido disciplina -> IDs de professores (consultado pelo ProfessorDAO)
+    static final IndiceDisciplinas indiceDisciplinas = new IndiceDisciplinas();
+
+    // Índice ordenado preço por hora -> IDs de professores (consultado pelo ProfessorDAO)
+    static final IndicePrecos indicePrecos = new IndicePrecos();
+
+    // Grade geográfica com as coordenadas dos professores (consultada pelo ProfessorDAO)
+    static final IndiceGeografico indiceGeografico = new IndiceGeografico();
+
+    // Índice invertido do texto dos perfis de professores, com relevância BM25
+    static final IndiceTextual indiceTextual = new IndiceTextual();
+
+    // Índice de trigramas de nome e email -> IDs (busca por trecho)
+    private static final IndiceTrigramas indiceTrigramas = new IndiceTrigramas();
+
+    /**
+     * Uma página da busca de usuários e o total de usuários que atendem aos
+     * filtros.
+     *
+     * @param usuarios Os usuários da página, em ordem de ID.
+     * @param total    Quantidade de usuários em todas as páginas.
+     */
+    public record PaginaUsuarios(List<Usuario> usuarios, int total) {
+    }
+
+    // Índices ordenados por criação e por nome (paginação por cursor)
+    private static final IndiceOrdenadoUsuarios indiceOrdenado = new IndiceOrdenadoUsuarios();
+
+    /**
+     * Ordens disponíveis na paginação por cursor.
+     */
+    public enum OrdemUsuarios {
+        /** Ordem em que os usuários foram salvos pela primeira vez. */
+        CRIACAO,
+        /** Ordem alfabética do nome, desempatada pelo ID. */
+        NOME
+    }
+
+    /**
+     * Uma página da paginação por cursor.
+     *
+     * @param usuarios      Os usuários da página.
+     * @param proximoCursor Cursor da página seguinte, ou null se esta for a
+     *                      última.
+     */
+    public record PaginaCursor(List<Usuario> usuarios, String proximoCursor) {
+    }
+
     /**
      * Salva ou atualiza um usuário no sistema.
      * Se o usuário não tiver ID, gera um novo.
      * 
      * @param usuario O Usuário (Estudante, Professor, Admin) a ser salvo.
+     * @throws IllegalArgumentException se o email já pertencer a outro usuário.
      */
     public Usuario salvar(Usuario usuario) {
-        if (usuario.getId() == null || usuario.getId().isEmpty()) {
-            usuario.setId("USER_" + proximoId++);
+        String idOriginal = usuario.getId();
+        boolean idNovo = idOriginal == null || idOriginal.isEmpty();
+        if (idNovo) {
+            usuario.setId(reservarNovoId(usuario));
+        }
+        String id = usuario.getId();
+        String chave = normalizarEmail(usuario.getEmail());
+
+        if (chave == null) {
+            usuarios.put(id, usuario);
+        } else {
+            try {
+                // Reserva do email e gravação do usuário acontecem juntas, sob o
+                // bloqueio da chave: dois cadastros simultâneos com o mesmo email
+                // não conseguem passar ambos pela verificação.
+                idPorEmail.compute(chave, (email, idAtual) -> {
+                    if (idAtual != null && !idAtual.equals(id) && pertenceAoUsuario(email, idAtual)) {
+                        throw new IllegalArgumentException(
+                                "O e-mail '" + usuario.getEmail() + "' já está cadastrado no sistema.");
+                    }
+                    usuarios.put(id, usuario);
+                    return id;
+                });
+            } catch (IllegalArgumentException e) {
+                if (idNovo) {
+                    usuarios.remove(id, usuario);
+                }
+                usuario.setId(idOriginal);
+                throw e;
+            }
         }
-        usuarios.put(usuario.getId(), usuario);
+
+        // Libera o email anterior, se o usuário trocou de email
+        String emailAnterior = chave == null ? emailPorId.remove(id) : emailPorId.put(id, chave);
+        if (emailAnterior != null && !emailAnterior.equals(chave)) {
+            idPorEmail.remove(emailAnterior, id);
+        }
+
+        if (usuario instanceof Professor) {
+            Professor professor = (Professor) usuario;
+            indiceDisciplinas.indexar(id, professor.getDisciplinas());
+            indicePrecos.indexar(id, professor.getPrecoHora());
+            indiceGeografico.indexar(id, professor.getCoordenadas());
+            indiceTextual.indexar(id, professor.getNome(), professor.getDisciplinas(), professor.getBiografia(),
+                    professor.getQualificacoes());
+            RegistroAlteracoes.registrarProfessor(id);
+        } else {
+            indiceDisciplinas.remover(id);
+            indicePrecos.remover(id);
+            indiceGeografico.remover(id);
+            indiceTextual.remover(id);
+        }
+        indiceTrigramas.indexar(id, usuario.getNome(), usuario.getEmail());
+        indiceOrdenado.indexar(id, usuario.getNome());
+
         System.out.println("Usuário salvo: " + usuario.getNome());
 
         return usuario;
     }
 
+    /**
+     * Gera um ID e o reserva para o usuário, tentando de novo enquanto o ID
+     * gerado já estiver em uso. A reserva é atômica (putIfAbsent).
+     */
+    private static String reservarNovoId(Usuario usuario) {
+        String id;
+        do {
+            id = geradorIds.proximo("USER_");
+        } while (usuarios.putIfAbsent(id, usuario) != null);
+        return id;
+    }
+
     /**
      * Verifica se um email já está cadastrado no sistema (case-insensitive).
      * 
@@ -48,12 +192,7 @@ public abstract class UsuarioDAO {
      * @return true se o email já existe, false caso contrário.
      */
     public boolean emailExiste(String email) {
-        for (Usuario usuario : usuarios.values()) {
-            if (usuario.getEmail().equalsIgnoreCase(email)) {
-                return true;
-            }
-        }
-        return false;
+        return buscarPorEmail(email) != null;
     }
 
     /**
@@ -82,13 +221,38 @@ public abstract class UsuarioDAO {
      * @return O objeto Usuario se encontrado, ou null.
      */
     public Usuario buscarPorEmail(String email) {
-        // Aproveita o loop que já existe em emailExiste
-        for (Usuario usuario : usuarios.values()) {
-            if (usuario.getEmail().equalsIgnoreCase(email)) {
-                return usuario;
-            }
+        String chave = normalizarEmail(email);
+        if (chave == null) {
+            return null;
+        }
+        String id = idPorEmail.get(chave);
+        if (id == null || !pertenceAoUsuario(chave, id)) {
+            return null;
+        }
+        return usuarios.get(id);
+    }
+
+    /**
+     * Normaliza o email para uso como chave do índice (trim + minúsculas).
+     *
+     * @param email O email informado.
+     * @return O email normalizado, ou null se for nulo/vazio.
+     */
+    static String normalizarEmail(String email) {
+        if (email == null) {
+            return null;
         }
-        return null;
+        String normalizado = email.trim().toLowerCase(Locale.ROOT);
+        return normalizado.isEmpty() ? null : normalizado;
+    }
+
+    /**
+     * Confere se a entrada do índice ainda é válida: o usuário existe e
+     * continua com aquele email.
+     */
+    private static boolean pertenceAoUsuario(String chave, String id) {
+        Usuario usuario = usuarios.get(id);
+        return usuario != null && chave.equals(normalizarEmail(usuario.getEmail()));
     }
 
     /**
@@ -125,33 +289,43 @@ public abstract class UsuarioDAO {
     /**
      * Realiza a busca paginada e filtrada de usuários.
      * (Funcionalidade: Busca, Paginação e Filtros Avançados)
+     *
+     * @see #buscarPagina(String, String, Boolean, int, int)
      */
     public List<Usuario> buscarPaginada(String termoBusca, String tipoUsuario, Boolean status, int pagina,
             int tamanhoPagina) {
-        List<Usuario> todosUsuarios = new ArrayList<>(usuarios.values());
-
-        // APLICACAO DE FILTROS
-        List<Usuario> usuariosFiltrados = todosUsuarios.stream()
-                .filter(u -> {
-                    boolean matchTipo = (tipoUsuario == null || tipoUsuario.isEmpty())
-                            || u.getClass().getSimpleName().equalsIgnoreCase(tipoUsuario);
-                    boolean matchStatus = (status == null) || (u.isAtivo() == status);
-                    boolean matchTermo = (termoBusca == null || termoBusca.isEmpty()) ||
-                            u.getNome().toLowerCase().contains(termoBusca.toLowerCase()) ||
-                            u.getEmail().toLowerCase().contains(termoBusca.toLowerCase());
-                    return matchTipo && matchStatus && matchTermo;
-                })
-                .collect(Collectors.toList());
+        return buscarPagina(termoBusca, tipoUsuario, status, pagina, tamanhoPagina).usuarios();
+    }
 
-        // PAGINAÇÃO
-        int inicio = (pagina - 1) * tamanhoPagina;
-        int fim = Math.min(inicio + tamanhoPagina, usuariosFiltrados.size());
+    /**
+     * Busca uma página de usuários e o total filtrado em uma única avaliação
+     * dos filtros.
+     *
+     * O termo é procurado como trecho do nome ou do email, sem diferenciar
+     * maiúsculas. Com 3 ou mais caracteres, só os usuários que têm todos os
+     * trigramas do termo são conferidos; termos menores conferem todos.
+     *
+     * @param termoBusca    Trecho do nome ou email (null/vazio: qualquer um).
+     * @param tipoUsuario   Nome simples da classe, ex: "Professor" (null/vazio:
+     *                      qualquer um).
+     * @param status        Ativo ou não (null: qualquer um).
+     * @param pagina        Número da página, a partir de 1.
+     * @param tamanhoPagina Quantidade de usuários por página.
+     * @return A página (vazia se estiver fora do intervalo) e o total.
+     */
+    public PaginaUsuarios buscarPagina(String termoBusca, String tipoUsuario, Boolean status, int pagina,
+            int tamanhoPagina) {
+        List<Usuario> usuariosFiltrados = filtrar(termoBusca, tipoUsuario, status);
+        int total = usuariosFiltrados.size();
 
-        if (inicio >= usuariosFiltrados.size() || inicio < 0) {
-            return Collections.emptyList();
+        // PAGINAÇÃO (ordem de ID: estável entre chamadas)
+        long inicio = (long) (pagina - 1) * tamanhoPagina;
+        if (inicio >= total || inicio < 0 || tamanhoPagina <= 0) {
+            return new PaginaUsuarios(Collections.emptyList(), total);
         }
-
-        return usuariosFiltrados.subList(inicio, fim);
+        usuariosFiltrados.sort(Comparator.comparing(Usuario::getId));
+        int fim = (int) Math.min(inicio + tamanhoPagina, total);
+        return new PaginaUsuarios(new ArrayList<>(usuariosFiltrados.subList((int) inicio, fim)), total);
     }
 
     /**
@@ -159,16 +333,180 @@ public abstract class UsuarioDAO {
      * Útil para calcular o total de páginas.
      */
     public int contarUsuariosFiltrados(String termoBusca, String tipoUsuario, Boolean status) {
-        return (int) usuarios.values().stream()
-                .filter(u -> {
-                    boolean matchTipo = (tipoUsuario == null || tipoUsuario.isEmpty())
-                            || u.getClass().getSimpleName().equalsIgnoreCase(tipoUsuario);
-                    boolean matchStatus = (status == null) || (u.isAtivo() == status);
-                    boolean matchTermo = (termoBusca == null || termoBusca.isEmpty()) ||
-                            u.getNome().toLowerCase().contains(termoBusca.toLowerCase()) ||
-                            u.getEmail().toLowerCase().contains(termoBusca.toLowerCase());
-                    return matchTipo && matchStatus && matchTermo;
-                })
-                .count();
-    }
-}
\ No newline at end of file
+        return filtrar(termoBusca, tipoUsuario, status).size();
+    }
+
+    /**
+     * Busca uma página de usuários a partir de um cursor (paginação por
+     * chave, em vez de deslocamento).
+     *
+     * A página continua logo depois da última chave da página anterior,
+     * guardada no cursor. O custo de uma página não depende de quantas vieram
+     * antes, e usuários cadastrados durante a navegação não fazem páginas
+     * seguintes repetirem ou pularem usuários já existentes. Na ordem de
+     * criação, os novos aparecem no fim: a ordem é a do primeiro
+     * {@link #salvar(Usuario)} de cada usuário, não a dos IDs (ver
+     * {@link IndiceOrdenadoUsuarios}).
+     *
+     * Sem termo (ou com termo menor que um trigrama), o índice ordenado é
+     * percorrido até completar a página; com termo, os candidatos do índice
+     * de trigramas são filtrados e ordenados.
+     *
+     * @param termoBusca    Trecho do nome ou email (null/vazio: qualquer um).
+     * @param tipoUsuario   Nome simples da classe (null/vazio: qualquer um).
+     * @param status        Ativo ou não (null: qualquer um).
+     * @param ordem         A ordem das páginas.
+     * @param cursor        O {@link PaginaCursor#proximoCursor()} da página
+     *                      anterior, ou null para a primeira página.
+     * @param tamanhoPagina Quantidade de usuários por página.
+     * @return A página e o cursor da seguinte.
+     * @throws IllegalArgumentException se a ordem for nula, o tamanho não for
+     *                                  positivo ou o cursor for inválido (ou
+     *                                  de outra ordem).
+     */
+    public PaginaCursor buscarComCursor(String termoBusca, String tipoUsuario, Boolean status,
+            OrdemUsuarios ordem, String cursor, int tamanhoPagina) {
+        if (ordem == null || tamanhoPagina <= 0) {
+            throw new IllegalArgumentException("Informe a ordem e um tamanho de página positivo");
+        }
+        String depois = decodificarCursor(cursor, ordem);
+        String termo = (termoBusca == null || termoBusca.isEmpty()) ? null : IndiceTrigramas.normalizar(termoBusca);
+
+        NavigableMap<String, String> ordenados;
+        if (termo != null && termo.length() >= IndiceTrigramas.TAMANHO) {
+            ordenados = new TreeMap<>();
+            for (Usuario u : filtrar(termoBusca, tipoUsuario, status)) {
+                String chave = chaveOrdenacao(u, ordem);
+                if (chave != null) {
+                    ordenados.put(chave, u.getId());
+                }
+            }
+        } else {
+            ordenados = ordem == OrdemUsuarios.NOME ? indiceOrdenado.getPorNome() : indiceOrdenado.getPorCriacao();
+        }
+        if (depois != null) {
+            ordenados = ordenados.tailMap(depois, false);
+        }
+
+        List<Usuario> pagina = new ArrayList<>(tamanhoPagina);
+        String ultimaChave = null;
+        for (Map.Entry<String, String> entrada : ordenados.entrySet()) {
+            Usuario u = usuarios.get(entrada.getValue());
+            if (u == null || !atende(u, termo, tipoUsuario, status)) {
+                continue;
+            }
+            if (pagina.size() == tamanhoPagina) {
+                // Há pelo menos mais um usuário: a próxima página existe
+                return new PaginaCursor(pagina, codificarCursor(ordem, ultimaChave));
+            }
+            pagina.add(u);
+            ultimaChave = entrada.getKey();
+        }
+        return new PaginaCursor(pagina, null);
+    }
+
+    private static String chaveOrdenacao(Usuario u, OrdemUsuarios ordem) {
+        return ordem == OrdemUsuarios.NOME ? IndiceOrdenadoUsuarios.chaveNome(u.getNome(), u.getId())
+                : indiceOrdenado.chaveCriacao(u.getId());
+    }
+
+    /**
+     * O cursor é opaco para quem chama: a ordem e a última chave, em Base64.
+     */
+    private static String codificarCursor(OrdemUsuarios ordem, String chave) {
+        byte[] bytes = (ordem.name() + ':' + chave).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String decodificarCursor(String cursor, OrdemUsuarios ordem) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        String conteudo;
+        try {
+            conteudo = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+        String prefixo = ordem.name() + ':';
+        if (!conteudo.startsWith(prefixo)) {
+            throw new IllegalArgumentException("Cursor inválido para a ordem " + ordem);
+        }
+        return conteudo.substring(prefixo.length());
+    }
+
+    /**
+     * Aplica os filtros da busca, partindo dos candidatos do índice de
+     * trigramas quando o termo permite.
+     */
+    private static List<Usuario> filtrar(String termoBusca, String tipoUsuario, Boolean status) {
+        String termo = (termoBusca == null || termoBusca.isEmpty()) ? null : IndiceTrigramas.normalizar(termoBusca);
+
+        Collection<Usuario> candidatos;
+        if (termo != null && termo.length() >= IndiceTrigramas.TAMANHO) {
+            candidatos = new ArrayList<>();
+            for (String id : indiceTrigramas.candidatos(termo)) {
+                Usuario usuario = usuarios.get(id);
+                if (usuario != null) {
+                    candidatos.add(usuario);
+                }
+            }
+        } else {
+            candidatos = usuarios.values();
+        }
+
+        List<Usuario> resultado = new ArrayList<>();
+        for (Usuario u : candidatos) {
+            if (atende(u, termo, tipoUsuario, status)) {
+                resultado.add(u);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Confere os filtros da busca em um usuário.
+     *
+     * @param termo O termo já normalizado (null: qualquer um).
+     */
+    private static boolean atende(Usuario u, String termo, String tipoUsuario, Boolean status) {
+        boolean matchTipo = (tipoUsuario == null || tipoUsuario.isEmpty())
+                || u.getClass().getSimpleName().equalsIgnoreCase(tipoUsuario);
+        boolean matchStatus = (status == null) || (u.isAtivo() == status);
+        // O índice só aponta candidatos: o trecho é conferido no estado atual
+        boolean matchTermo = termo == null || contem(u.getNome(), termo) || contem(u.getEmail(), termo);
+        return matchTipo && matchStatus && matchTermo;
+    }
+
+    private static boolean contem(String texto, String termo) {
+        return texto != null && IndiceTrigramas.normalizar(texto).contains(termo);
+    }
+
+    /**
+     * Troca o gerador de IDs usado para novos usuários. O gerador é chamado
+     * de várias threads ao mesmo tempo e deve ser seguro para isso; IDs
+     * repetidos são descartados na reserva, mas custam novas tentativas.
+     *
+     * @param gerador O novo gerador.
+     * @throws IllegalArgumentException se o gerador for nulo.
+     */
+    public static void setGeradorIds(GeradorIds gerador) {
+        if (gerador == null) {
+            throw new IllegalArgumentException("O gerador de IDs não pode ser nulo");
+        }
+        geradorIds = gerador;
+    }
+
+    // Método auxiliar, útil para testes e benchmarks: limpa o 'banco' em memória e os índices
+    public static void clear() {
+        usuarios.clear();
+        idPorEmail.clear();
+        emailPorId.clear();
+        indiceDisciplinas.limpar();
+        indicePrecos.limpar();
+        indiceGeografico.limpar();
+        indiceTextual.limpar();
+        indiceTrigramas.limpar();
+        indiceOrdenado.limpar();
+    }
+}
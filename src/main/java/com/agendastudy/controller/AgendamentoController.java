@@ -1,8 +1,8 @@
 package com.agendastudy.controller;
 
-import com.agendastudy.DAO.AulaDAO;
 import com.agendastudy.model.Aula;
 import com.agendastudy.model.Professor;
+import com.agendastudy.service.ContextoAplicacao;
 import com.agendastudy.service.ServicoAgendamento; // Serviço de Agendamento
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -44,8 +44,7 @@ public class AgendamentoController {
     @FXML
     public void initialize() {
         // 1. Inicializa Dependências
-        AulaDAO aulaDAO = new AulaDAO();
-        this.servicoAgendamento = new ServicoAgendamento(aulaDAO, new com.agendastudy.DAO.DisponibilidadeDAO());
+        this.servicoAgendamento = ContextoAplicacao.getInstancia().getServicoAgendamento();
 
         dataPicker.setValue(LocalDate.now());
     }
@@ -143,12 +142,9 @@ public class AgendamentoController {
             RelatorioController controller = loader.getController();
             controller.setProfessorAtual(this.professorLogado);
 
-            // Recriar o serviço para o dashboard (precisamos do mapa de aulas)
-            AulaDAO aulaDAO = new AulaDAO();
-            java.util.Map<Professor, List<Aula>> map = new java.util.HashMap<>();
-            map.put(this.professorLogado, aulaDAO.buscarAulasDoProfessor(this.professorLogado));
-
-            controller.setRelatorioService(new com.agendastudy.service.RelatoriodeRendimento(map));
+            // Serviço do dashboard direto sobre o DAO de aulas compartilhado
+            controller.setRelatorioService(
+                    new com.agendastudy.service.RelatoriodeRendimento(ContextoAplicacao.getInstancia().getAulaDAO()));
 
             javafx.stage.Stage stage = (javafx.stage.Stage) agendaContainer.getScene().getWindow();
             stage.setScene(new javafx.scene.Scene(root));
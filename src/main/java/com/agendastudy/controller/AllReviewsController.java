@@ -19,6 +19,7 @@ import com.agendastudy.model.Avaliacao;
 import com.agendastudy.model.Estudante;
 import com.agendastudy.model.Professor;
 import com.agendastudy.model.Aula;
+import com.agendastudy.service.GeradorMiniaturas;
 
 import java.time.LocalDateTime;
 
@@ -151,11 +152,13 @@ public class AllReviewsController {
         Avatar avatar = new Avatar();
         avatar.setRadius(25.0); // Raio 25 como no seu FXML original
         avatar.getStyleClass().add("reviewer-avatar");
-        try {
-            // Carrega a imagem dummy
-            avatar.setImage(new Image(getClass().getResourceAsStream("/com/agendastudy/image/Dummyphoto.jpg")));
-        } catch (Exception e) {
-            System.err.println("Erro ao carregar Dummyphoto.jpg: " + e.getMessage());
+        // Miniatura da foto do estudante (ou a imagem dummy), decodificada uma vez só
+        Image fotoAvatar = CacheImagens.getInstancia().fotoOuPadrao(review.getEstudante().getHashFoto(),
+                GeradorMiniaturas.LADOS[0], "/com/agendastudy/image/Dummyphoto.jpg");
+        if (fotoAvatar != null) {
+            avatar.setImage(fotoAvatar);
+        } else {
+            System.err.println("Erro ao carregar Dummyphoto.jpg");
         }
 
         // --- Conteúdo (Nome e Comentário) ---
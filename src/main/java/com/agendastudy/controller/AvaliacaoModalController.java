@@ -1,9 +1,9 @@
 package com.agendastudy.controller;
 
-import com.agendastudy.DAO.AvaliacaoDAO;
 import com.agendastudy.DAO.EstudanteDAO;
 import com.agendastudy.model.Aula;
 import com.agendastudy.model.Estudante;
+import com.agendastudy.service.ContextoAplicacao;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.input.MouseEvent;
@@ -20,7 +20,7 @@ public class AvaliacaoModalController {
     private Aula aula;
     private Estudante estudante;
 
-    private final EstudanteDAO estudanteDAO = new EstudanteDAO(new AvaliacaoDAO());
+    private final EstudanteDAO estudanteDAO = ContextoAplicacao.getInstancia().getEstudanteDAO();
 
     private int notaSelecionada = 0;
 
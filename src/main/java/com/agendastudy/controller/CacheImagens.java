@@ -0,0 +1,129 @@
+package com.agendastudy.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javafx.scene.image.Image;
+
+import com.agendastudy.DAO.ArmazemFotos;
+import com.agendastudy.service.CacheLRU;
+import com.agendastudy.service.GeradorMiniaturas;
+
+/**
+ * Cache das imagens já decodificadas, compartilhado por todas as telas.
+ *
+ * Ícones e fotos de perfil são decodificados uma única vez e reaproveitados
+ * enquanto couberem no limite de memória (LRU, pesado pelos bytes dos
+ * pixels: largura x altura x 4). O limite, em MB, pode ser configurado pela
+ * propriedade de sistema {@code agendastudy.imagens.cache.mb}.
+ *
+ * Fotos de perfil são lidas da miniatura do tamanho pedido
+ * ({@link GeradorMiniaturas}); se ela ainda não existir, o original é
+ * decodificado já reduzido e a geração da miniatura é agendada.
+ *
+ * Os métodos devem ser chamados na thread da interface.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CacheImagens {
+
+    private static final long MEGABYTE = 1024L * 1024L;
+    private static final long LIMITE_PADRAO_MB = 32;
+
+    private static final CacheImagens instancia = new CacheImagens(
+            Long.getLong("agendastudy.imagens.cache.mb", LIMITE_PADRAO_MB) * MEGABYTE);
+
+    private final CacheLRU<String, Image> cache;
+
+    private CacheImagens(long limiteBytes) {
+        this.cache = new CacheLRU<>(limiteBytes,
+                imagem -> (long) imagem.getWidth() * (long) imagem.getHeight() * 4L);
+    }
+
+    public static CacheImagens getInstancia() {
+        return instancia;
+    }
+
+    /**
+     * Retorna uma imagem dos recursos da aplicação (ícones, avatar padrão).
+     *
+     * @param caminho Caminho do recurso (ex: "/com/agendastudy/image/check_icon.png").
+     * @return A imagem, ou null se o recurso não existir ou não puder ser
+     *         decodificado.
+     */
+    public Image recurso(String caminho) {
+        return cache.obter(caminho, c -> {
+            try (InputStream entrada = CacheImagens.class.getResourceAsStream(c)) {
+                return entrada == null ? null : valida(new Image(entrada));
+            } catch (IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Retorna a foto de perfil reduzida para caber em um quadrado de
+     * {@code lado} pixels.
+     *
+     * @param hash O hash da foto no {@link ArmazemFotos} (pode ser null).
+     * @param lado Um dos lados de {@link GeradorMiniaturas#LADOS}.
+     * @return A imagem, ou null se não houver foto.
+     */
+    public Image foto(String hash, int lado) {
+        if (hash == null) {
+            return null;
+        }
+        return cache.obter(hash + '_' + lado, chave -> carregarFoto(hash, lado));
+    }
+
+    /**
+     * Retorna a foto de perfil ou, se não houver, a imagem padrão.
+     */
+    public Image fotoOuPadrao(String hash, int lado, String caminhoPadrao) {
+        Image foto = foto(hash, lado);
+        return foto != null ? foto : recurso(caminhoPadrao);
+    }
+
+    /**
+     * Descarta as variantes em cache de uma foto.
+     */
+    public void invalidarFoto(String hash) {
+        for (int lado : GeradorMiniaturas.LADOS) {
+            cache.invalidar(hash + '_' + lado);
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private Image carregarFoto(String hash, int lado) {
+        ArmazemFotos armazem = ArmazemFotos.getInstancia();
+        try (InputStream miniatura = armazem.abrirVariante(hash, lado)) {
+            if (miniatura != null) {
+                return valida(new Image(miniatura));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        // Miniatura ainda não gerada: o JavaFX já decodifica o original reduzido
+        GeradorMiniaturas.getInstancia().gerar(hash);
+        try (InputStream original = armazem.abrir(hash)) {
+            return original == null ? null : valida(new Image(original, lado, lado, true, true));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Imagens com erro de decodificação não entram no cache.
+     */
+    private static Image valida(Image imagem) {
+        return imagem.isError() ? null : imagem;
+    }
+}
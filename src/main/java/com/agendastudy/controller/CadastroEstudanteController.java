@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.agendastudy.DAO.EstudanteDAO;
 import com.agendastudy.model.Estudante;
+import com.agendastudy.service.ContextoAplicacao;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ListView;
@@ -18,15 +19,13 @@ import javafx.scene.control.TextField;
  * e interação com o EstudanteDAO.
  *
  * @author VINÍCIUS ALVES RIBEIRO SILVA
- * @version 1.0
+ * @version 1.1
  * @since 2025-11-13
  */
 public class CadastroEstudanteController {
 
     /** DAO para operações de persistência de estudantes */
-    // ATENÇÃO: Esta linha causará erro pois EstudanteDAO agora requer AvaliacaoDAO
-    // no construtor.
-    private EstudanteDAO estudanteDAO = new EstudanteDAO();
+    private final EstudanteDAO estudanteDAO = ContextoAplicacao.getInstancia().getEstudanteDAO();
 
     // --- Campos FXML ---
     @FXML
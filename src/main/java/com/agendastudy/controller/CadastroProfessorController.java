@@ -6,7 +6,7 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import javafx.scene.control.ListView;
-import com.agendastudy.DAO.ProfessorDAO;
+import com.agendastudy.DAO.ArmazemFotos;
 import com.agendastudy.model.Professor;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
@@ -15,20 +15,26 @@ import javafx.scene.control.TextField;
 import javafx.stage.FileChooser;
 import javafx.scene.control.PasswordField;
 import javafx.scene.control.TextArea;
+import com.agendastudy.service.ContextoAplicacao;
+import com.agendastudy.service.GeradorMiniaturas;
 import com.agendastudy.service.ProfessorService;
 
 /**
  * Controlador para a interface de cadastro de professores.
  * Implementa a lógica de interface para cadastro, validação e persistência de
  * dados de professores.
+ *
+ * O preço da hora-aula é informado aqui; não há tela de edição do perfil do
+ * professor, então depois do cadastro ele só muda pelo
+ * {@link ProfessorService#atualizarProfessor(Professor)}.
  * 
  * @author Paulo Vitor Dias Soares
- * @version 2.0
+ * @version 2.2
  * @since 2025
  */
 public class CadastroProfessorController implements ScreenController {
 
-    private final ProfessorService professorService = new ProfessorService(new ProfessorDAO());
+    private final ProfessorService professorService = ContextoAplicacao.getInstancia().getProfessorService();
     private MainApp mainApp;
 
     @FXML
@@ -40,6 +46,8 @@ public class CadastroProfessorController implements ScreenController {
     @FXML
     private TextField fieldTelefone;
     @FXML
+    private TextField fieldPrecoHora;
+    @FXML
     private TextArea fieldBiografia;
     @FXML
     private TextField fieldNovaDisciplina;
@@ -236,20 +244,47 @@ public class CadastroProfessorController implements ScreenController {
      * Cria um objeto Professor com os dados preenchidos no formulário.
      *
      * @return Objeto Professor com os dados do formulário
+     * @throws IOException se a foto não puder ser gravada no armazém
      */
-    private Professor criarProfessorComDadosFormulario() {
+    private Professor criarProfessorComDadosFormulario() throws IOException {
         Professor professor = new Professor(null, fieldNome.getText(), fieldEmail.getText(), fieldSenha.getText());
         professor.setTelefone(fieldTelefone.getText());
+        professor.setPrecoHora(lerPrecoHora());
         professor.setBiografia(fieldBiografia.getText());
         professor.setDisciplinas(new ArrayList<>(disciplinas));
         professor.setQualificacoes(new ArrayList<>(qualificacoes));
 
         if (fotoTemporaria != null) {
-            professor.setFotoPerfil(fotoTemporaria, tipoImagemTemporaria);
+            professor.setHashFoto(ArmazemFotos.getInstancia().salvar(fotoTemporaria));
+            professor.setTipoImagem(tipoImagemTemporaria);
+            // Miniaturas geradas em segundo plano, sem travar o cadastro
+            GeradorMiniaturas.getInstancia().gerar(professor.getHashFoto());
         }
         return professor;
     }
 
+    /**
+     * Converte o preço da hora-aula digitado (aceita vírgula ou ponto como
+     * separador decimal e o prefixo "R$").
+     *
+     * @return O preço em reais, ou zero se o campo estiver vazio
+     * @throws IllegalArgumentException se o valor não for um número válido
+     */
+    private double lerPrecoHora() {
+        String texto = fieldPrecoHora.getText() == null ? "" : fieldPrecoHora.getText().trim();
+        if (texto.startsWith("R$")) {
+            texto = texto.substring(2).trim();
+        }
+        if (texto.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(texto.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Informe o preço da hora-aula em reais, ex: 80,00");
+        }
+    }
+
     /**
      * Valida os campos básicos obrigatórios do formulário.
      *
@@ -291,6 +326,7 @@ public class CadastroProfessorController implements ScreenController {
         fieldEmail.clear();
         fieldSenha.clear();
         fieldTelefone.clear();
+        fieldPrecoHora.clear();
         fieldBiografia.clear();
         fieldNovaDisciplina.clear();
         fieldNovaQualificacao.clear();
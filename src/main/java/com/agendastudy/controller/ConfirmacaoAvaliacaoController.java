@@ -11,7 +11,7 @@ import javafx.stage.Stage;
  *
  * @author MATHEUS PEREIRA RODRIGUES
  * @since 2025-11-15
- * @version 1.2
+ * @version 1.3
  */
 public class ConfirmacaoAvaliacaoController {
 
@@ -23,15 +23,13 @@ public class ConfirmacaoAvaliacaoController {
      */
     @FXML
     private void initialize() {
-        try {
-            String imagePath = "/com/agendastudy/image/check_icon.png";
-
-            Image image = new Image(getClass().getResourceAsStream(imagePath));
+        String imagePath = "/com/agendastudy/image/check_icon.png";
 
+        Image image = CacheImagens.getInstancia().recurso(imagePath);
+        if (image != null) {
             iconCheck.setImage(image);
-
-        } catch (Exception e) {
-            System.err.println("Erro ao carregar a imagem: " + e.getMessage());
+        } else {
+            System.err.println("Erro ao carregar a imagem: " + imagePath);
         }
     }
 
@@ -4,6 +4,7 @@ import com.agendastudy.DAO.UsuarioDAO;
 import com.agendastudy.model.Estudante;
 import com.agendastudy.model.Professor;
 import com.agendastudy.model.Usuario;
+import com.agendastudy.service.ContextoAplicacao;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -28,8 +29,7 @@ public class LoginController {
     @FXML
     private PasswordField senhaField;
 
-    private final UsuarioDAO usuarioDAO = new UsuarioDAO() {
-    };
+    private final UsuarioDAO usuarioDAO = ContextoAplicacao.getInstancia().getUsuarioDAO();
 
     @FXML
     private void handleLogin() {
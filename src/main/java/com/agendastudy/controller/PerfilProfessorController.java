@@ -17,13 +17,14 @@ import javafx.scene.Node;
 import com.agendastudy.model.Professor;
 
 import java.io.IOException;
+import java.util.Locale;
 
 /**
  * Controller para a tela de Perfil do Professor (ProfessorProfile.fxml).
  * USA DADOS FALSOS (DUMMY DATA) ENQUANTO O BACKEND ESTIVER QUEBRADO.
  *
  * @author Alexandro Costa Santos
- * @version 1.0
+ * @version 1.3
  * @since 2025-11-15
  */
 public class PerfilProfessorController {
@@ -62,6 +63,10 @@ public class PerfilProfessorController {
     @FXML
     private Button btnVerTodas;
 
+    private static final String FOTO_PADRAO = "/com/agendastudy/image/professor.png";
+    private static final int LADO_FOTO = 128; // ImageView de 120x120
+    private static final Locale LOCALE_BR = Locale.forLanguageTag("pt-BR");
+
     private Professor professorAtual;
 
     /**
@@ -74,11 +79,11 @@ public class PerfilProfessorController {
         // --- DADOS FALSOS (para teste visual) ---
 
         // Tenta carregar a imagem de professor (se falhar, ignora)
-        try {
-            Image profImg = new Image(getClass().getResourceAsStream("/com/agendastudy/image/professor.png"));
+        Image profImg = CacheImagens.getInstancia().recurso(FOTO_PADRAO);
+        if (profImg != null) {
             imgProfessor.setImage(profImg);
-        } catch (Exception e) {
-            System.err.println("Erro ao carregar imagem 'professor.png': " + e.getMessage());
+        } else {
+            System.err.println("Erro ao carregar imagem 'professor.png'");
         }
 
         // Preenche os labels com dados falsos
@@ -104,6 +109,13 @@ public class PerfilProfessorController {
         this.professorAtual = professor;
         if (this.professorAtual != null) {
             labelNome.setText(professor.getNome());
+            Image foto = CacheImagens.getInstancia().fotoOuPadrao(professor.getHashFoto(), LADO_FOTO, FOTO_PADRAO);
+            if (foto != null) {
+                imgProfessor.setImage(foto);
+            }
+            labelPreco.setText(professor.getPrecoHora() > 0
+                    ? String.format(LOCALE_BR, "R$ %.2f / hora", professor.getPrecoHora())
+                    : "Preço a combinar");
             // Aqui você poderia preencher outros campos reais se o model tivesse
         }
     }
@@ -182,12 +194,9 @@ public class PerfilProfessorController {
                 RelatorioController controller = loader.getController();
                 controller.setProfessorAtual(this.professorAtual);
 
-                // Inicializar Serviço para o relatório (Simulado ou Real)
-                com.agendastudy.DAO.AulaDAO aulaDAO = new com.agendastudy.DAO.AulaDAO();
-                java.util.List<com.agendastudy.model.Aula> aulas = aulaDAO.buscarAulasDoProfessor(this.professorAtual);
-                java.util.Map<Professor, java.util.List<com.agendastudy.model.Aula>> map = new java.util.HashMap<>();
-                map.put(this.professorAtual, aulas);
-                controller.setRelatorioService(new com.agendastudy.service.RelatoriodeRendimento(map));
+                // Relatório direto sobre o DAO (inclui as aulas canceladas nas taxas)
+                controller.setRelatorioService(new com.agendastudy.service.RelatoriodeRendimento(
+                        com.agendastudy.service.ContextoAplicacao.getInstancia().getAulaDAO()));
                 controller.initialize();
 
             } else if (caminhoFXML.contains("agendamento.fxml")) {
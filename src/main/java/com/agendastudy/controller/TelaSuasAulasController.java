@@ -1,9 +1,12 @@
 package com.agendastudy.controller;
 
-import com.agendastudy.DAO.AvaliacaoDAO;
 import com.agendastudy.DAO.EstudanteDAO;
 import com.agendastudy.model.Aula;
 import com.agendastudy.model.Estudante;
+import com.agendastudy.service.ContextoAplicacao;
+import javafx.beans.value.ChangeListener;
+import javafx.concurrent.Task;
+import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -13,18 +16,27 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.geometry.Pos;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
 
 import javafx.scene.input.MouseEvent;
 
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 
@@ -32,8 +44,12 @@ import javafx.scene.control.Alert.AlertType;
  * Controller da tela "Suas Aulas", onde mostra as aulas agendadas do estudante,
  * aulas concluídas para serem avaliadas e o histórico de aulas feitas.
  *
+ * As consultas de cada seção rodam em segundo plano ({@link Task}), fora da
+ * thread da interface: a seção mostra "Carregando..." e é preenchida quando a
+ * sua consulta termina. Sair da tela cancela as consultas em andamento.
+ *
  * @author MATHEUS PEREIRA RODRIGUES
- * @version 3.0
+ * @version 3.4
  * @since 2025-11-16
  */
 public class TelaSuasAulasController {
@@ -42,7 +58,30 @@ public class TelaSuasAulasController {
     private Label btnVoltar;
 
     private Estudante estudante;
-    private final EstudanteDAO estudanteDAO = new EstudanteDAO(new AvaliacaoDAO());
+    private final EstudanteDAO estudanteDAO = ContextoAplicacao.getInstancia().getEstudanteDAO();
+
+    // Threads daemon para as consultas das telas (não impedem o fim da aplicação)
+    private static final ExecutorService CARREGADORES = Executors.newFixedThreadPool(2, tarefa -> {
+        Thread t = new Thread(tarefa, "suas-aulas-carregamento");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Consulta em andamento de cada seção (acessado só na thread da interface)
+    private final Map<Pane, Task<?>> carregamentos = new HashMap<>();
+
+    // Registrados uma única vez e movidos junto com a cena/janela da tela
+    private final EventHandler<WindowEvent> aoEsconderJanela = e -> cancelarCarregamentos();
+    private final ChangeListener<Window> aoTrocarJanela = (obs, janelaAntiga, janela) -> {
+        if (janelaAntiga != null) {
+            janelaAntiga.removeEventHandler(WindowEvent.WINDOW_HIDDEN, aoEsconderJanela);
+        }
+        if (janela != null) {
+            janela.addEventHandler(WindowEvent.WINDOW_HIDDEN, aoEsconderJanela);
+        } else if (janelaAntiga != null) {
+            cancelarCarregamentos();
+        }
+    };
 
     @FXML
     private VBox cardAulaPrincipal;
@@ -68,6 +107,29 @@ public class TelaSuasAulasController {
     @FXML
     private ImageView btnPerfil;
 
+    /**
+     * Cancela as consultas em andamento quando o usuário sai da tela: ao
+     * fechar a janela ou quando a janela passa a mostrar outra cena. Os
+     * ouvintes saem da cena e da janela antigas, para não se acumularem.
+     */
+    @FXML
+    private void initialize() {
+        cardAulaPrincipal.sceneProperty().addListener((obs, cenaAntiga, cena) -> {
+            if (cenaAntiga != null) {
+                cenaAntiga.windowProperty().removeListener(aoTrocarJanela);
+                aoTrocarJanela.changed(cenaAntiga.windowProperty(), cenaAntiga.getWindow(), null);
+            }
+            if (cena == null) {
+                cancelarCarregamentos();
+                return;
+            }
+            cena.windowProperty().addListener(aoTrocarJanela);
+            if (cena.getWindow() != null) {
+                aoTrocarJanela.changed(cena.windowProperty(), null, cena.getWindow());
+            }
+        });
+    }
+
     /**
      * Configura o estudante atual e recarrega todas as seções da tela.
      *
@@ -76,6 +138,7 @@ public class TelaSuasAulasController {
     public void configurarEstudante(Estudante estudante) {
         this.estudante = estudante;
 
+        cancelarCarregamentos();
         carregarAulasAgendadas();
         carregarAulasConcluidas();
         carregarHistorico();
@@ -89,6 +152,7 @@ public class TelaSuasAulasController {
      */
     @FXML
     private void voltar(MouseEvent event) {
+        cancelarCarregamentos();
         Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
         stage.close();
     }
@@ -98,11 +162,18 @@ public class TelaSuasAulasController {
      * Carrega e exibe as aulas agendadas (card principal + cards restantes).
      */
     private void carregarAulasAgendadas() {
-        cardAulaPrincipal.getChildren().clear();
         containerRestantes.getChildren().clear();
+        labelStatusAula.setText("");
+        Estudante alvo = estudante;
+        carregar(cardAulaPrincipal, () -> estudanteDAO.getAulasAgendadas(alvo), this::exibirAulasAgendadas);
+    }
 
-        List<Aula> aulas = estudanteDAO.getAulasAgendadas(estudante);
-
+    /**
+     * Preenche o card principal e os cards restantes com as aulas agendadas.
+     *
+     * @param aulas Aulas agendadas do estudante
+     */
+    private void exibirAulasAgendadas(List<Aula> aulas) {
         if (aulas.isEmpty()) {
             Label nenhum = new Label("Nenhuma aula agendada");
             nenhum.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
@@ -198,13 +269,8 @@ public class TelaSuasAulasController {
 
             CancelarAulaController controller = loader.getController();
 
-            // Configurar dependências
-            com.agendastudy.DAO.AulaDAO aulaDAO = new com.agendastudy.DAO.AulaDAO();
-            com.agendastudy.DAO.DisponibilidadeDAO dispDAO = new com.agendastudy.DAO.DisponibilidadeDAO();
-            com.agendastudy.service.ServicoAgendamento service = new com.agendastudy.service.ServicoAgendamento(aulaDAO,
-                    dispDAO);
-
-            controller.setServicoAgendamento(service);
+            // Configurar dependências (serviço compartilhado pelo contexto)
+            controller.setServicoAgendamento(ContextoAplicacao.getInstancia().getServicoAgendamento());
             controller.carregarAula(aula, this.estudante);
 
             Stage stage = new Stage();
@@ -228,22 +294,14 @@ public class TelaSuasAulasController {
      * Exibe card especial caso não existam.
      */
     private void carregarAulasConcluidas() {
-        containerAulasConcluidas.getChildren().clear();
-
-        List<Aula> aulas = estudanteDAO.getAulasConcluidas(estudante);
-
-        boolean temPendentes = false;
+        Estudante alvo = estudante;
+        carregar(containerAulasConcluidas, () -> estudanteDAO.getAulasAAvaliar(alvo), pendentes -> {
+            pendentes.forEach(aula -> containerAulasConcluidas.getChildren().add(criarCardAvaliacao(aula)));
 
-        for (Aula aula : aulas) {
-            if (!estudanteDAO.jaAvaliouAula(estudante, aula)) {
-                temPendentes = true;
-                containerAulasConcluidas.getChildren().add(criarCardAvaliacao(aula));
+            if (pendentes.isEmpty()) {
+                containerAulasConcluidas.getChildren().add(criarCardSemPendentes());
             }
-        }
-
-        if (!temPendentes) {
-            containerAulasConcluidas.getChildren().add(criarCardSemPendentes());
-        }
+        });
     }
 
     /**
@@ -336,15 +394,13 @@ public class TelaSuasAulasController {
      * Carrega os 3 cards mais recentes de aulas concluídas.
      */
     private void carregarHistorico() {
-        containerHistorico.getChildren().clear();
-
-        List<Aula> aulas = estudanteDAO.getAulasConcluidas(estudante)
+        Estudante alvo = estudante;
+        carregar(containerHistorico, () -> estudanteDAO.getAulasConcluidas(alvo)
                 .stream()
                 .sorted(Comparator.comparing(Aula::getDataHora).reversed())
                 .limit(3)
-                .toList();
-
-        aulas.forEach(a -> containerHistorico.getChildren().add(criarCardHistorico(a)));
+                .toList(),
+                aulas -> aulas.forEach(a -> containerHistorico.getChildren().add(criarCardHistorico(a))));
     }
 
     /**
@@ -431,6 +487,59 @@ public class TelaSuasAulasController {
         mostrarAlerta(AlertType.INFORMATION, "Em Desenvolvimento", "O perfil do estudante estará disponível em breve!");
     }
 
+    // SEÇÃO: CARREGAMENTO EM SEGUNDO PLANO
+    /**
+     * Executa a consulta de uma seção em segundo plano. Enquanto isso, a seção
+     * mostra um aviso de carregamento; ao terminar, ela é limpa e preenchida
+     * na thread da interface. Uma nova consulta da mesma seção cancela a
+     * anterior.
+     *
+     * @param secao    Container da seção
+     * @param consulta Consulta aos DAOs (roda fora da thread da interface)
+     * @param exibir   Preenche a seção com o resultado (thread da interface)
+     */
+    private <T> void carregar(Pane secao, Callable<T> consulta, Consumer<T> exibir) {
+        Task<?> anterior = carregamentos.remove(secao);
+        if (anterior != null) {
+            anterior.cancel(true);
+        }
+
+        Label carregando = new Label("Carregando...");
+        carregando.setStyle("-fx-font-size: 14px; -fx-text-fill: #808080;");
+        secao.getChildren().setAll(carregando);
+
+        Task<T> tarefa = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return consulta.call();
+            }
+        };
+        tarefa.setOnSucceeded(e -> {
+            carregamentos.remove(secao, tarefa);
+            secao.getChildren().clear();
+            exibir.accept(tarefa.getValue());
+        });
+        tarefa.setOnFailed(e -> {
+            carregamentos.remove(secao, tarefa);
+            tarefa.getException().printStackTrace();
+            Label erro = new Label("Não foi possível carregar.");
+            erro.setStyle("-fx-font-size: 14px; -fx-text-fill: #C0392B;");
+            secao.getChildren().setAll(erro);
+        });
+
+        carregamentos.put(secao, tarefa);
+        CARREGADORES.execute(tarefa);
+    }
+
+    /**
+     * Cancela todas as consultas em andamento (ex: ao sair da tela). Os
+     * resultados que ainda chegarem são descartados.
+     */
+    private void cancelarCarregamentos() {
+        carregamentos.values().forEach(tarefa -> tarefa.cancel(true));
+        carregamentos.clear();
+    }
+
     private void mostrarAlerta(AlertType tipo, String titulo, String mensagem) {
         Alert alerta = new Alert(tipo);
         alerta.setTitle(titulo);
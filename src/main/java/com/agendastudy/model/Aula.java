@@ -7,12 +7,16 @@ import java.util.Objects;
 /**
  * Representa uma Aula agendada na plataforma.
  * Conecta um Professor e um Estudante (opcionalmente) em um horário específico.
+ * As mudanças de status são avisadas a um {@link ObservadorStatusAula}
+ * (o DAO de aulas), quando houver.
  *
  * @author VINICIUS ALVES RIBEIRO SILVA
- * @version 1.0
+ * @version 1.1
  * @since 2025-11-11
  */
 public class Aula implements Serializable {
+    private static final long serialVersionUID = 4001806159939349805L;
+
     private String idAula;
     private String titulo;
     private String descricao;
@@ -23,6 +27,9 @@ public class Aula implements Serializable {
     private int duracaoMinutos;
     private StatusAula status; // Enum criado para as estatísticas do relatório de rendimento
 
+    // Não é serializado: quem carrega a aula registra o seu próprio observador
+    private transient volatile ObservadorStatusAula observadorStatus;
+
     /**
      * Construtor da classe Aula.
      * 
@@ -101,7 +108,14 @@ public class Aula implements Serializable {
     }
 
     public void setStatus(StatusAula status) {
-        this.status = status;
+        mudarStatus(status);
+    }
+
+    /**
+     * Define quem é avisado das mudanças de status (null para nenhum).
+     */
+    public void setObservadorStatus(ObservadorStatusAula observadorStatus) {
+        this.observadorStatus = observadorStatus;
     }
 
     public int getDuracaoMinutos() {
@@ -123,14 +137,26 @@ public class Aula implements Serializable {
      * Marca a aula como cancelada pelo aluno.
      */
     public void cancelarPorAluno() {
-        this.status = StatusAula.CANCELADA_ALUNO;
+        mudarStatus(StatusAula.CANCELADA_ALUNO);
     }
 
     /**
      * Marca a aula como cancelada pelo professor.
      */
     public void cancelarPorProfessor() {
-        this.status = StatusAula.CANCELADA_PROFESSOR;
+        mudarStatus(StatusAula.CANCELADA_PROFESSOR);
+    }
+
+    /**
+     * Troca o status e avisa o observador, se o status de fato mudou.
+     */
+    private void mudarStatus(StatusAula novo) {
+        StatusAula anterior = this.status;
+        this.status = novo;
+        ObservadorStatusAula observador = this.observadorStatus;
+        if (observador != null && anterior != novo) {
+            observador.statusAlterado(this, anterior);
+        }
     }
 
     public boolean isCancelada() {
@@ -7,10 +7,15 @@ import java.time.LocalDateTime;
  * Representa a Avaliação de uma Aula feita por um Estudante.
  *
  * @author MATHEUS PEREIRA RODRIGUES
- * @version 1.0
+ * @version 1.1
  * @since 2025-11-12
  */
 public class Avaliacao implements Serializable {
+    // Fixo (assim como em Usuario, Professor, Estudante e Aula) no valor
+    // gerado pela versão original da classe, para que o avaliacoes.ser antigo
+    // continue legível na migração para o formato binário
+    private static final long serialVersionUID = -693003874620409330L;
+
     private String idAvaliacao;
     private Estudante estudante;
     private Aula aula;
@@ -29,13 +34,29 @@ public class Avaliacao implements Serializable {
      * @param comentario  O comentário textual.
      */
     public Avaliacao(String idAvaliacao, Estudante estudante, Aula aula, int nota, String comentario) {
+        this(idAvaliacao, estudante, aula, nota, comentario, LocalDateTime.now());
+    }
+
+    /**
+     * Construtor usado ao recarregar uma avaliação já registrada, preservando
+     * a data original.
+     *
+     * @param idAvaliacao   O ID único da avaliação.
+     * @param estudante     O Estudante que fez a avaliação.
+     * @param aula          A Aula que foi avaliada.
+     * @param nota          A nota (1-5) atribuída.
+     * @param comentario    O comentário textual.
+     * @param dataAvaliacao A data em que a avaliação foi feita.
+     */
+    public Avaliacao(String idAvaliacao, Estudante estudante, Aula aula, int nota, String comentario,
+            LocalDateTime dataAvaliacao) {
         this.idAvaliacao = idAvaliacao;
         this.estudante = estudante;
         this.aula = aula;
         this.professor = aula.getProfessor(); // pega automaticamente o professor da aula
         this.setNota(nota); // Usa o setter para validar
         this.comentario = comentario;
-        this.dataAvaliacao = LocalDateTime.now();
+        this.dataAvaliacao = dataAvaliacao;
     }
 
     // --- Getters e Setters ---
@@ -0,0 +1,84 @@
+package com.agendastudy.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Ponto geográfico (latitude e longitude em graus decimais, WGS84).
+ *
+ * Classe imutável usada na localização dos professores e na origem das
+ * buscas por distância.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Coordenadas implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Raio médio da Terra, em km. */
+    public static final double RAIO_TERRA_KM = 6371.0088;
+
+    private final double latitude;
+    private final double longitude;
+
+    /**
+     * @param latitude  Latitude, de -90 a 90.
+     * @param longitude Longitude, de -180 a 180.
+     * @throws IllegalArgumentException se algum valor estiver fora do
+     *                                  intervalo.
+     */
+    public Coordenadas(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Coordenadas inválidas: " + latitude + ", " + longitude);
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Distância em linha reta (ortodrômica) até outro ponto, pela fórmula de
+     * haversine.
+     *
+     * @param outra O outro ponto.
+     * @return A distância em km.
+     */
+    public double distanciaKm(Coordenadas outra) {
+        double lat1 = Math.toRadians(latitude);
+        double lat2 = Math.toRadians(outra.latitude);
+        double senoLat = Math.sin((lat2 - lat1) / 2);
+        double senoLon = Math.sin(Math.toRadians(outra.longitude - longitude) / 2);
+        double a = senoLat * senoLat + Math.cos(lat1) * Math.cos(lat2) * senoLon * senoLon;
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Coordenadas)) {
+            return false;
+        }
+        Coordenadas outra = (Coordenadas) o;
+        return Double.compare(latitude, outra.latitude) == 0 && Double.compare(longitude, outra.longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(latitude, longitude);
+    }
+
+    @Override
+    public String toString() {
+        return latitude + "," + longitude;
+    }
+}
@@ -0,0 +1,135 @@
+package com.agendastudy.model;
+
+import java.util.Arrays;
+
+/**
+ * Agregado das avaliações recebidas por um professor: quantidade, soma,
+ * soma dos quadrados e histograma das notas de 1 a 5.
+ *
+ * É imutável: cada nova avaliação gera um novo agregado (ver
+ * {@link #somar(EstatisticasAvaliacao)}), o que permite leituras sem
+ * bloqueio. Média, variância e distribuição são calculadas em O(1).
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class EstatisticasAvaliacao {
+
+    /** Agregado de um professor sem avaliações. */
+    public static final EstatisticasAvaliacao VAZIA = new EstatisticasAvaliacao(0, 0, 0, new long[5]);
+
+    private final long total;
+    private final long soma;
+    private final long somaQuadrados;
+    private final long[] distribuicao; // índice 0 = nota 1, ..., índice 4 = nota 5
+
+    private EstatisticasAvaliacao(long total, long soma, long somaQuadrados, long[] distribuicao) {
+        this.total = total;
+        this.soma = soma;
+        this.somaQuadrados = somaQuadrados;
+        this.distribuicao = distribuicao;
+    }
+
+    /**
+     * Cria o agregado de uma única nota.
+     *
+     * @param nota A nota (1-5).
+     * @return O agregado contendo apenas essa nota.
+     * @throws IllegalArgumentException se a nota estiver fora do intervalo.
+     */
+    public static EstatisticasAvaliacao deNota(int nota) {
+        if (nota < 1 || nota > 5) {
+            throw new IllegalArgumentException("A nota deve ser entre 1 e 5");
+        }
+        long[] distribuicao = new long[5];
+        distribuicao[nota - 1] = 1;
+        return new EstatisticasAvaliacao(1, nota, (long) nota * nota, distribuicao);
+    }
+
+    /**
+     * Combina dois agregados (usado como função de merge no mapa do DAO).
+     *
+     * @param outra O agregado a ser somado.
+     * @return Um novo agregado com a soma dos dois.
+     */
+    public EstatisticasAvaliacao somar(EstatisticasAvaliacao outra) {
+        long[] combinada = new long[5];
+        for (int i = 0; i < combinada.length; i++) {
+            combinada[i] = distribuicao[i] + outra.distribuicao[i];
+        }
+        return new EstatisticasAvaliacao(total + outra.total, soma + outra.soma,
+                somaQuadrados + outra.somaQuadrados, combinada);
+    }
+
+    // --- Getters ---
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getSoma() {
+        return soma;
+    }
+
+    public long getSomaQuadrados() {
+        return somaQuadrados;
+    }
+
+    /**
+     * @return A média das notas (0.0 se não houver avaliações).
+     */
+    public double getMedia() {
+        return total == 0 ? 0.0 : (double) soma / total;
+    }
+
+    /**
+     * @return A variância populacional das notas (0.0 se não houver
+     *         avaliações).
+     */
+    public double getVariancia() {
+        if (total == 0) {
+            return 0.0;
+        }
+        double media = getMedia();
+        // E[x²] - E[x]², limitado a zero por causa de arredondamentos
+        return Math.max(0.0, (double) somaQuadrados / total - media * media);
+    }
+
+    /**
+     * @return O desvio padrão populacional das notas.
+     */
+    public double getDesvioPadrao() {
+        return Math.sqrt(getVariancia());
+    }
+
+    /**
+     * Retorna quantas avaliações receberam uma determinada nota.
+     *
+     * @param nota A nota (1-5).
+     * @return A quantidade de avaliações com essa nota.
+     */
+    public long getQuantidadeComNota(int nota) {
+        if (nota < 1 || nota > 5) {
+            throw new IllegalArgumentException("A nota deve ser entre 1 e 5");
+        }
+        return distribuicao[nota - 1];
+    }
+
+    /**
+     * @return Cópia do histograma (índice 0 = nota 1, ..., índice 4 = nota 5).
+     */
+    public long[] getDistribuicao() {
+        return Arrays.copyOf(distribuicao, distribuicao.length);
+    }
+
+    @Override
+    public String toString() {
+        return "EstatisticasAvaliacao{" +
+                "total=" + total +
+                ", media=" + getMedia() +
+                ", variancia=" + getVariancia() +
+                ", distribuicao=" + Arrays.toString(distribuicao) +
+                '}';
+    }
+}
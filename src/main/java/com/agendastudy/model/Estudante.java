@@ -1,5 +1,7 @@
 package com.agendastudy.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,14 +9,22 @@ import java.util.List;
  * Representa um usuário do tipo Estudante no sistema.
  * Herda da classe Usuário.
  *
+ * Assim como no Professor, a foto de perfil fica no armazém de fotos (camada
+ * DAO) e o estudante guarda só o hash e o tipo da imagem.
+ *
  * @author VINICIUS ALVES RIBEIRO SILVA
- * @version 1.0
+ * @version 1.2
  * @since 2025-11-11
  */
 public class Estudante extends Usuario {
+    private static final long serialVersionUID = -1989038007076027134L;
+
     private List<String> interesses;
-    private byte[] fotoPerfil;
-    // private String tipoImagem; // REMOVED unused
+    private String hashFoto;
+    private String tipoImagem;
+
+    // Bytes da foto de um objeto serializado antes do armazém de fotos
+    private transient byte[] fotoLegada;
 
     /**
      * Construtor da classe Estudante.
@@ -54,12 +64,56 @@ public class Estudante extends Usuario {
         this.interesses = interesses;
     }
 
-    public byte[] getFotoPerfil() {
-        return fotoPerfil;
+    /**
+     * @return O hash SHA-256 da foto no armazém de fotos, ou null.
+     */
+    public String getHashFoto() {
+        return hashFoto;
+    }
+
+    public void setHashFoto(String hashFoto) {
+        this.hashFoto = hashFoto;
+    }
+
+    public String getTipoImagem() {
+        return tipoImagem;
+    }
+
+    public void setTipoImagem(String tipoImagem) {
+        this.tipoImagem = tipoImagem;
     }
 
-    public void setFotoPerfil(byte[] fotoPerfil) {
-        this.fotoPerfil = fotoPerfil;
+    public boolean temFoto() {
+        return hashFoto != null;
+    }
+
+    /**
+     * Retorna (uma única vez) os bytes da foto de um estudante serializado
+     * antes do armazém de fotos, para que o DAO os grave e defina o hash.
+     *
+     * @return Os bytes da foto antiga, ou null se não houver.
+     */
+    public byte[] retirarFotoLegada() {
+        byte[] foto = fotoLegada;
+        fotoLegada = null;
+        return foto;
+    }
+
+    /**
+     * Lê os campos um a um para aceitar também a forma antiga, que guardava
+     * os bytes da foto ({@code byte[] fotoPerfil}) no próprio objeto.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField campos = in.readFields();
+        interesses = (List<String>) campos.get("interesses", null);
+        hashFoto = (String) campos.get("hashFoto", null);
+        tipoImagem = (String) campos.get("tipoImagem", null);
+
+        if (campos.getObjectStreamClass().getField("fotoPerfil") != null) {
+            byte[] foto = (byte[]) campos.get("fotoPerfil", null);
+            fotoLegada = (foto == null || foto.length == 0) ? null : foto;
+        }
     }
 
     // --- Métodos de Usuário (Override) ---
@@ -0,0 +1,24 @@
+package com.agendastudy.model;
+
+/**
+ * Observador das transições de status de uma {@link Aula}.
+ *
+ * Usado pelo DAO de aulas para manter os seus índices por status em dia
+ * quando o status muda direto na Aula ({@code setStatus},
+ * {@code cancelarPorAluno}, {@code cancelarPorProfessor}).
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface ObservadorStatusAula {
+
+    /**
+     * Chamado depois que o status da aula mudou.
+     *
+     * @param aula     A aula alterada (já com o status novo).
+     * @param anterior O status anterior.
+     */
+    void statusAlterado(Aula aula, StatusAula anterior);
+}
@@ -1,5 +1,7 @@
 package com.agendastudy.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,24 +9,36 @@ import java.util.List;
  * Representa um usuário do tipo Professor no sistema.
  * Esta classe armazena os dados e estado do professor.
  *
+ * A foto de perfil fica no armazém de fotos (camada DAO); o professor guarda
+ * apenas o hash e o tipo da imagem.
+ *
  * @author VINICIUS ALVES RIBEIRO SILVA
- * @version 1.1
+ * @version 1.5
  * @since 2025-11-12
  */
 public class Professor extends Usuario {
+    private static final long serialVersionUID = -8639471247474048341L;
+
     private List<String> disciplinas;
     private String biografia;
     private List<String> qualificacoes;
-    private byte[] fotoPerfil;
+    private String hashFoto;
     private String tipoImagem;
     private boolean perfilVerificado;
     private double taxaCancelamento;
+    private double precoHora;
 
     /**
      * Lista de avaliações recebidas pelo professor.
      * Esta lista é preenchida pelo AvaliacaoDAO e lida pelo ProfessorDAO.
+     * É transiente: o AvaliacaoDAO persiste as avaliações por conta própria, e
+     * serializar a lista faria cada avaliação gravada arrastar todas as outras.
      */
-    private List<Avaliacao> avaliacoes;
+    private transient List<Avaliacao> avaliacoes;
+
+    // Bytes da foto lidos de um objeto serializado antes do armazém de fotos,
+    // à espera de que o DAO os grave no armazém
+    private transient byte[] fotoLegada;
 
     /**
      * Construtor da classe Professor.
@@ -68,13 +82,15 @@ public class Professor extends Usuario {
         this.qualificacoes = qualificacoes;
     }
 
-    public byte[] getFotoPerfil() {
-        return fotoPerfil;
+    /**
+     * @return O hash SHA-256 da foto no armazém de fotos, ou null.
+     */
+    public String getHashFoto() {
+        return hashFoto;
     }
 
-    public void setFotoPerfil(byte[] fotoPerfil, String tipoImagem) {
-        this.fotoPerfil = fotoPerfil;
-        this.tipoImagem = tipoImagem;
+    public void setHashFoto(String hashFoto) {
+        this.hashFoto = hashFoto;
     }
 
     public boolean isPerfilVerificado() {
@@ -110,7 +126,7 @@ public class Professor extends Usuario {
     }
 
     public boolean temFoto() {
-        return fotoPerfil != null && fotoPerfil.length > 0;
+        return hashFoto != null;
     }
 
     /**
@@ -124,6 +140,45 @@ public class Professor extends Usuario {
         return this.avaliacoes;
     }
 
+    /**
+     * Retorna (uma única vez) os bytes da foto de um professor serializado
+     * antes do armazém de fotos, para que o DAO os grave e defina o hash.
+     *
+     * @return Os bytes da foto antiga, ou null se não houver.
+     */
+    public byte[] retirarFotoLegada() {
+        byte[] foto = fotoLegada;
+        fotoLegada = null;
+        return foto;
+    }
+
+    /**
+     * Lê os campos um a um para aceitar também a forma antiga, que guardava
+     * os bytes da foto ({@code byte[] fotoPerfil}) no próprio objeto, e
+     * recria a lista transiente de avaliações.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField campos = in.readFields();
+        disciplinas = (List<String>) campos.get("disciplinas", null);
+        biografia = (String) campos.get("biografia", null);
+        qualificacoes = (List<String>) campos.get("qualificacoes", null);
+        hashFoto = (String) campos.get("hashFoto", null);
+        tipoImagem = (String) campos.get("tipoImagem", null);
+        perfilVerificado = campos.get("perfilVerificado", false);
+        taxaCancelamento = campos.get("taxaCancelamento", 0.0);
+        precoHora = campos.get("precoHora", 0.0);
+        localizacao = (String) campos.get("localizacao", null);
+        coordenadas = (Coordenadas) campos.get("coordenadas", null);
+        distanciaKm = campos.get("distanciaKm", 0.0);
+
+        if (campos.getObjectStreamClass().getField("fotoPerfil") != null) {
+            byte[] foto = (byte[]) campos.get("fotoPerfil", null);
+            fotoLegada = (foto == null || foto.length == 0) ? null : foto;
+        }
+        this.avaliacoes = new ArrayList<>();
+    }
+
     // --- Métodos de Usuário (Override) ---
 
     @Override
@@ -164,8 +219,10 @@ public class Professor extends Usuario {
     // Adicione este campo (para a localização do professor)
     private String localizacao;
 
-    // Adicione este campo (este valor deve ser preenchido/calculado pelo seu
-    // Service/DAO)
+    // Ponto geográfico do professor (usado nas buscas por distância)
+    private Coordenadas coordenadas;
+
+    // Distância fixa (legado): só é usada nas buscas sem origem informada
     private double distanciaKm;
 
     // --- Getters e Setters (adicionar) ---
@@ -178,21 +235,64 @@ public class Professor extends Usuario {
         this.localizacao = localizacao;
     }
 
+    /**
+     * @return O ponto geográfico do professor, ou null se não informado.
+     */
+    public Coordenadas getCoordenadas() {
+        return coordenadas;
+    }
+
+    /**
+     * Define o ponto geográfico do professor. Nas buscas por distância, o
+     * valor só passa a valer depois que o professor é salvo novamente.
+     */
+    public void setCoordenadas(Coordenadas coordenadas) {
+        this.coordenadas = coordenadas;
+    }
+
     /**
      * Retorna a distância em Km até o local do estudante.
-     * Este é o método que o BuscaService está procurando.
+     *
+     * @deprecated Valor fixo, que não depende de onde o estudante está. A
+     *             busca agora calcula a distância a partir das
+     *             {@link #getCoordenadas() coordenadas}.
      */
+    @Deprecated
     public double getDistanciaKm() {
         return distanciaKm;
     }
 
     /**
      * Usado para setar o valor antes de ser filtrado.
+     *
+     * @deprecated Use {@link #setCoordenadas(Coordenadas)}.
      */
+    @Deprecated
     public void setDistanciaKm(double distanciaKm) {
         this.distanciaKm = distanciaKm;
     }
 
+    /**
+     * Retorna o preço da hora-aula, em reais (zero se não informado).
+     */
+    public double getPrecoHora() {
+        return precoHora;
+    }
+
+    /**
+     * Define o preço da hora-aula. Nas buscas por preço, o valor só passa a
+     * valer depois que o professor é salvo novamente.
+     *
+     * @param precoHora O preço em reais (zero: não informado).
+     * @throws IllegalArgumentException se o preço for negativo ou inválido.
+     */
+    public void setPrecoHora(double precoHora) {
+        if (precoHora < 0 || Double.isNaN(precoHora) || Double.isInfinite(precoHora)) {
+            throw new IllegalArgumentException("O preço da hora-aula deve ser zero ou positivo");
+        }
+        this.precoHora = precoHora;
+    }
+
     public double getTaxaCancelamento() {
         return this.taxaCancelamento;
     }
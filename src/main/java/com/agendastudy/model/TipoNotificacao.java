@@ -4,11 +4,12 @@ package com.agendastudy.model;
  * Tipos de notificações usadas no sistema.
  *
  * @author Enzo Andrade
- * @version 1.0
+ * @version 1.1
  */
 public enum TipoNotificacao {
     AGENDAMENTO_CONFIRMADO,
     ADICIONADO_FILA_ESPERA,
     AULA_REAGENDADA,
-    AULA_CANCELADA
+    AULA_CANCELADA,
+    AVALIACAO_SOLICITADA
 }
@@ -12,6 +12,8 @@ import java.io.Serializable;
  * @since 2025-11-09
  */
 public abstract class Usuario implements Serializable {
+    private static final long serialVersionUID = 4664870147127664222L;
+
     private String id;
     private String nome;
     private String email;
@@ -0,0 +1,385 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.AulaDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.StatusAula;
+import com.agendastudy.model.TipoNotificacao;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Conclui automaticamente as aulas quando o seu horário de término passa
+ * (AGENDADA -> CONCLUIDA) e pede ao estudante que avalie a aula.
+ *
+ * Os términos ficam em uma roda de tempo hierárquica: {@value #NIVEIS}
+ * níveis de {@value #SLOTS} posições, cada nível com granularidade
+ * {@value #SLOTS} vezes maior que o anterior (com o tique padrão de 1 s, o
+ * último nível alcança cerca de 34 anos; términos mais distantes esperam em
+ * uma lista à parte). Agendar custa O(1); a cada tique, só a posição atual
+ * do primeiro nível é esvaziada, e as posições dos níveis acima descem um
+ * nível quando o tique chega ao seu início. Cada término ocupa um nó pequeno
+ * encadeado na própria posição. Trechos sem términos nos níveis de baixo
+ * são pulados de uma vez (ex: ao acordar após horas de suspensão).
+ *
+ * Cada aula tem no máximo um término válido, guardado pelo ID: salvar a aula
+ * de novo no mesmo horário não cria outro nó, e mudar o horário (ou cancelar)
+ * invalida o nó anterior, que é descartado quando a sua posição vence ou
+ * desce de nível (a lista encadeada não permite remoção direta).
+ *
+ * As aulas vencidas são concluídas em lotes de até {@code tamanhoLote} por
+ * tique, sob a mesma trava de professor do {@link ServicoAgendamento}: a
+ * conferência (ainda agendada e já terminada) e a conclusão não se misturam
+ * com um reagendamento concorrente. O pedido de avaliação nunca espera por
+ * vaga no {@link SistemaNotificacoes}, para não atrasar os tiques.
+ *
+ * Todo salvamento no {@link AulaDAO} agenda o término da aula, e
+ * {@link #iniciar()} reconstrói a roda a partir das aulas já cadastradas
+ * (ex: após reiniciar a aplicação).
+ *
+ * O tique e o lote podem ser configurados pelas propriedades de sistema
+ * {@code agendastudy.conclusao.tique.ms} e {@code agendastudy.conclusao.lote}.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public final class AgendadorConclusaoAulas {
+
+    private static final int BITS_POR_NIVEL = 6;
+    static final int SLOTS = 1 << BITS_POR_NIVEL;
+    static final int NIVEIS = 5;
+    private static final int MASCARA_SLOT = SLOTS - 1;
+
+    private static final long TIQUE_PADRAO_MS = 1000;
+    private static final int LOTE_PADRAO = 1024;
+
+    /** Pedido de avaliação não é urgente (números menores saem antes). */
+    static final int PRIORIDADE_AVALIACAO = 5;
+
+    /** Término agendado: nó da lista encadeada de uma posição da roda. */
+    private static final class Termino {
+        private final Aula aula;
+        private final long tique;
+        private Termino proximo;
+
+        Termino(Aula aula, long tique) {
+            this.aula = aula;
+            this.tique = tique;
+        }
+    }
+
+    private final AulaDAO aulaDAO;
+    private final SistemaNotificacoes notificacoes;
+    private final long tiqueMs;
+    private final int tamanhoLote;
+    private final LongSupplier relogio;
+    private final long origem;
+    private final Consumer<Aula> ouvinte = this::agendar;
+
+    // Estado da roda (protegido por 'this')
+    private final Termino[][] rodas = new Termino[NIVEIS][SLOTS];
+    private Termino distantes;
+    private long tiqueAtual;
+    private long naRoda;
+    private final long[] porNivel = new long[NIVEIS + 1]; // o último conta os distantes
+    private final ArrayDeque<Termino> vencidas = new ArrayDeque<>();
+    private final Map<String, Termino> porAula = new HashMap<>(); // término válido de cada aula
+
+    private ScheduledExecutorService executor;
+    private volatile long totalConcluidas;
+
+    /**
+     * Construtor usado pela instância padrão e pelos testes.
+     *
+     * @param aulaDAO      DAO das aulas.
+     * @param notificacoes Sistema que entrega os pedidos de avaliação.
+     * @param tiqueMs      Duração de um tique, em milissegundos.
+     * @param tamanhoLote  Máximo de aulas concluídas por tique.
+     * @param relogio      Fonte do tempo atual, em milissegundos desde 1970.
+     * @throws IllegalArgumentException se o tique ou o lote não forem positivos.
+     */
+    AgendadorConclusaoAulas(AulaDAO aulaDAO, SistemaNotificacoes notificacoes, long tiqueMs, int tamanhoLote,
+            LongSupplier relogio) {
+        if (tiqueMs <= 0 || tamanhoLote <= 0) {
+            throw new IllegalArgumentException("O tique e o lote devem ser positivos");
+        }
+        this.aulaDAO = aulaDAO;
+        this.notificacoes = notificacoes;
+        this.tiqueMs = tiqueMs;
+        this.tamanhoLote = tamanhoLote;
+        this.relogio = relogio;
+        this.origem = relogio.getAsLong();
+    }
+
+    /**
+     * Cria o agendador com o relógio do sistema e as configurações padrão.
+     */
+    public AgendadorConclusaoAulas(AulaDAO aulaDAO, SistemaNotificacoes notificacoes) {
+        this(aulaDAO, notificacoes, Long.getLong("agendastudy.conclusao.tique.ms", TIQUE_PADRAO_MS),
+                Integer.getInteger("agendastudy.conclusao.lote", LOTE_PADRAO), System::currentTimeMillis);
+    }
+
+    /**
+     * Reconstrói a roda com as aulas agendadas já cadastradas, passa a
+     * agendar cada aula salva no DAO e começa a processar os tiques em uma
+     * thread daemon.
+     *
+     * @throws IllegalStateException se o agendador já estiver em execução.
+     */
+    public synchronized void iniciar() {
+        if (executor != null) {
+            throw new IllegalStateException("O agendador já foi iniciado");
+        }
+        // O ouvinte entra antes da leitura: uma aula salva durante a
+        // reconstrução não se perde (se vier duas vezes, vale um término só)
+        AulaDAO.adicionarOuvinteSalvamento(ouvinte);
+        reconstruir();
+
+        executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread t = new Thread(tarefa, "conclusao-aulas");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(() -> {
+            try {
+                processar();
+            } catch (RuntimeException e) {
+                e.printStackTrace(); // Um erro não pode parar os tiques seguintes
+            }
+        }, tiqueMs, tiqueMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Para de processar tiques e de agendar as aulas salvas.
+     */
+    public synchronized void parar() {
+        AulaDAO.removerOuvinteSalvamento(ouvinte);
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Agenda todas as aulas agendadas (com estudante) do DAO.
+     *
+     * @return Quantidade de aulas agendadas.
+     */
+    public int reconstruir() {
+        int agendadas = 0;
+        for (Aula aula : aulaDAO.buscarTodasAulas()) {
+            if (agendar(aula)) {
+                agendadas++;
+            }
+        }
+        return agendadas;
+    }
+
+    /**
+     * Agenda a conclusão da aula no seu horário de término, substituindo o
+     * término agendado antes para a mesma aula. Só aulas AGENDADAS e
+     * reservadas por um estudante são agendadas; para as demais, o término
+     * anterior (se houver) é descartado.
+     *
+     * @param aula A aula.
+     * @return true se o término foi agendado.
+     */
+    public boolean agendar(Aula aula) {
+        if (aula == null || aula.getIdAula() == null) {
+            return false;
+        }
+        if (aula.getStatus() != StatusAula.AGENDADA || aula.getEstudante() == null || aula.getProfessor() == null
+                || aula.getDataHora() == null) {
+            synchronized (this) {
+                porAula.remove(aula.getIdAula());
+            }
+            return false;
+        }
+        long fim = emMillis(aula.getFimAula());
+        // Arredonda para cima: a aula nunca é concluída antes do término
+        long tique = Math.max(0, Math.floorDiv(fim - origem + tiqueMs - 1, tiqueMs));
+        synchronized (this) {
+            Termino atual = porAula.get(aula.getIdAula());
+            if (atual != null && atual.aula == aula && atual.tique == tique) {
+                return true; // Salva de novo sem mudar o horário
+            }
+            Termino termino = new Termino(aula, tique);
+            porAula.put(aula.getIdAula(), termino);
+            inserir(termino);
+        }
+        return true;
+    }
+
+    /**
+     * Avança a roda até o tempo atual e conclui um lote de aulas vencidas.
+     *
+     * @return Quantidade de aulas concluídas neste lote.
+     */
+    int processar() {
+        List<Termino> lote;
+        synchronized (this) {
+            avancarAte(Math.floorDiv(relogio.getAsLong() - origem, tiqueMs));
+            lote = new ArrayList<>(Math.min(vencidas.size(), tamanhoLote));
+            while (lote.size() < tamanhoLote && !vencidas.isEmpty()) {
+                Termino termino = vencidas.poll();
+                if (porAula.remove(termino.aula.getIdAula(), termino)) {
+                    lote.add(termino);
+                }
+            }
+        }
+
+        // A conclusão (e a notificação) acontece fora da trava da roda
+        int concluidas = 0;
+        for (Termino termino : lote) {
+            if (concluir(termino.aula)) {
+                concluidas++;
+            }
+        }
+        totalConcluidas += concluidas;
+        return concluidas;
+    }
+
+    /**
+     * Quantidade de aulas com término agendado (inclui as que já venceram e
+     * aguardam o próximo lote).
+     */
+    public synchronized long getPendentes() {
+        return porAula.size();
+    }
+
+    public long getTotalConcluidas() {
+        return totalConcluidas;
+    }
+
+    private boolean concluir(Aula aula) {
+        ReentrantLock trava = ServicoAgendamento.travaDo(aula.getProfessor());
+        trava.lock();
+        try {
+            if (aula.getStatus() != StatusAula.AGENDADA || aula.getEstudante() == null
+                    || aula.getDataHora() == null) {
+                return false; // Cancelada, já concluída ou reserva desfeita
+            }
+            if (emMillis(aula.getFimAula()) > relogio.getAsLong()) {
+                agendar(aula); // Reagendada para depois: volta para a roda
+                return false;
+            }
+            aula.setStatus(StatusAula.CONCLUIDA);
+        } finally {
+            trava.unlock();
+        }
+
+        notificacoes.oferecer(aula.getEstudante().getId(), TipoNotificacao.AVALIACAO_SOLICITADA,
+                "A aula \"" + aula.getTitulo() + "\" terminou. Que tal avaliá-la?", PRIORIDADE_AVALIACAO);
+        return true;
+    }
+
+    // --- Roda de tempo (chamados com a trava de 'this') ---
+
+    private void inserir(Termino termino) {
+        if (termino.tique <= tiqueAtual) {
+            vencidas.add(termino);
+            return;
+        }
+        // O nível é o do grupo de bits mais alto em que o término difere do tique atual
+        int nivel = (63 - Long.numberOfLeadingZeros(termino.tique ^ tiqueAtual)) / BITS_POR_NIVEL;
+        if (nivel >= NIVEIS) {
+            termino.proximo = distantes;
+            distantes = termino;
+            nivel = NIVEIS;
+        } else {
+            int slot = (int) (termino.tique >>> (nivel * BITS_POR_NIVEL)) & MASCARA_SLOT;
+            termino.proximo = rodas[nivel][slot];
+            rodas[nivel][slot] = termino;
+        }
+        porNivel[nivel]++;
+        naRoda++;
+    }
+
+    private void avancarAte(long alvo) {
+        while (tiqueAtual < alvo) {
+            if (naRoda == 0) {
+                tiqueAtual = alvo; // Roda vazia: nada a descer nem a vencer
+                return;
+            }
+            // Com os níveis de baixo vazios, nada acontece até o próximo início
+            // de posição do primeiro nível ocupado: pula direto para a véspera
+            int nivel = 0;
+            while (porNivel[nivel] == 0) {
+                nivel++;
+            }
+            if (nivel > 0) {
+                int bits = nivel * BITS_POR_NIVEL;
+                long vespera = (((tiqueAtual >>> bits) + 1) << bits) - 1;
+                tiqueAtual = Math.min(Math.max(tiqueAtual, vespera), alvo);
+                if (tiqueAtual == alvo) {
+                    return;
+                }
+            }
+            tique();
+        }
+    }
+
+    private void tique() {
+        tiqueAtual++;
+
+        if ((tiqueAtual & ((1L << (NIVEIS * BITS_POR_NIVEL)) - 1)) == 0) {
+            Termino lista = distantes;
+            distantes = null;
+            reinserir(lista, NIVEIS);
+        }
+        // Do nível mais alto para o mais baixo: o que desce pode descer de novo
+        for (int nivel = NIVEIS - 1; nivel >= 1; nivel--) {
+            long mascara = (1L << (nivel * BITS_POR_NIVEL)) - 1;
+            if ((tiqueAtual & mascara) == 0) {
+                int slot = (int) (tiqueAtual >>> (nivel * BITS_POR_NIVEL)) & MASCARA_SLOT;
+                Termino lista = rodas[nivel][slot];
+                rodas[nivel][slot] = null;
+                reinserir(lista, nivel);
+            }
+        }
+
+        int slot = (int) tiqueAtual & MASCARA_SLOT;
+        Termino lista = rodas[0][slot];
+        rodas[0][slot] = null;
+        for (Termino t = lista; t != null; t = t.proximo) {
+            if (valido(t)) {
+                vencidas.add(t);
+            }
+            porNivel[0]--;
+            naRoda--;
+        }
+    }
+
+    private void reinserir(Termino lista, int nivel) {
+        while (lista != null) {
+            Termino proximo = lista.proximo;
+            lista.proximo = null;
+            porNivel[nivel]--;
+            naRoda--;
+            if (valido(lista)) {
+                inserir(lista); // Os substituídos são descartados na descida
+            }
+            lista = proximo;
+        }
+    }
+
+    private boolean valido(Termino termino) {
+        return porAula.get(termino.aula.getIdAula()) == termino;
+    }
+
+    private static long emMillis(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -5,6 +5,7 @@ import com.agendastudy.model.Professor;
 import com.agendastudy.model.Avaliacao;
 import com.agendastudy.model.Estudante;
 import com.agendastudy.model.Aula;
+import com.agendastudy.model.EstatisticasAvaliacao;
 
 import java.util.List;
 
@@ -13,7 +14,7 @@ import java.util.List;
  * Gerencia operações de avaliação, consulta e cálculo de métricas.
  * 
  * @author Paulo Vitor Dias Soares
- * @version 1.7
+ * @version 1.8
  * @since 2025-11-13
  */
 public class AvaliacaoService {
@@ -76,28 +77,48 @@ public class AvaliacaoService {
     // -----------------------------------------------------------------
 
     /**
-     * Calcula e retorna a nota média das avaliações de um professor.
-     * Utiliza a lista de avaliações diretamente do objeto Professor.
+     * Retorna a nota média das avaliações de um professor.
+     * Lida do agregado mantido pelo DAO, sem percorrer as avaliações.
      *
-     * @param professor O professor cuja média deve ser calculada
+     * @param professor O professor cuja média deve ser retornada
      * @return A média das avaliações (0.0 se não houver avaliações)
      */
     public double getMediaAvaliacoes(Professor professor) {
-        if (professor == null) {
-            return 0.0;
-        }
-
-        List<Avaliacao> avaliacoes = professor.getAvaliacoes();
+        return getEstatisticas(professor).getMedia();
+    }
 
-        if (avaliacoes == null || avaliacoes.isEmpty()) {
-            return 0.0;
-        }
+    /**
+     * Retorna a variância das notas recebidas por um professor.
+     *
+     * @param professor O professor consultado
+     * @return A variância populacional das notas (0.0 se não houver avaliações)
+     */
+    public double getVarianciaAvaliacoes(Professor professor) {
+        return getEstatisticas(professor).getVariancia();
+    }
 
-        double somaTotal = avaliacoes.stream()
-                .mapToDouble(Avaliacao::getNota)
-                .sum();
+    /**
+     * Retorna a distribuição das notas de um professor.
+     *
+     * @param professor O professor consultado
+     * @return Vetor de 5 posições com a quantidade de notas 1 a 5
+     */
+    public long[] getDistribuicaoNotas(Professor professor) {
+        return getEstatisticas(professor).getDistribuicao();
+    }
 
-        return somaTotal / avaliacoes.size();
+    /**
+     * Retorna o agregado completo das avaliações de um professor
+     * (total, média, variância e distribuição).
+     *
+     * @param professor O professor consultado
+     * @return O agregado (vazio se o professor for nulo ou não tiver avaliações)
+     */
+    public EstatisticasAvaliacao getEstatisticas(Professor professor) {
+        if (professor == null) {
+            return EstatisticasAvaliacao.VAZIA;
+        }
+        return avaliacaoDAO.getEstatisticas(professor.getId());
     }
 
     /**
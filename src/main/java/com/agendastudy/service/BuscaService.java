@@ -1,17 +1,36 @@
 package com.agendastudy.service;
 
+import com.agendastudy.DAO.ProfessorDAO;
+import com.agendastudy.model.Coordenadas;
 import com.agendastudy.model.Professor;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Serviço responsável por aplicar as regras de negócio de busca e filtragem.
+ *
+ * Criado a partir do {@link ProfessorDAO}, o serviço usa os índices do DAO
+ * para escolher os candidatos antes dos demais filtros: a distância máxima a
+ * partir da origem do estudante usa a grade geográfica, e a faixa de preço o
+ * índice de preços (O(log n + k)). As ordenações por preço e por
+ * proximidade aproveitam a ordem dos índices em vez de ordenar o resultado;
+ * com um limite de resultados, a busca por proximidade para assim que ele é
+ * atingido. O texto livre é buscado no índice invertido dos perfis (nome,
+ * disciplinas, biografia e qualificações) e, na ordenação padrão, os
+ * resultados saem do mais para o menos relevante (BM25). Criado a partir de
+ * uma lista, os filtros percorrem a lista inteira.
  */
 public class BuscaService {
 
-    // Lista de professores (Deve ser populada pelo DAO/Repositório ou API)
+    // Lista de professores (usada quando o serviço não tem o DAO)
     private final List<Professor> professoresDisponiveis;
+    private final ProfessorDAO professorDAO;
 
     /**
      * Construtor. Recebe a lista completa de professores da camada de dados.
@@ -20,6 +39,22 @@ public class BuscaService {
      */
     public BuscaService(List<Professor> professores) {
         this.professoresDisponiveis = professores != null ? professores : List.of();
+        this.professorDAO = null;
+    }
+
+    /**
+     * Construtor que consulta os professores (e os índices) do DAO a cada
+     * busca.
+     *
+     * @param professorDAO O DAO de professores.
+     * @throws IllegalArgumentException se o DAO for nulo.
+     */
+    public BuscaService(ProfessorDAO professorDAO) {
+        if (professorDAO == null) {
+            throw new IllegalArgumentException("O ProfessorDAO não pode ser nulo");
+        }
+        this.professoresDisponiveis = null;
+        this.professorDAO = professorDAO;
     }
 
     /**
@@ -30,22 +65,157 @@ public class BuscaService {
      * @return Lista de professores que satisfazem todas as condições.
      */
     public List<Professor> filtrarProfessores(CriteriosBusca criterios) {
-
-        if (this.professoresDisponiveis.isEmpty() || criterios == null) {
+        if (criterios == null) {
+            return professorDAO != null ? professorDAO.listarProfessores() : professoresDisponiveis;
+        }
+        if (professorDAO == null && this.professoresDisponiveis.isEmpty()) {
             return professoresDisponiveis;
         }
 
-        return professoresDisponiveis.stream()
-                // 1. Filtro por Disciplina (SCRUM-6)
-                .filter(p -> matchDisciplina(p, criterios.disciplinasSelecionadas))
+        // Fora da ordenação por relevância, o texto livre vira um filtro pelos IDs encontrados no índice
+        boolean porRelevancia = porRelevancia(criterios);
+        Set<String> idsTexto = null;
+        if (professorDAO != null && !porRelevancia && textoBusca(criterios) != null) {
+            idsTexto = new HashSet<>();
+            for (Professor p : professorDAO.findPorTexto(textoBusca(criterios), 0)) {
+                idsTexto.add(p.getId());
+            }
+        }
 
-                // 3. Filtro por Localização (SCRUM-5)
-                .filter(p -> matchLocalizacao(p, criterios.distanciaMaxKm))
+        List<Professor> resultado = new ArrayList<>();
+        Iterator<Professor> candidatos = candidatos(criterios);
+        while (candidatos.hasNext() && (criterios.limite == null || resultado.size() < criterios.limite)) {
+            Professor p = candidatos.next();
+            // 1. Filtro por Disciplina (SCRUM-6)
+            if (matchDisciplina(p, criterios.disciplinasSelecionadas)
+                    // 2. Filtro por Preço (os candidatos do índice já estão na faixa)
+                    && matchPreco(p, criterios.precoMin, criterios.precoMax)
+                    // 3. Filtro por Localização (SCRUM-5)
+                    && matchLocalizacao(p, criterios.origem, criterios.distanciaMaxKm)
+                    // 4. Busca Livre (Texto da barra de busca)
+                    && (porRelevancia || (idsTexto != null ? idsTexto.contains(p.getId())
+                            : matchBuscaLivre(p, criterios.textoBuscaLivre)))) {
+                resultado.add(p);
+            }
+        }
+        return resultado;
+    }
 
-                // 4. Busca Livre (Texto da barra de busca)
-                .filter(p -> matchBuscaLivre(p, criterios.textoBuscaLivre))
+    /**
+     * Escolhe os professores a filtrar, já na ordem pedida.
+     *
+     * @throws IllegalArgumentException se a ordenação por proximidade for
+     *                                  pedida sem origem.
+     */
+    private Iterator<Professor> candidatos(CriteriosBusca criterios) {
+        boolean faixaDePreco = criterios.precoMin != null || criterios.precoMax != null;
+        boolean porPreco = criterios.ordenacao == CriteriosBusca.Ordenacao.MENOR_PRECO
+                || criterios.ordenacao == CriteriosBusca.Ordenacao.MAIOR_PRECO;
+        boolean decrescente = criterios.ordenacao == CriteriosBusca.Ordenacao.MAIOR_PRECO;
+        boolean porProximidade = criterios.ordenacao == CriteriosBusca.Ordenacao.PROXIMIDADE;
+        Double raio = (criterios.distanciaMaxKm == null || criterios.distanciaMaxKm <= 0) ? null
+                : criterios.distanciaMaxKm;
+        Coordenadas origem = criterios.origem;
+        if (porProximidade && origem == null) {
+            throw new IllegalArgumentException("A ordenação por proximidade exige a origem da busca");
+        }
 
-                .collect(Collectors.toList());
+        if (professorDAO == null) {
+            List<Professor> ordenados = new ArrayList<>(professoresDisponiveis);
+            if (porPreco) {
+                Comparator<Professor> ordem = Comparator.comparingDouble(Professor::getPrecoHora);
+                ordenados.sort(Comparator.comparing((Professor p) -> p.getPrecoHora() <= 0)
+                        .thenComparing(decrescente ? ordem.reversed() : ordem));
+            } else if (porProximidade) {
+                ordenados.sort(Comparator.comparingDouble(p -> distanciaKm(p, origem)));
+            }
+            return ordenados.iterator();
+        }
+
+        if (porRelevancia(criterios)) {
+            // Sem outros filtros, bastam os k mais relevantes
+            boolean semOutrosFiltros = raio == null && !faixaDePreco
+                    && (criterios.disciplinasSelecionadas == null || criterios.disciplinasSelecionadas.isEmpty());
+            int k = (semOutrosFiltros && criterios.limite != null) ? criterios.limite : 0;
+            return professorDAO.findPorTexto(textoBusca(criterios), k).iterator();
+        }
+        if (porProximidade && raio == null) {
+            // Sem raio, os professores sem localização vão para o fim, como na lista
+            return comSemLocalizacaoNoFim(professorDAO.findPorProximidade(origem, null));
+        }
+        if (porProximidade || (origem != null && raio != null)) {
+            return professorDAO.findPorProximidade(origem, raio);
+        }
+        if (faixaDePreco) {
+            return professorDAO.findByFaixaDePreco(criterios.precoMin, criterios.precoMax, decrescente).iterator();
+        }
+        if (porPreco) {
+            // Os com preço saem do índice em ordem; os sem preço vão para o fim
+            List<Professor> ordenados = professorDAO.findByFaixaDePreco(null, null, decrescente);
+            for (Professor p : professorDAO.listarProfessores()) {
+                if (p.getPrecoHora() <= 0) {
+                    ordenados.add(p);
+                }
+            }
+            return ordenados.iterator();
+        }
+        return professorDAO.listarProfessores().iterator();
+    }
+
+    /**
+     * Percorre os localizados e, ao terminar, os professores sem coordenadas
+     * (buscados só se os localizados não bastarem para o limite).
+     */
+    private Iterator<Professor> comSemLocalizacaoNoFim(Iterator<Professor> localizados) {
+        return new Iterator<>() {
+            private Iterator<Professor> semLocalizacao;
+
+            @Override
+            public boolean hasNext() {
+                if (localizados.hasNext()) {
+                    return true;
+                }
+                if (semLocalizacao == null) {
+                    List<Professor> lista = new ArrayList<>();
+                    for (Professor p : professorDAO.listarProfessores()) {
+                        if (p.getCoordenadas() == null) {
+                            lista.add(p);
+                        }
+                    }
+                    semLocalizacao = lista.iterator();
+                }
+                return semLocalizacao.hasNext();
+            }
+
+            @Override
+            public Professor next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return localizados.hasNext() ? localizados.next() : semLocalizacao.next();
+            }
+        };
+    }
+
+    /**
+     * Indica se os resultados saem do índice de texto, por relevância.
+     */
+    private boolean porRelevancia(CriteriosBusca criterios) {
+        return professorDAO != null && textoBusca(criterios) != null
+                && (criterios.ordenacao == null || criterios.ordenacao == CriteriosBusca.Ordenacao.PADRAO);
+    }
+
+    private static String textoBusca(CriteriosBusca criterios) {
+        String texto = criterios.textoBuscaLivre;
+        return (texto == null || texto.trim().isEmpty()) ? null : texto.trim();
+    }
+
+    /**
+     * Distância do professor até a origem (infinita se ele não tiver
+     * coordenadas).
+     */
+    private static double distanciaKm(Professor p, Coordenadas origem) {
+        return p.getCoordenadas() == null ? Double.POSITIVE_INFINITY : origem.distanciaKm(p.getCoordenadas());
     }
 
     // --- Métodos Auxiliares de Filtragem ---
@@ -59,11 +229,25 @@ public class BuscaService {
                 .anyMatch(d -> p.getDisciplina().toLowerCase().equals(d));
     }
 
-    private boolean matchLocalizacao(Professor p, Double distanciaMaxKm) {
+    private boolean matchPreco(Professor p, Double precoMin, Double precoMax) {
+        if (precoMin == null && precoMax == null) {
+            return true;
+        }
+        return p.getPrecoHora() > 0
+                && (precoMin == null || p.getPrecoHora() >= precoMin)
+                && (precoMax == null || p.getPrecoHora() <= precoMax);
+    }
+
+    @SuppressWarnings("deprecation")
+    private boolean matchLocalizacao(Professor p, Coordenadas origem, Double distanciaMaxKm) {
         if (distanciaMaxKm == null || distanciaMaxKm <= 0) {
             return true;
         }
-        return p.getDistanciaKm() <= distanciaMaxKm;
+        if (origem == null) {
+            // Sem a localização do estudante, vale a distância fixa (legado)
+            return p.getDistanciaKm() <= distanciaMaxKm;
+        }
+        return distanciaKm(p, origem) <= distanciaMaxKm;
     }
 
     private boolean matchBuscaLivre(Professor p, String textoBuscaLivre) {
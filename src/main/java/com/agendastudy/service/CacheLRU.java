@@ -0,0 +1,137 @@
+package com.agendastudy.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache LRU limitado pelo peso total das entradas (ex: bytes de uma imagem
+ * decodificada), e não pela quantidade.
+ *
+ * Ao passar do limite, as entradas usadas há mais tempo são descartadas até
+ * o peso voltar a caber. Uma entrada sozinha mais pesada que o limite é
+ * devolvida, mas não fica guardada.
+ *
+ * Os acessos são sincronizados; o carregamento de um valor ausente é feito
+ * fora da trava, então duas threads podem carregar a mesma chave ao mesmo
+ * tempo (a primeira a terminar fica no cache).
+ *
+ * @param <K> Tipo da chave.
+ * @param <V> Tipo do valor.
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CacheLRU<K, V> {
+
+    private final long pesoMaximo;
+    private final ToLongFunction<V> pesador;
+
+    // accessOrder = true: a iteração começa pela entrada usada há mais tempo
+    private final LinkedHashMap<K, V> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    private long pesoAtual;
+    private long acertos;
+    private long faltas;
+
+    /**
+     * @param pesoMaximo Soma máxima dos pesos das entradas.
+     * @param pesador    Função que calcula o peso de um valor.
+     * @throws IllegalArgumentException se o peso máximo não for positivo.
+     */
+    public CacheLRU(long pesoMaximo, ToLongFunction<V> pesador) {
+        if (pesoMaximo <= 0) {
+            throw new IllegalArgumentException("O peso máximo deve ser positivo");
+        }
+        this.pesoMaximo = pesoMaximo;
+        this.pesador = pesador;
+    }
+
+    /**
+     * Retorna o valor da chave, carregando-o se não estiver no cache.
+     *
+     * @param chave      A chave procurada.
+     * @param carregador Função que produz o valor; se retornar null, nada é
+     *                   guardado.
+     * @return O valor em cache ou o recém-carregado (pode ser null).
+     */
+    public V obter(K chave, Function<? super K, ? extends V> carregador) {
+        synchronized (this) {
+            V valor = entradas.get(chave);
+            if (valor != null) {
+                acertos++;
+                return valor;
+            }
+            faltas++;
+        }
+        V carregado = carregador.apply(chave);
+        if (carregado == null) {
+            return null;
+        }
+        synchronized (this) {
+            V existente = entradas.get(chave);
+            if (existente != null) {
+                return existente;
+            }
+            long peso = pesador.applyAsLong(carregado);
+            if (peso > pesoMaximo) {
+                return carregado;
+            }
+            entradas.put(chave, carregado);
+            pesoAtual += peso;
+            despejar();
+            return carregado;
+        }
+    }
+
+    /**
+     * Retorna o valor em cache, sem carregar.
+     */
+    public synchronized V get(K chave) {
+        return entradas.get(chave);
+    }
+
+    /**
+     * Remove a entrada da chave (ex: a foto do usuário mudou).
+     */
+    public synchronized void invalidar(K chave) {
+        V removido = entradas.remove(chave);
+        if (removido != null) {
+            pesoAtual -= pesador.applyAsLong(removido);
+        }
+    }
+
+    public synchronized void clear() {
+        entradas.clear();
+        pesoAtual = 0;
+    }
+
+    public synchronized int tamanho() {
+        return entradas.size();
+    }
+
+    public synchronized long getPesoAtual() {
+        return pesoAtual;
+    }
+
+    public long getPesoMaximo() {
+        return pesoMaximo;
+    }
+
+    public synchronized long getAcertos() {
+        return acertos;
+    }
+
+    public synchronized long getFaltas() {
+        return faltas;
+    }
+
+    private void despejar() {
+        Iterator<Map.Entry<K, V>> it = entradas.entrySet().iterator();
+        while (pesoAtual > pesoMaximo && it.hasNext()) {
+            pesoAtual -= pesador.applyAsLong(it.next().getValue());
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.AulaDAO;
+import com.agendastudy.DAO.AvaliacaoDAO;
+import com.agendastudy.DAO.DisponibilidadeDAO;
+import com.agendastudy.DAO.EstudanteDAO;
+import com.agendastudy.DAO.ProfessorDAO;
+import com.agendastudy.DAO.UsuarioDAO;
+
+/**
+ * Contexto da aplicação: registro único dos DAOs e serviços compartilhados
+ * pelas telas.
+ *
+ * Cada {@link AvaliacaoDAO} lê o snapshot e o journal de avaliações do disco
+ * ao ser construído. Com o contexto, essa leitura acontece uma única vez (no
+ * primeiro uso) e a navegação entre telas reaproveita os mesmos objetos, em
+ * vez de cada controller montar os seus.
+ *
+ * A instância é criada sob demanda, de forma segura entre threads
+ * (idioma do "holder" estático), sem efeitos colaterais: o
+ * {@link AgendadorConclusaoAulas} é iniciado pela aplicação ({@code App}) e
+ * não pelo contexto, então os testes não disparam tarefas em segundo plano.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.3
+ * @since 2026-10-18
+ */
+public final class ContextoAplicacao {
+
+    private final AvaliacaoDAO avaliacaoDAO;
+    private final AulaDAO aulaDAO;
+    private final DisponibilidadeDAO disponibilidadeDAO;
+    private final ProfessorDAO professorDAO;
+    private final EstudanteDAO estudanteDAO;
+    private final UsuarioDAO usuarioDAO;
+    private final ServicoAgendamento servicoAgendamento;
+    private final ProfessorService professorService;
+    private final AvaliacaoService avaliacaoService;
+    private final BuscaService buscaService;
+    private final AgendadorConclusaoAulas agendadorConclusao;
+
+    /**
+     * Construtor usado pela instância padrão e pelos testes.
+     *
+     * @param avaliacaoDAO O DAO de avaliações já carregado.
+     */
+    ContextoAplicacao(AvaliacaoDAO avaliacaoDAO) {
+        this.avaliacaoDAO = avaliacaoDAO;
+        this.aulaDAO = new AulaDAO();
+        this.disponibilidadeDAO = new DisponibilidadeDAO();
+        this.professorDAO = new ProfessorDAO();
+        this.estudanteDAO = new EstudanteDAO(avaliacaoDAO, aulaDAO);
+        this.usuarioDAO = new UsuarioDAO() {
+        };
+        this.servicoAgendamento = new ServicoAgendamento(aulaDAO, disponibilidadeDAO);
+        this.professorService = new ProfessorService(professorDAO, avaliacaoDAO);
+        this.avaliacaoService = new AvaliacaoService(avaliacaoDAO);
+        this.buscaService = new BuscaService(professorDAO);
+        this.agendadorConclusao = new AgendadorConclusaoAulas(aulaDAO, SistemaNotificacoes.getInstancia());
+    }
+
+    private static final class Holder {
+        private static final ContextoAplicacao INSTANCIA = new ContextoAplicacao(new AvaliacaoDAO());
+    }
+
+    /**
+     * Retorna o contexto, carregando os dados persistidos no primeiro acesso.
+     */
+    public static ContextoAplicacao getInstancia() {
+        return Holder.INSTANCIA;
+    }
+
+    public AvaliacaoDAO getAvaliacaoDAO() {
+        return avaliacaoDAO;
+    }
+
+    public AulaDAO getAulaDAO() {
+        return aulaDAO;
+    }
+
+    public DisponibilidadeDAO getDisponibilidadeDAO() {
+        return disponibilidadeDAO;
+    }
+
+    public ProfessorDAO getProfessorDAO() {
+        return professorDAO;
+    }
+
+    public EstudanteDAO getEstudanteDAO() {
+        return estudanteDAO;
+    }
+
+    public UsuarioDAO getUsuarioDAO() {
+        return usuarioDAO;
+    }
+
+    public ServicoAgendamento getServicoAgendamento() {
+        return servicoAgendamento;
+    }
+
+    public ProfessorService getProfessorService() {
+        return professorService;
+    }
+
+    public AvaliacaoService getAvaliacaoService() {
+        return avaliacaoService;
+    }
+
+    public BuscaService getBuscaService() {
+        return buscaService;
+    }
+
+    public AgendadorConclusaoAulas getAgendadorConclusao() {
+        return agendadorConclusao;
+    }
+}
@@ -1,5 +1,7 @@
 package com.agendastudy.service;
 
+import com.agendastudy.model.Coordenadas;
+
 import java.util.List;
 
 /**
@@ -7,9 +9,29 @@ import java.util.List;
  * interface.
  */
 public class CriteriosBusca {
+
+    /**
+     * Ordem dos resultados da busca.
+     */
+    public enum Ordenacao {
+        /** Relevância do texto livre, se houver; senão, a ordem da fonte de dados. */
+        PADRAO,
+        /** Mais barato primeiro; professores sem preço vão para o fim. */
+        MENOR_PRECO,
+        /** Mais caro primeiro; professores sem preço vão para o fim. */
+        MAIOR_PRECO,
+        /** Mais próximo da origem primeiro (exige a origem). */
+        PROXIMIDADE
+    }
+
     public List<String> disciplinasSelecionadas;
     public Double precoMin;
     public Double precoMax;
     public Double distanciaMaxKm;
+    /** Localização do estudante (a distância é medida a partir dela). */
+    public Coordenadas origem;
     public String textoBuscaLivre;
-}
\ No newline at end of file
+    public Ordenacao ordenacao = Ordenacao.PADRAO;
+    /** Máximo de resultados (null: todos). */
+    public Integer limite;
+}
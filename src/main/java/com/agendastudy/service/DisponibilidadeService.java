@@ -15,7 +15,7 @@ import java.util.List;
  * É essencial para o ranqueamento de professores.
  *
  * @author Gemini AI (Criada a pedido do usuário)
- * @version 1.0
+ * @version 1.1
  * @since 2025-11-30
  */
 public class DisponibilidadeService {
@@ -26,6 +26,9 @@ public class DisponibilidadeService {
     // Define a janela de tempo de interesse para o ranqueamento (72 horas)
     private static final long JANELA_PROXIMAS_HORAS = 72;
 
+    // Minutos livres que valem 100% de compatibilidade (30 aulas de uma hora)
+    private static final double MINUTOS_PARA_100_POR_CENTO = 30 * 60.0;
+
     public DisponibilidadeService(DisponibilidadeDAO dispDAO) {
         this.dispDAO = dispDAO;
     }
@@ -60,6 +63,9 @@ public class DisponibilidadeService {
      *
      * NOTA: Este é um cálculo simplificado. Na prática, envolveria comparar
      * os SlotsDisponiveis do professor com os horários preferidos do estudante.
+     * O índice usa o total de minutos livres nas próximas 2 semanas, e não a
+     * quantidade de slots: o DAO une slots adjacentes, então a mesma agenda
+     * pode estar em um slot só ou em vários.
      *
      * @param professor O professor.
      * @param estudante O estudante.
@@ -89,10 +95,15 @@ public class DisponibilidadeService {
             return 0.0; // Nenhuma compatibilidade
         }
 
-        // Se o professor tiver muitos slots, assumimos que a compatibilidade é maior.
+        // Se o professor tiver muito tempo livre, assumimos que a compatibilidade é maior.
         // (Isso é apenas um placeholder para a lógica real de negócios)
-        double maxSlotsPara100PorCento = 30.0;
-        double compatibilidadeBruta = (double) slotsDoProfessor.size() / maxSlotsPara100PorCento;
+        long minutosLivres = 0;
+        for (SlotDisponivel slot : slotsDoProfessor) {
+            LocalDateTime inicio = slot.getInicio().isBefore(agora) ? agora : slot.getInicio();
+            LocalDateTime fim = slot.getFim().isAfter(periodoBusca) ? periodoBusca : slot.getFim();
+            minutosLivres += ChronoUnit.MINUTES.between(inicio, fim);
+        }
+        double compatibilidadeBruta = minutosLivres / MINUTOS_PARA_100_POR_CENTO;
 
         // Limita o índice entre 0.0 e 1.0.
         return Math.min(1.0, compatibilidadeBruta);
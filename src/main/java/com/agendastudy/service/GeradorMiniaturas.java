@@ -0,0 +1,195 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.ArmazemFotos;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Gera, em segundo plano, as miniaturas das fotos de perfil.
+ *
+ * Ao receber uma foto, as telas guardam o original no {@link ArmazemFotos} e
+ * pedem aqui as variantes reduzidas ({@link #LADOS}), que são gravadas ao lado
+ * do original. Assim, as telas decodificam uma imagem de poucos KB em vez da
+ * foto em resolução total.
+ *
+ * A decodificação e o redimensionamento (ImageIO/Java2D) rodam em um pool
+ * pequeno de threads daemon, fora da thread da interface. Pedidos repetidos
+ * para a mesma foto enquanto ela está sendo processada reaproveitam a mesma
+ * tarefa.
+ *
+ * O pool pode ser configurado pela propriedade de sistema
+ * {@code agendastudy.miniaturas.trabalhadores}.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GeradorMiniaturas {
+
+    /** Lados máximos (em pixels) das variantes: avatar e foto de perfil. */
+    public static final int[] LADOS = { 64, 128 };
+
+    private static final int TRABALHADORES_PADRAO = 2;
+
+    private static final GeradorMiniaturas instancia = new GeradorMiniaturas(ArmazemFotos.getInstancia(),
+            Integer.getInteger("agendastudy.miniaturas.trabalhadores", TRABALHADORES_PADRAO));
+
+    private final ArmazemFotos armazem;
+    private final ExecutorService trabalhadores;
+
+    // Tarefas em andamento, por hash da foto original
+    private final Map<String, CompletableFuture<Boolean>> emAndamento = new ConcurrentHashMap<>();
+
+    GeradorMiniaturas(ArmazemFotos armazem, int quantidadeTrabalhadores) {
+        this.armazem = armazem;
+        AtomicInteger contador = new AtomicInteger();
+        this.trabalhadores = new ThreadPoolExecutor(quantidadeTrabalhadores, quantidadeTrabalhadores,
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), tarefa -> {
+                    Thread t = new Thread(tarefa, "miniaturas-" + contador.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        ((ThreadPoolExecutor) trabalhadores).allowCoreThreadTimeOut(true);
+    }
+
+    public static GeradorMiniaturas getInstancia() {
+        return instancia;
+    }
+
+    /**
+     * Agenda a geração das miniaturas de uma foto já armazenada.
+     *
+     * @param hash O hash da foto original no {@link ArmazemFotos}.
+     * @return Futuro concluído com true se todas as variantes existem ao
+     *         final, ou false se a foto não existir ou não puder ser
+     *         decodificada.
+     * @throws IllegalArgumentException se o hash for nulo.
+     */
+    public CompletableFuture<Boolean> gerar(String hash) {
+        if (hash == null) {
+            throw new IllegalArgumentException("O hash da foto não pode ser nulo");
+        }
+        if (prontas(hash)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        CompletableFuture<Boolean> tarefa = new CompletableFuture<>();
+        CompletableFuture<Boolean> existente = emAndamento.putIfAbsent(hash, tarefa);
+        if (existente != null) {
+            return existente;
+        }
+        trabalhadores.execute(() -> {
+            try {
+                boolean sucesso = gerarAgora(hash);
+                emAndamento.remove(hash, tarefa);
+                tarefa.complete(sucesso);
+            } catch (RuntimeException e) {
+                emAndamento.remove(hash, tarefa);
+                tarefa.completeExceptionally(e);
+            }
+        });
+        return tarefa;
+    }
+
+    /**
+     * Indica se todas as variantes da foto já foram gravadas.
+     */
+    public boolean prontas(String hash) {
+        for (int lado : LADOS) {
+            if (armazem.lerVariante(hash, lado) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean gerarAgora(String hash) {
+        BufferedImage original;
+        try (InputStream entrada = armazem.abrir(hash)) {
+            if (entrada == null) {
+                return false;
+            }
+            original = ImageIO.read(entrada);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+        if (original == null) {
+            return false; // Formato não suportado pelo ImageIO
+        }
+
+        boolean sucesso = true;
+        for (int lado : LADOS) {
+            try {
+                byte[] variante = codificar(reduzir(original, lado));
+                armazem.salvarVariante(hash, lado, variante);
+            } catch (IOException e) {
+                e.printStackTrace();
+                sucesso = false;
+            }
+        }
+        return sucesso;
+    }
+
+    /**
+     * Reduz a imagem para caber em um quadrado de {@code lado} pixels,
+     * mantendo a proporção. Imagens menores que o lado não são ampliadas.
+     */
+    static BufferedImage reduzir(BufferedImage original, int lado) {
+        int largura = original.getWidth();
+        int altura = original.getHeight();
+        double escala = Math.min(1.0, (double) lado / Math.max(largura, altura));
+        int novaLargura = Math.max(1, (int) Math.round(largura * escala));
+        int novaAltura = Math.max(1, (int) Math.round(altura * escala));
+
+        BufferedImage atual = original;
+        // Reduções grandes em etapas de metade: uma só interpolação bilinear
+        // descartaria pixels e deixaria a miniatura serrilhada
+        while (atual.getWidth() / 2 >= novaLargura && atual.getHeight() / 2 >= novaAltura) {
+            atual = redimensionar(atual, atual.getWidth() / 2, atual.getHeight() / 2);
+        }
+        if (atual.getWidth() != novaLargura || atual.getHeight() != novaAltura || atual == original) {
+            atual = redimensionar(atual, novaLargura, novaAltura);
+        }
+        return atual;
+    }
+
+    private static BufferedImage redimensionar(BufferedImage origem, int largura, int altura) {
+        BufferedImage destino = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = destino.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(origem, 0, 0, largura, altura, null);
+        } finally {
+            g.dispose();
+        }
+        return destino;
+    }
+
+    /**
+     * Codifica a miniatura em PNG (sem perdas e com transparência, lido
+     * tanto pelo ImageIO quanto pelo JavaFX).
+     */
+    private static byte[] codificar(BufferedImage imagem) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        if (!ImageIO.write(imagem, "png", saida)) {
+            throw new IOException("Nenhum codificador PNG disponível");
+        }
+        return saida.toByteArray();
+    }
+}
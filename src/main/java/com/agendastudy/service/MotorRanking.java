@@ -0,0 +1,348 @@
+package com.agendastudy.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.ToDoubleFunction;
+
+import com.agendastudy.DAO.ProfessorDAO;
+import com.agendastudy.DAO.RegistroAlteracoes;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+
+/**
+ * Motor de ranking de professores compartilhado pelo
+ * {@link TutorRankingService} e pelo {@link ProfessorRankingService}.
+ *
+ * Mantém, para cada disciplina, os professores com disponibilidade nas
+ * próximas 72h ordenados pela pontuação. A pontuação de um professor só é
+ * recalculada quando algo que a afeta muda (avaliação, cancelamento,
+ * disponibilidade ou perfil, lidos do {@link RegistroAlteracoes}) ou quando
+ * ela expira, já que disponibilidade e compatibilidade dependem do horário
+ * atual. Assim, o top-N percorre apenas os N primeiros da disciplina.
+ *
+ * A pontuação guardada é global (compatibilidade calculada sem estudante).
+ * Quando a busca informa o estudante, os primeiros do ranking global (quatro
+ * vezes N, no mínimo {@value #MINIMO_CANDIDATOS}) recebem um ajuste por estudante (a
+ * compatibilidade de horários com ele no lugar da global) e são reordenados.
+ * Um professor fora desses candidatos não entra no top-N personalizado: é
+ * uma aproximação, que fica exata enquanto o ajuste não passar da diferença
+ * de pontuação até o fim da lista de candidatos.
+ *
+ * @author Lucas Chagas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class MotorRanking {
+
+    private static final double W_AVALIACAO = 0.5;
+    private static final double W_COMPATIBILIDADE = 0.4;
+    private static final double W_CANCELAMENTO = 0.1;
+
+    // Constante para normalizar a pontuação (assumindo um sistema de 5 estrelas)
+    private static final double MAX_AVALIACAO_SCORE = 5.0;
+
+    /** Tempo padrão até uma pontuação ser recalculada mesmo sem alterações. */
+    public static final Duration VALIDADE_PADRAO = Duration.ofMinutes(1);
+
+    // Candidatos personalizados: FATOR_CANDIDATOS * N, e no mínimo MINIMO_CANDIDATOS
+    private static final int FATOR_CANDIDATOS = 4;
+    private static final int MINIMO_CANDIDATOS = 20;
+
+    /**
+     * Pontuação global de um professor. {@code base} é a parte que não
+     * depende do estudante (avaliações e cancelamentos), sem o limite em 0.
+     */
+    private record Pontuacao(Professor professor, double score, double base, boolean disponivel,
+            Set<String> disciplinas, long expiraEm) {
+    }
+
+    private record Personalizada(Professor professor, double score) {
+    }
+
+    private static final Comparator<Pontuacao> MAIOR_SCORE_PRIMEIRO = Comparator
+            .comparingDouble(Pontuacao::score).reversed()
+            .thenComparing(p -> p.professor().getId());
+
+    private final ProfessorDAO professorDAO;
+    private final ToDoubleFunction<Professor> mediaAvaliacoes;
+    private final DisponibilidadeService dispService;
+    private final long validadeMillis;
+
+    // Pontuação atual de cada professor, pelo ID
+    private final Map<String, Pontuacao> pontuacoes = new ConcurrentHashMap<>();
+
+    // Professores disponíveis de cada disciplina (normalizada), do maior score ao menor
+    private final Map<String, ConcurrentSkipListSet<Pontuacao>> rankingPorDisciplina = new ConcurrentHashMap<>();
+
+    // Disciplinas cujos professores já foram carregados do DAO
+    private final Set<String> disciplinasCarregadas = ConcurrentHashMap.newKeySet();
+
+    // Pontuações ordenadas pela expiração (entradas substituídas são ignoradas ao sair)
+    private final PriorityQueue<Pontuacao> filaExpiracao = new PriorityQueue<>(
+            Comparator.comparingLong(Pontuacao::expiraEm));
+
+    private long ultimaSequencia;
+
+    /**
+     * Cria o motor com a validade padrão das pontuações.
+     *
+     * @param professorDAO    DAO usado para carregar os professores.
+     * @param mediaAvaliacoes Função que retorna a média das avaliações do
+     *                        professor (0.0 a 5.0).
+     * @param dispService     Serviço de disponibilidade e compatibilidade.
+     */
+    public MotorRanking(ProfessorDAO professorDAO, ToDoubleFunction<Professor> mediaAvaliacoes,
+            DisponibilidadeService dispService) {
+        this(professorDAO, mediaAvaliacoes, dispService, VALIDADE_PADRAO);
+    }
+
+    /**
+     * Cria o motor com uma validade específica para as pontuações.
+     *
+     * @param professorDAO    DAO usado para carregar os professores.
+     * @param mediaAvaliacoes Função que retorna a média das avaliações do
+     *                        professor (0.0 a 5.0).
+     * @param dispService     Serviço de disponibilidade e compatibilidade.
+     * @param validade        Tempo até uma pontuação ser recalculada.
+     */
+    public MotorRanking(ProfessorDAO professorDAO, ToDoubleFunction<Professor> mediaAvaliacoes,
+            DisponibilidadeService dispService, Duration validade) {
+        this.professorDAO = professorDAO;
+        this.mediaAvaliacoes = mediaAvaliacoes;
+        this.dispService = dispService;
+        this.validadeMillis = validade.toMillis();
+        this.ultimaSequencia = RegistroAlteracoes.getSequenciaAtual();
+    }
+
+    /**
+     * Retorna os N professores com maior pontuação em uma disciplina, entre
+     * os que têm disponibilidade nas próximas 72 horas.
+     *
+     * @param disciplina O nome da disciplina.
+     * @param n          O número máximo de resultados.
+     * @return Lista de professores, do maior para o menor score.
+     */
+    public List<Professor> getTopN(String disciplina, int n) {
+        List<Professor> resultado = new ArrayList<>();
+        for (Pontuacao pontuacao : primeiros(disciplina, n)) {
+            resultado.add(pontuacao.professor());
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna os N professores com maior pontuação para o estudante: os
+     * primeiros do ranking global, reordenados pela compatibilidade de
+     * horários com ele.
+     *
+     * @param disciplina O nome da disciplina.
+     * @param n          O número máximo de resultados.
+     * @param estudante  O estudante que está buscando (null para o ranking
+     *                   global).
+     * @return Lista de professores, do maior para o menor score.
+     */
+    public List<Professor> getTopN(String disciplina, int n, Estudante estudante) {
+        if (estudante == null) {
+            return getTopN(disciplina, n);
+        }
+        List<Personalizada> personalizadas = new ArrayList<>();
+        for (Pontuacao pontuacao : primeiros(disciplina, candidatosPersonalizados(n))) {
+            double compatibilidade = dispService.calcularCompatibilidadeHorarios(pontuacao.professor(), estudante);
+            personalizadas.add(new Personalizada(pontuacao.professor(),
+                    Math.max(0.0, pontuacao.base() + compatibilidade * W_COMPATIBILIDADE)));
+        }
+        personalizadas.sort(Comparator.comparingDouble(Personalizada::score).reversed()
+                .thenComparing(p -> p.professor().getId()));
+
+        List<Professor> resultado = new ArrayList<>();
+        for (int i = 0; i < personalizadas.size() && i < n; i++) {
+            resultado.add(personalizadas.get(i).professor());
+        }
+        return resultado;
+    }
+
+    /**
+     * Quantidade de candidatos do ranking global reordenados em uma busca
+     * personalizada de N professores.
+     */
+    static int candidatosPersonalizados(int n) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max((long) n * FATOR_CANDIDATOS, MINIMO_CANDIDATOS));
+    }
+
+    private List<Pontuacao> primeiros(String disciplina, int n) {
+        String chave = normalizar(disciplina);
+        if (chave == null || n <= 0) {
+            return new ArrayList<>();
+        }
+
+        sincronizar(chave);
+
+        List<Pontuacao> resultado = new ArrayList<>();
+        Set<Pontuacao> ranking = rankingPorDisciplina.get(chave);
+        if (ranking == null) {
+            return resultado;
+        }
+        Iterator<Pontuacao> it = ranking.iterator();
+        while (it.hasNext() && resultado.size() < n) {
+            resultado.add(it.next());
+        }
+        return resultado;
+    }
+
+    /**
+     * Descarta todas as pontuações; elas serão recalculadas na próxima busca.
+     */
+    public synchronized void invalidarTudo() {
+        pontuacoes.clear();
+        rankingPorDisciplina.clear();
+        disciplinasCarregadas.clear();
+        filaExpiracao.clear();
+    }
+
+    /**
+     * Aplica as alterações pendentes, recalcula as pontuações expiradas e
+     * carrega a disciplina, se ainda não tiver sido carregada.
+     */
+    private synchronized void sincronizar(String chave) {
+        long agora = System.currentTimeMillis();
+
+        RegistroAlteracoes.Leitura leitura = RegistroAlteracoes.lerDesde(ultimaSequencia);
+        ultimaSequencia = leitura.sequencia();
+        if (!leitura.completo()) {
+            invalidarTudo();
+        } else {
+            for (String professorId : leitura.professores()) {
+                recalcular(professorId, agora);
+            }
+        }
+
+        while (!filaExpiracao.isEmpty() && filaExpiracao.peek().expiraEm() <= agora) {
+            Pontuacao expirada = filaExpiracao.poll();
+            String professorId = expirada.professor().getId();
+            if (pontuacoes.get(professorId) == expirada) {
+                recalcular(professorId, agora);
+            }
+        }
+
+        if (disciplinasCarregadas.add(chave)) {
+            for (Professor professor : professorDAO.findByDisciplina(chave)) {
+                if (!pontuacoes.containsKey(professor.getId())) {
+                    atualizar(professor, agora);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recalcula a pontuação de um professor alterado. Professores que ainda
+     * não estão no motor só entram se lecionarem alguma disciplina já
+     * carregada.
+     */
+    private void recalcular(String professorId, long agora) {
+        Professor professor = professorDAO.buscarPorId(professorId);
+        if (professor == null) {
+            remover(professorId);
+            return;
+        }
+        if (pontuacoes.containsKey(professorId) || lecionaDisciplinaCarregada(professor)) {
+            atualizar(professor, agora);
+        }
+    }
+
+    private void atualizar(Professor professor, long agora) {
+        remover(professor.getId());
+
+        boolean disponivel = dispService.temDisponibilidadeProximas72h(professor);
+        double base = calcularBase(professor);
+        double score = 0.0;
+        if (disponivel) {
+            // A compatibilidade global ainda não usa os dados do estudante
+            double indiceCompatibilidade = dispService.calcularCompatibilidadeHorarios(professor, null);
+            score = Math.max(0.0, base + indiceCompatibilidade * W_COMPATIBILIDADE);
+        }
+
+        Set<String> disciplinas = new HashSet<>();
+        if (professor.getDisciplinas() != null) {
+            for (String disciplina : professor.getDisciplinas()) {
+                String chave = normalizar(disciplina);
+                if (chave != null) {
+                    disciplinas.add(chave);
+                }
+            }
+        }
+
+        Pontuacao nova = new Pontuacao(professor, score, base, disponivel,
+                Collections.unmodifiableSet(disciplinas), agora + validadeMillis);
+        pontuacoes.put(professor.getId(), nova);
+        filaExpiracao.add(nova);
+
+        if (disponivel) {
+            for (String chave : disciplinas) {
+                rankingPorDisciplina
+                        .computeIfAbsent(chave, d -> new ConcurrentSkipListSet<>(MAIOR_SCORE_PRIMEIRO))
+                        .add(nova);
+            }
+        }
+    }
+
+    private void remover(String professorId) {
+        Pontuacao antiga = pontuacoes.remove(professorId);
+        if (antiga == null || !antiga.disponivel()) {
+            return;
+        }
+        for (String chave : antiga.disciplinas()) {
+            Set<Pontuacao> ranking = rankingPorDisciplina.get(chave);
+            if (ranking != null) {
+                ranking.remove(antiga);
+            }
+        }
+    }
+
+    private boolean lecionaDisciplinaCarregada(Professor professor) {
+        if (professor.getDisciplinas() == null) {
+            return false;
+        }
+        for (String disciplina : professor.getDisciplinas()) {
+            String chave = normalizar(disciplina);
+            if (chave != null && disciplinasCarregadas.contains(chave)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parte da pontuação que não depende do estudante. O score é esta base
+     * mais a compatibilidade de horários (peso {@code W_COMPATIBILIDADE}),
+     * limitado a no mínimo 0.
+     */
+    private double calcularBase(Professor professor) {
+
+        double mediaAvaliacoes = this.mediaAvaliacoes.applyAsDouble(professor);
+        double taxaCancelamento = professor.getTaxaCancelamento();
+
+        double scoreAvaliacaoNormalizado = (mediaAvaliacoes / MAX_AVALIACAO_SCORE);
+
+        return (scoreAvaliacaoNormalizado * W_AVALIACAO) -
+                (taxaCancelamento * W_CANCELAMENTO); // Penalidade por cancelamento
+    }
+
+    private static String normalizar(String disciplina) {
+        if (disciplina == null) {
+            return null;
+        }
+        String normalizada = disciplina.trim().toLowerCase(Locale.ROOT);
+        return normalizada.isEmpty() ? null : normalizada;
+    }
+}
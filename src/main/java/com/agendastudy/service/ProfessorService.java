@@ -2,6 +2,7 @@ package com.agendastudy.service;
 
 import java.util.List;
 
+import com.agendastudy.DAO.AvaliacaoDAO;
 import com.agendastudy.DAO.ProfessorDAO;
 import com.agendastudy.model.Professor;
 
@@ -10,14 +11,14 @@ import com.agendastudy.model.Professor;
  * do Professor. Orquestra a persistência através do ProfessorDAO.
  *
  * @author Paulo Vitor Dias Soares
- * @version 1.3
+ * @version 1.5
  * @since 2025-11-30
  */
 public class ProfessorService {
     private final ProfessorDAO professorDAO;
 
-    // Assumimos que você tem um DAO para Avaliações (se necessário para cálculos)
-    // private final AvaliacaoDAO avaliacaoDAO;
+    // DAO de avaliações (opcional): quando presente, a média vem do agregado
+    private final AvaliacaoDAO avaliacaoDAO;
 
     /**
      * Construtor que recebe o DAO por Injeção de Dependência.
@@ -25,7 +26,19 @@ public class ProfessorService {
      * @param professorDAO O objeto DAO responsável pela persistência do Professor
      */
     public ProfessorService(ProfessorDAO professorDAO) {
+        this(professorDAO, null);
+    }
+
+    /**
+     * Construtor que recebe também o DAO de avaliações, usado para ler a média
+     * das notas do agregado mantido pelo DAO.
+     *
+     * @param professorDAO O objeto DAO responsável pela persistência do Professor
+     * @param avaliacaoDAO O DAO de avaliações (pode ser nulo)
+     */
+    public ProfessorService(ProfessorDAO professorDAO, AvaliacaoDAO avaliacaoDAO) {
         this.professorDAO = professorDAO;
+        this.avaliacaoDAO = avaliacaoDAO;
     }
 
     // --- LÓGICA DE CADASTRO ---
@@ -40,7 +53,7 @@ public class ProfessorService {
      */
     public void cadastrarProfessor(Professor professor) {
         // Validação de unicidade de e-mail (regra de negócio)
-        if (professorDAO.buscarPorEmail(professor.getEmail()) != null) {
+        if (professorDAO.emailExiste(professor.getEmail())) {
             throw new IllegalArgumentException(
                     "O e-mail '" + professor.getEmail() + "' já está cadastrado no sistema.");
         }
@@ -142,11 +155,16 @@ public class ProfessorService {
 
     /**
      * Calcula e retorna a nota média das avaliações de um professor.
+     * Usa o agregado do AvaliacaoDAO quando disponível; caso contrário,
+     * calcula a partir da lista do próprio professor.
      *
      * @param professor O objeto Professor
      * @return A média (double) das notas das avaliações
      */
     public double getMediaAvaliacoes(Professor professor) {
+        if (avaliacaoDAO != null) {
+            return avaliacaoDAO.getMediaAvaliacoes(professor.getId());
+        }
         List<com.agendastudy.model.Avaliacao> avaliacoes = professor.getAvaliacoes();
 
         if (avaliacoes.isEmpty()) {
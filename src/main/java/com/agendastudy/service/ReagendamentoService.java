@@ -8,19 +8,31 @@ import com.agendastudy.model.SlotDisponivel;
 import com.agendastudy.model.Estudante;
 import com.agendastudy.model.HorarioSugerido;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * ReagendamentoService (SCRUM-81).
  *
+ * As sugestões são geradas por uma varredura única: os horários ocupados do
+ * professor e do aluno são ordenados e unidos uma vez, e depois a
+ * disponibilidade do professor é percorrida em passos de 30 minutos, saltando
+ * direto para o fim de cada bloco ocupado. O resultado é um {@link Stream}
+ * preguiçoso, então quem só precisa das primeiras sugestões não paga pelas
+ * demais.
  *
  * @author Lucas Chagas
- * @version 1.1 (Ajustado por Paulo Vitor)
+ * @version 1.2 (Ajustado por Paulo Vitor)
  * @since 2025-11-29
  */
 
@@ -38,7 +50,44 @@ public class ReagendamentoService {
         this.aulaDAO = aulaDAO;
     }
 
+    /** Intervalo ocupado [inicio, fim). */
+    private record Intervalo(LocalDateTime inicio, LocalDateTime fim) {
+    }
+
+    /**
+     * Retorna todas as sugestões de reagendamento, em ordem cronológica.
+     *
+     * @param aulaParaReagendar A aula que será reagendada.
+     * @return Lista de horários livres para professor e aluno.
+     */
     public List<HorarioSugerido> getSugestoesReagendamento(Aula aulaParaReagendar) {
+        return streamSugestoesReagendamento(aulaParaReagendar).collect(Collectors.toList());
+    }
+
+    /**
+     * Retorna apenas as primeiras sugestões de reagendamento (a varredura para
+     * assim que o limite é atingido).
+     *
+     * @param aulaParaReagendar A aula que será reagendada.
+     * @param limite            Quantidade máxima de sugestões.
+     * @return Lista com até {@code limite} horários, em ordem cronológica.
+     */
+    public List<HorarioSugerido> getSugestoesReagendamento(Aula aulaParaReagendar, int limite) {
+        return streamSugestoesReagendamento(aulaParaReagendar).limit(limite).collect(Collectors.toList());
+    }
+
+    /**
+     * Retorna as sugestões de reagendamento como um Stream preguiçoso, em
+     * ordem cronológica. As consultas aos DAOs são feitas na chamada; a
+     * varredura dos horários só avança conforme o Stream é consumido.
+     *
+     * Para ordenar por outro critério, use por exemplo
+     * {@link #maisProximoDe(LocalDateTime)} com {@code sorted(...)}.
+     *
+     * @param aulaParaReagendar A aula que será reagendada.
+     * @return Stream de horários livres para professor e aluno.
+     */
+    public Stream<HorarioSugerido> streamSugestoesReagendamento(Aula aulaParaReagendar) {
 
         Professor professor = aulaParaReagendar.getProfessor();
         Estudante estudante = aulaParaReagendar.getEstudante();
@@ -50,78 +99,155 @@ public class ReagendamentoService {
 
         // --- 1. Busca e Unificação de Horários Ocupados ---
 
-        // 1. Aulas já agendadas para o professor
-        List<Aula> aulasOcupadasProfessor = aulaDAO.findAulasPorPeriodo(professor.getId(), inicioBusca, fimBusca);
-        // 2. Aulas já agendadas para o aluno (para evitar conflitos na agenda dele)
-        List<Aula> aulasOcupadasEstudante = aulaDAO.findAulasPorPeriodo(estudante.getId(), inicioBusca, fimBusca);
-
-        // Unifica os horários ocupados de ambos
-        Set<Aula> todosHorariosOcupados = new HashSet<>(aulasOcupadasProfessor);
-        todosHorariosOcupados.addAll(aulasOcupadasEstudante);
-
-        // CRUCIAL: Remove a aula antiga da lista de ocupados.
-        // FUNCIONA APENAS SE AULA TIVER equals() e hashCode() baseados no idAula!
-        todosHorariosOcupados.remove(aulaParaReagendar);
+        // Aulas já agendadas para o professor e para o aluno (para evitar conflitos
+        // na agenda dele)
+        List<Aula> aulasOcupadas = new ArrayList<>(
+                aulaDAO.findAulasPorPeriodo(professor.getId(), inicioBusca, fimBusca));
+        if (estudante != null) {
+            aulasOcupadas.addAll(aulaDAO.findAulasPorPeriodo(estudante.getId(), inicioBusca, fimBusca));
+        }
 
-        // --- 2. Busca e Filtro por Disponibilidade ---
+        // Remove a aula antiga da lista de ocupados, ordena e une os intervalos
+        List<Intervalo> ocupados = unirIntervalos(aulasOcupadas, aulaParaReagendar.getIdAula());
 
-        // Busca os blocos de tempo em que o professor disse que está disponível.
+        // --- 2. Disponibilidade do professor (já em ordem de início) ---
         List<SlotDisponivel> disponibilidadeProfessor = dispDAO.findDisponibilidade(
                 professor.getId(), inicioBusca, fimBusca);
 
-        List<HorarioSugerido> sugestoes = new ArrayList<>();
+        Iterator<HorarioSugerido> varredura = new Varredura(disponibilidadeProfessor, ocupados,
+                duracaoMinutos, inicioBusca);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(varredura,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false);
+    }
 
-        for (SlotDisponivel slot : disponibilidadeProfessor) {
+    /**
+     * Critério de ordenação que coloca primeiro as sugestões mais próximas de
+     * um horário de referência (ex: o horário original da aula).
+     *
+     * @param referencia O horário de referência.
+     * @return Comparator para usar com {@code Stream.sorted}.
+     */
+    public static Comparator<HorarioSugerido> maisProximoDe(LocalDateTime referencia) {
+        return Comparator.comparingLong(h -> Math.abs(Duration.between(referencia, h.getInicio()).toMinutes()));
+    }
 
-            // Inicia a sugestão no começo do bloco de disponibilidade ou no próximo
-            // INCREMENTO
-            LocalDateTime inicioSlotProposto = slot.getInicio();
+    /**
+     * Ordena os horários ocupados pelo início e une os que se sobrepõem ou se
+     * encostam, ignorando a aula que está sendo reagendada.
+     */
+    private List<Intervalo> unirIntervalos(List<Aula> aulas, String idIgnorado) {
+        List<Intervalo> intervalos = new ArrayList<>(aulas.size());
+        for (Aula aula : aulas) {
+            if (idIgnorado == null || !idIgnorado.equals(aula.getIdAula())) {
+                intervalos.add(new Intervalo(aula.getDataHora(), aula.getFimAula()));
+            }
+        }
+        intervalos.sort(Comparator.comparing(Intervalo::inicio));
+
+        List<Intervalo> unidos = new ArrayList<>(intervalos.size());
+        for (Intervalo atual : intervalos) {
+            int ultimo = unidos.size() - 1;
+            if (ultimo >= 0 && !atual.inicio().isAfter(unidos.get(ultimo).fim())) {
+                Intervalo anterior = unidos.get(ultimo);
+                if (atual.fim().isAfter(anterior.fim())) {
+                    unidos.set(ultimo, new Intervalo(anterior.inicio(), atual.fim()));
+                }
+            } else {
+                unidos.add(atual);
+            }
+        }
+        return unidos;
+    }
 
-            // Percorre o slot de disponibilidade (do professor)
-            while (!inicioSlotProposto.plusMinutes(duracaoMinutos).isAfter(slot.getFim())) {
+    /**
+     * Varredura sobre os slots de disponibilidade e os intervalos ocupados,
+     * ambos ordenados. Cada ponteiro só anda para frente, então o custo total é
+     * proporcional a slots + ocupados + sugestões geradas.
+     */
+    private static final class Varredura implements Iterator<HorarioSugerido> {
+
+        private final List<SlotDisponivel> slots;
+        private final List<Intervalo> ocupados;
+        private final long duracaoMinutos;
+        private final LocalDateTime agora;
+
+        private int indiceSlot = -1;
+        private int indiceOcupado = 0;
+        private LocalDateTime candidato; // próximo início a testar no slot atual
+        private HorarioSugerido proximo;
+
+        Varredura(List<SlotDisponivel> slots, List<Intervalo> ocupados, long duracaoMinutos, LocalDateTime agora) {
+            this.slots = slots;
+            this.ocupados = ocupados;
+            this.duracaoMinutos = duracaoMinutos;
+            this.agora = agora;
+        }
 
-                // Pula horários que já passaram (se o bloco de disponibilidade começar no
-                // passado)
-                if (inicioSlotProposto.isBefore(LocalDateTime.now())) {
-                    inicioSlotProposto = inicioSlotProposto.plusMinutes(INCREMENTO_SUGESTAO_MINUTOS);
-                    continue;
+        @Override
+        public boolean hasNext() {
+            if (proximo == null) {
+                proximo = avancar();
+            }
+            return proximo != null;
+        }
+
+        @Override
+        public HorarioSugerido next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            HorarioSugerido atual = proximo;
+            proximo = null;
+            return atual;
+        }
+
+        private HorarioSugerido avancar() {
+            while (true) {
+                if (candidato == null) {
+                    if (++indiceSlot >= slots.size()) {
+                        return null;
+                    }
+                    // Inicia no começo do bloco, pulando horários que já passaram
+                    candidato = primeiroPassoApos(slots.get(indiceSlot).getInicio(), agora);
                 }
 
-                LocalDateTime fimSlotProposto = inicioSlotProposto.plusMinutes(duracaoMinutos);
+                SlotDisponivel slot = slots.get(indiceSlot);
+                LocalDateTime fimProposto = candidato.plusMinutes(duracaoMinutos);
+                if (fimProposto.isAfter(slot.getFim())) {
+                    candidato = null; // não cabe mais neste slot
+                    continue;
+                }
 
-                // Checa conflito contra a lista unificada
-                boolean conflito = temConflito(inicioSlotProposto, fimSlotProposto, todosHorariosOcupados);
+                // Descarta os ocupados que terminam antes do candidato
+                while (indiceOcupado < ocupados.size() && !ocupados.get(indiceOcupado).fim().isAfter(candidato)) {
+                    indiceOcupado++;
+                }
 
-                if (!conflito) {
-                    sugestoes.add(new HorarioSugerido(inicioSlotProposto, fimSlotProposto));
+                if (indiceOcupado < ocupados.size() && ocupados.get(indiceOcupado).inicio().isBefore(fimProposto)) {
+                    // Conflito: salta para o primeiro passo após o fim do bloco ocupado
+                    candidato = primeiroPassoApos(slot.getInicio(), ocupados.get(indiceOcupado).fim());
+                    continue;
                 }
 
-                // Usa a constante (Melhoria 1)
-                inicioSlotProposto = inicioSlotProposto.plusMinutes(INCREMENTO_SUGESTAO_MINUTOS);
+                HorarioSugerido sugestao = new HorarioSugerido(candidato, fimProposto);
+                candidato = candidato.plusMinutes(INCREMENTO_SUGESTAO_MINUTOS);
+                return sugestao;
             }
         }
 
-        return sugestoes;
-    }
-
-    /**
-     * Verifica se um horário proposto (inicio/fim) sobrepõe qualquer aula agendada.
-     * A lógica de sobreposição (A.fim > B.inicio) E (A.inicio < B.fim) está
-     * correta.
-     * 
-     * @param aulasAgendadas Usamos 'Collection' pois agora recebemos um 'Set'.
-     */
-    private boolean temConflito(LocalDateTime inicioProposto, LocalDateTime fimProposto,
-            Collection<Aula> aulasAgendadas) {
-        for (Aula aula : aulasAgendadas) {
-            // Lógica de conflito: Se o fim de A for APÓS o início de B E o início de A for
-            // ANTES do fim de B, há sobreposição.
-            if (fimProposto.isAfter(aula.getDataHora()) && inicioProposto.isBefore(aula.getFimAula())) {
-                // Sim, há sobreposição (conflito)
-                return true;
+        /**
+         * Primeiro horário da grade do slot (início + k * 30 min) que não é
+         * anterior ao limite.
+         */
+        private static LocalDateTime primeiroPassoApos(LocalDateTime inicioSlot, LocalDateTime limite) {
+            if (!inicioSlot.isBefore(limite)) {
+                return inicioSlot;
             }
+            long minutos = Duration.between(inicioSlot, limite).toMinutes();
+            long passos = (minutos + INCREMENTO_SUGESTAO_MINUTOS - 1) / INCREMENTO_SUGESTAO_MINUTOS;
+            LocalDateTime passo = inicioSlot.plusMinutes(passos * INCREMENTO_SUGESTAO_MINUTOS);
+            // Ajuste para segundos/nanos que a divisão em minutos descarta
+            return passo.isBefore(limite) ? passo.plusMinutes(INCREMENTO_SUGESTAO_MINUTOS) : passo;
         }
-        // Não foi encontrado nenhum conflito
-        return false;
     }
 }
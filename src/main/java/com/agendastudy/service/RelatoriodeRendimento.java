@@ -2,6 +2,7 @@ package com.agendastudy.service;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import com.agendastudy.DAO.AulaDAO;
 import com.agendastudy.model.Aula;
 import com.agendastudy.model.Professor;
 import com.agendastudy.model.StatusAula;
@@ -9,22 +10,43 @@ import com.agendastudy.model.StatusAula;
 /**
  * Serviço responsável por gerar relatórios de rendimento para os professores.
  * A classe consolida indicadores como total de aulas concluídas por período
- * e taxas de cancelamento, baseando-se no mapa de aulas fornecido no construtor.
+ * e taxas de cancelamento, baseando-se no mapa de aulas fornecido no construtor
+ * ou, de preferência, direto no {@link AulaDAO}: nesse caso as contagens vêm
+ * das partições por status do DAO (O(1)) e as listagens percorrem só as
+ * aulas do status pedido.
  *
 /* @author Luara gabrielli guimarães araujo
- * @version 1.0
+ * @version 1.1
  * @since 2025
   */
 public class RelatoriodeRendimento {
 
     private Map<Professor, List<Aula>> aulasPorProfessor;
 
+    // Quando presente, as consultas vão direto às partições do DAO
+    private final AulaDAO aulaDAO;
+
     public RelatoriodeRendimento(Map<Professor, List<Aula>> aulasPorProfessor) {
         this.aulasPorProfessor = aulasPorProfessor;
+        this.aulaDAO = null;
+    }
+
+    /**
+     * Relatório calculado sobre as aulas do DAO (incluindo as canceladas).
+     *
+     * @param aulaDAO O DAO de aulas.
+     */
+    public RelatoriodeRendimento(AulaDAO aulaDAO) {
+        this.aulasPorProfessor = Collections.emptyMap();
+        this.aulaDAO = aulaDAO;
     }
 
     // Total de aulas concluídas por período
     public int calcularTotalAulas(Professor professor, LocalDateTime inicio, LocalDateTime fim) { 
+        if (aulaDAO != null) {
+            return aulaDAO.buscarPorStatusNoPeriodo(professor.getId(), StatusAula.CONCLUIDA, inicio, fim).size();
+        }
+
         List<Aula> aulas = aulasPorProfessor.getOrDefault(professor, new ArrayList<>());
         int count = 0;
 
@@ -44,49 +66,64 @@ public class RelatoriodeRendimento {
 
     // Taxa de cancelamento pelo aluno
     public double calcularTaxaCancelamentoAluno(Professor professor) {
-        List<Aula> aulas = aulasPorProfessor.getOrDefault(professor, new ArrayList<>());
-
-        int canceladasAluno = 0;
-        for (Aula aula : aulas) {
-            if (aula.getStatus() == StatusAula.CANCELADA_ALUNO) { 
-                canceladasAluno++;
-            }
-        }
-
-        return aulas.isEmpty() ? 0.0 :
-                (canceladasAluno * 100.0 / aulas.size());
+        return taxa(professor, StatusAula.CANCELADA_ALUNO);
     }
 
     // Taxa de cancelamento pelo professor
     public double calcularTaxaCancelamentoProfessor(Professor professor) {
-        List<Aula> aulas = aulasPorProfessor.getOrDefault(professor, new ArrayList<>());
-
-        int canceladasProfessor = 0;
-        for (Aula aula : aulas) {
-            if (aula.getStatus() == StatusAula.CANCELADA_PROFESSOR) {
-                canceladasProfessor++;
-            }
-        }
-
-        return aulas.isEmpty() ? 0.0 :
-                (canceladasProfessor * 100.0 / aulas.size());
+        return taxa(professor, StatusAula.CANCELADA_PROFESSOR);
     }
 
     // cancelamentos por aluno
     public Map<String, Integer> calcularCancelamentosPorAluno(Professor professor) {
-        List<Aula> aulas = aulasPorProfessor.getOrDefault(professor, new ArrayList<>());
-
         Map<String, Integer> cancelamentos = new HashMap<>();
 
-        for (Aula aula : aulas) {
-            if (aula.getStatus() == StatusAula.CANCELADA_ALUNO) {
-                String nomeAluno = aula.getEstudante().getNome(); // ajuste se o método for diferente
+        for (Aula aula : aulasComStatus(professor, StatusAula.CANCELADA_ALUNO)) {
+            String nomeAluno = aula.getEstudante().getNome(); // ajuste se o método for diferente
 
-                cancelamentos.put(nomeAluno,
-                        cancelamentos.getOrDefault(nomeAluno, 0) + 1);
-            }
+            cancelamentos.put(nomeAluno,
+                    cancelamentos.getOrDefault(nomeAluno, 0) + 1);
         }
 
         return cancelamentos;
     }
+
+    /**
+     * Percentual das aulas do professor que estão no status informado.
+     */
+    private double taxa(Professor professor, StatusAula status) {
+        int total;
+        int comStatus;
+        if (aulaDAO != null) {
+            // Só contadores: nenhuma aula é percorrida
+            total = 0;
+            for (StatusAula s : StatusAula.values()) {
+                total += aulaDAO.contarPorStatus(professor.getId(), s);
+            }
+            comStatus = aulaDAO.contarPorStatus(professor.getId(), status);
+        } else {
+            List<Aula> aulas = aulasPorProfessor.getOrDefault(professor, new ArrayList<>());
+            total = aulas.size();
+            comStatus = aulasComStatus(professor, status).size();
+        }
+
+        return total == 0 ? 0.0 :
+                (comStatus * 100.0 / total);
+    }
+
+    /**
+     * Aulas do professor no status informado (partição do DAO ou filtro do mapa).
+     */
+    private List<Aula> aulasComStatus(Professor professor, StatusAula status) {
+        if (aulaDAO != null) {
+            return aulaDAO.buscarPorStatus(professor.getId(), status);
+        }
+        List<Aula> resultado = new ArrayList<>();
+        for (Aula aula : aulasPorProfessor.getOrDefault(professor, new ArrayList<>())) {
+            if (aula.getStatus() == status) {
+                resultado.add(aula);
+            }
+        }
+        return resultado;
+    }
 }
@@ -7,17 +7,37 @@ import com.agendastudy.model.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Serviço responsável pela lógica de negócio de agendamento.
  * Centraliza as regras de validação (conflito de horário, permissões)
  * para criação, reserva, reagendamento e cancelamento de aulas.
  *
+ * Concorrência: toda operação que valida e depois altera a agenda de um
+ * professor roda sob a trava do professor, escolhida em um conjunto fixo de
+ * travas (lock striping) pelo hash do ID. Assim a verificação e a gravação
+ * são atômicas para aquele professor, sem serializar professores diferentes.
+ * As travas são estáticas porque cada tela cria sua própria instância do
+ * serviço.
+ *
  * @author VINICIUS ALVES RIBEIRO SILVA
- * @version 1.2
+ * @version 1.4
  * @since 2025-11-29
  */
 public class ServicoAgendamento {
+
+    /** Quantidade de travas; potência de 2 para o índice sair de uma máscara. */
+    private static final int QUANTIDADE_TRAVAS = 64;
+    private static final ReentrantLock[] travas = new ReentrantLock[QUANTIDADE_TRAVAS];
+
+    static {
+        for (int i = 0; i < QUANTIDADE_TRAVAS; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
     private final AulaDAO aulaDAO;
     // private final DisponibilidadeDAO dispDAO; // REMOVED unused
     // private static final int DURACAO_PADRAO_MINUTOS = 60; // REMOVED unused
@@ -35,6 +55,18 @@ public class ServicoAgendamento {
 
     // --- FUNÇÕES AUXILIARES DE VALIDAÇÃO ---
 
+    /**
+     * Retorna a trava que protege a agenda do professor. Professores com o
+     * mesmo hash compartilham a trava, o que só reduz o paralelismo entre
+     * eles. Também usada pelo {@link AgendadorConclusaoAulas} ao concluir
+     * uma aula.
+     */
+    static ReentrantLock travaDo(Professor professor) {
+        int h = Objects.hashCode(professor.getId());
+        h ^= (h >>> 16); // espalha os bits altos antes da máscara
+        return travas[h & (QUANTIDADE_TRAVAS - 1)];
+    }
+
     /**
      * Valida se um professor está disponível em um determinado horário.
      * Verifica conflitos com outras aulas do professor.
@@ -48,9 +80,11 @@ public class ServicoAgendamento {
      */
     private boolean isHorarioDisponivel(Professor professor, LocalDateTime dataHora, int duracaoMinutos,
             String idAulaExcluir) {
-        List<Aula> aulasAgendadas = aulaDAO.buscarAulasDoProfessor(professor);
         LocalDateTime dataFim = dataHora.plusMinutes(duracaoMinutos); // Assumindo 1 hora de duração padrão
 
+        // Busca no índice apenas as aulas do professor que tocam o intervalo
+        List<Aula> aulasAgendadas = aulaDAO.findAulasPorPeriodo(professor.getId(), dataHora, dataFim);
+
         for (Aula aula : aulasAgendadas) {
             // Ignora a própria aula na verificação de conflito (para reagendamentos)
             if (aula.getIdAula() != null && aula.getIdAula().equals(idAulaExcluir)) {
@@ -93,21 +127,28 @@ public class ServicoAgendamento {
         if (duracaoMinutos <= 0) {
             throw new IllegalArgumentException("A duração da aula deve ser positiva.");
         }
-        if (!isHorarioDisponivel(professor, dataHora, duracaoMinutos, null)) {
-            throw new IllegalStateException("O professor já possui uma aula agendada neste horário.");
-        }
 
-        // Cria a aula sem estudante (vaga aberta)
-        Aula novaAula = new Aula(
-                null, // ID será gerado pelo DAO
-                titulo,
-                descricao,
-                professor,
-                null, // Estudante é nulo
-                dataHora,
-                duracaoMinutos);
-
-        return aulaDAO.salvarOuAtualizar(novaAula);
+        ReentrantLock trava = travaDo(professor);
+        trava.lock();
+        try {
+            if (!isHorarioDisponivel(professor, dataHora, duracaoMinutos, null)) {
+                throw new IllegalStateException("O professor já possui uma aula agendada neste horário.");
+            }
+
+            // Cria a aula sem estudante (vaga aberta)
+            Aula novaAula = new Aula(
+                    null, // ID será gerado pelo DAO
+                    titulo,
+                    descricao,
+                    professor,
+                    null, // Estudante é nulo
+                    dataHora,
+                    duracaoMinutos);
+
+            return aulaDAO.salvarOuAtualizar(novaAula);
+        } finally {
+            trava.unlock();
+        }
     }
 
     // --- FUNÇÕES DE RESERVA/AGENDAMENTO (Estudante) ---
@@ -124,16 +165,28 @@ public class ServicoAgendamento {
     public Aula agendarAula(String idAula, Estudante estudante) {
         Aula aula = aulaDAO.buscarPorId(idAula);
 
-        if (aula == null || aula.getStatus() == StatusAula.CANCELADA_ALUNO) {
+        if (aula == null) {
             throw new NoSuchElementException("Disponibilidade de aula não encontrada ou cancelada.");
         }
-        if (aula.getEstudante() != null) {
-            throw new IllegalStateException("Esta aula já está reservada por outro estudante.");
-        }
 
-        aula.setEstudante(estudante); // Registra a confirmação do estudante
+        // Verifica e reserva sob a trava: dois estudantes não levam a mesma vaga
+        ReentrantLock trava = travaDo(aula.getProfessor());
+        trava.lock();
+        try {
+            if (aula.getStatus() == StatusAula.CANCELADA_ALUNO) {
+                throw new NoSuchElementException("Disponibilidade de aula não encontrada ou cancelada.");
+            }
+            if (aula.getEstudante() != null) {
+                throw new IllegalStateException("Esta aula já está reservada por outro estudante.");
+            }
+
+            aula.setEstudante(estudante); // Registra a confirmação do estudante
+            aulaDAO.salvarOuAtualizar(aula);
+        } finally {
+            trava.unlock();
+        }
         System.out.println("Aula " + idAula + " reservada pelo estudante " + estudante.getNome());
-        return aulaDAO.salvarOuAtualizar(aula);
+        return aula;
     }
 
     // --- FUNÇÕES DE REAGENDAMENTO (Professor E Estudante) ---
@@ -152,7 +205,8 @@ public class ServicoAgendamento {
      * @throws NoSuchElementException   se a aula não for encontrada.
      * @throws IllegalArgumentException se o novo horário for no passado.
      * @throws SecurityException        se o usuário não tiver permissão.
-     * @throws IllegalStateException    se houver conflito de horário com o
+     * @throws IllegalStateException    se a aula já tiver terminado ou se
+     *                                  houver conflito de horário com o
      *                                  professor.
      */
     public Aula reagendarAula(String idAula, Usuario usuarioReagendando, LocalDateTime novaDataHora,
@@ -172,30 +226,42 @@ public class ServicoAgendamento {
             throw new IllegalArgumentException("A duração final da aula deve ser positiva.");
         }
 
-        // 1. Verificar permissão
-        boolean isProfessorDono = usuarioReagendando instanceof Professor
-                && usuarioReagendando.getId().equals(aula.getProfessor().getId());
-        boolean isEstudanteReserva = aula.getEstudante() != null && usuarioReagendando instanceof Estudante
-                && usuarioReagendando.getId().equals(aula.getEstudante().getId());
+        ReentrantLock trava = travaDo(aula.getProfessor());
+        trava.lock();
+        try {
+            // 1. Verificar permissão
+            boolean isProfessorDono = usuarioReagendando instanceof Professor
+                    && usuarioReagendando.getId().equals(aula.getProfessor().getId());
+            boolean isEstudanteReserva = aula.getEstudante() != null && usuarioReagendando instanceof Estudante
+                    && usuarioReagendando.getId().equals(aula.getEstudante().getId());
+
+            if (!isProfessorDono && !isEstudanteReserva) {
+                throw new SecurityException("Usuário não tem permissão para reagendar esta aula.");
+            }
 
-        if (!isProfessorDono && !isEstudanteReserva) {
-            throw new SecurityException("Usuário não tem permissão para reagendar esta aula.");
-        }
+            // Aula já terminada é (ou está para ser) concluída pelo agendador
+            if (aula.getStatus() == StatusAula.CONCLUIDA || !aula.getFimAula().isAfter(LocalDateTime.now())) {
+                throw new IllegalStateException("Não é possível reagendar uma aula que já terminou.");
+            }
 
-        // 2. Validação de conflito do PROFESSOR (ignorando a própria aula)
-        if (!isHorarioDisponivel(aula.getProfessor(), novaDataHora, duracaoFinal, idAula)) {
-            throw new IllegalStateException("O novo horário conflita com outra aula já agendada do professor.");
-        }
+            // 2. Validação de conflito do PROFESSOR (ignorando a própria aula)
+            if (!isHorarioDisponivel(aula.getProfessor(), novaDataHora, duracaoFinal, idAula)) {
+                throw new IllegalStateException("O novo horário conflita com outra aula já agendada do professor.");
+            }
 
-        // 3. Persiste o reagendamento
-        aula.setDataHora(novaDataHora);
+            // 3. Persiste o reagendamento
+            aula.setDataHora(novaDataHora);
 
-        if (novaDuracaoMinutos > 0) {
-            aula.setDuracaoMinutos(novaDuracaoMinutos);
+            if (novaDuracaoMinutos > 0) {
+                aula.setDuracaoMinutos(novaDuracaoMinutos);
+            }
+            aulaDAO.salvarOuAtualizar(aula);
+        } finally {
+            trava.unlock();
         }
         System.out.println(
                 "Aula " + idAula + " reagendada para: " + novaDataHora + " por " + usuarioReagendando.getNome());
-        return aulaDAO.salvarOuAtualizar(aula);
+        return aula;
     }
 
     // --- FUNÇÕES DE CANCELAMENTO ---
@@ -217,24 +283,30 @@ public class ServicoAgendamento {
             throw new NoSuchElementException("Aula de ID: " + idAula + " não encontrada!");
         }
 
-        // 1. Verificar permissão para cancelar
-        boolean isProfessorDono = usuarioCancelando instanceof Professor
-                && usuarioCancelando.getId().equals(aula.getProfessor().getId());
-        boolean isEstudanteReserva = aula.getEstudante() != null && usuarioCancelando instanceof Estudante
-                && usuarioCancelando.getId().equals(aula.getEstudante().getId());
+        ReentrantLock trava = travaDo(aula.getProfessor());
+        trava.lock();
+        try {
+            // 1. Verificar permissão para cancelar
+            boolean isProfessorDono = usuarioCancelando instanceof Professor
+                    && usuarioCancelando.getId().equals(aula.getProfessor().getId());
+            boolean isEstudanteReserva = aula.getEstudante() != null && usuarioCancelando instanceof Estudante
+                    && usuarioCancelando.getId().equals(aula.getEstudante().getId());
+
+            if (!isProfessorDono && !isEstudanteReserva) {
+                throw new SecurityException("Usuário não tem permissão para cancelar esta aula.");
+            }
 
-        if (!isProfessorDono && !isEstudanteReserva) {
-            throw new SecurityException("Usuário não tem permissão para cancelar esta aula.");
-        }
+            if (isProfessorDono) {
+                aula.setStatus(StatusAula.CANCELADA_PROFESSOR);
+            } else { // Deve ser o estudante, por causa da verificação de permissão
+                aula.setStatus(StatusAula.CANCELADA_ALUNO);
+            }
 
-        if (isProfessorDono) {
-            aula.setStatus(StatusAula.CANCELADA_PROFESSOR);
-        } else { // Deve ser o estudante, por causa da verificação de permissão
-            aula.setStatus(StatusAula.CANCELADA_ALUNO);
+            // 3. Salva a alteração de status no DAO (Persistência)
+            aulaDAO.salvarOuAtualizar(aula);
+        } finally {
+            trava.unlock();
         }
-
-        // 3. Salva a alteração de status no DAO (Persistência)
-        aulaDAO.salvarOuAtualizar(aula);
         System.out.println("Cancelamento processado pelo Serviço. Status: " + aula.getStatus());
 
     }
@@ -3,54 +3,137 @@ package com.agendastudy.service;
 import com.agendastudy.model.Notificacao;
 import com.agendastudy.model.TipoNotificacao;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * Sistema central de notificações (SCRUM-114).
  *
- * Esta versão implementa o processamento em background
- * usando um ExecutorService e as duas filas (ConcurrentLinkedQueue e PriorityBlockingQueue)
+ * As notificações entram em uma fila de prioridade limitada. Uma thread
+ * despachante retira da fila lotes de até {@code tamanhoLote} notificações
+ * (as mais urgentes primeiro) e os entrega a um pool de trabalhadores.
  *
- * @author Enzo Andrade 
- * @version 1.0
+ * Contrapressão: a capacidade é controlada por um semáforo que só libera a
+ * vaga depois que a notificação é entregue. Se o sistema estiver cheio,
+ * {@link #enfileirar} espera até {@code esperaMaximaMillis} e, se ainda não
+ * houver vaga, descarta a notificação e retorna false. Quando os
+ * trabalhadores estão todos ocupados, o próprio despachante entrega o lote
+ * ({@link ThreadPoolExecutor.CallerRunsPolicy}), o que também segura a
+ * retirada da fila.
+ *
+ * O pool pode ser configurado pelas propriedades de sistema
+ * {@code agendastudy.notificacoes.trabalhadores},
+ * {@code agendastudy.notificacoes.capacidade} e
+ * {@code agendastudy.notificacoes.lote}.
+ *
+ * @author Enzo Andrade
+ * @version 2.3
  */
 public class SistemaNotificacoes {
 
-    private static final SistemaNotificacoes instancia = new SistemaNotificacoes();
+    private static final int TRABALHADORES_PADRAO = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int CAPACIDADE_PADRAO = 10_000;
+    private static final int LOTE_PADRAO = 64;
+    private static final long ESPERA_MAXIMA_PADRAO_MS = 500;
 
-    // --- As 4 Estruturas do SCRUM-114  ---
-    
-    // 1. Fila de ENTRADA thread-safe (rápida para adicionar)
-    private final ConcurrentLinkedQueue<Notificacao> filaEntrada = new ConcurrentLinkedQueue<>();
+    private static final SistemaNotificacoes instancia = new SistemaNotificacoes(
+            Integer.getInteger("agendastudy.notificacoes.trabalhadores", TRABALHADORES_PADRAO),
+            Integer.getInteger("agendastudy.notificacoes.capacidade", CAPACIDADE_PADRAO),
+            Integer.getInteger("agendastudy.notificacoes.lote", LOTE_PADRAO),
+            ESPERA_MAXIMA_PADRAO_MS,
+            null);
 
-    // 2. Fila de PROCESSAMENTO (lenta, mas ordenada por prioridade)
+    /**
+     * Fotografia das métricas do sistema de notificações.
+     *
+     * @param enfileiradas      Notificações aceitas desde o início.
+     * @param entregues         Notificações entregues com sucesso (não conta
+     *                          as suprimidas pelo "não perturbe" nem as que
+     *                          falharam na entrega).
+     * @param rejeitadas        Notificações descartadas por falta de vaga.
+     * @param lotes             Lotes despachados.
+     * @param profundidadeFila  Notificações aguardando na fila de prioridade.
+     * @param entregasPorSegundo Vazão média desde o início.
+     */
+    public record Metricas(long enfileiradas, long entregues, long rejeitadas, long lotes,
+            int profundidadeFila, double entregasPorSegundo) {
+    }
+
+    // --- Estruturas do SCRUM-114  ---
+
+    // 1. Fila de PROCESSAMENTO (ordenada por prioridade)
     private final PriorityBlockingQueue<Notificacao> filaPrioridade = new PriorityBlockingQueue<>();
 
+    // 2. Vagas disponíveis (limita a fila + as notificações em entrega)
+    private final Semaphore vagas;
+
     // 3. Configurações do usuário (ex: não perturbe)
     private final Map<String, Boolean> configuracoesUsuarios = new ConcurrentHashMap<>();
 
     // 4. Templates de mensagem
     private final Map<TipoNotificacao, String> templates = new EnumMap<>(TipoNotificacao.class);
-    
+
     // --- Fim das Estruturas ---
 
-    // O "Motor" que roda as tarefas em background
-    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+    private final int tamanhoLote;
+    private final long esperaMaximaMillis;
+    private final Consumer<Notificacao> entregador;
+
+    // O "Motor": um despachante e o pool de trabalhadores
+    private final Thread despachante;
+    private final ThreadPoolExecutor trabalhadores;
     private volatile boolean running = true;
 
+    // Métricas
+    private final long inicioNanos = System.nanoTime();
+    private final AtomicLong totalEnfileiradas = new AtomicLong();
+    private final AtomicLong totalEntregues = new AtomicLong();
+    private final AtomicLong totalRejeitadas = new AtomicLong();
+    private final AtomicLong totalLotes = new AtomicLong();
+
     /**
-     * Construtor privado que inicia as tarefas em background.
+     * Construtor que inicia o despachante e o pool de trabalhadores.
+     *
+     * @param quantidadeTrabalhadores Tamanho do pool de entrega.
+     * @param capacidade              Máximo de notificações pendentes.
+     * @param tamanhoLote             Máximo de notificações por lote.
+     * @param esperaMaximaMillis      Tempo máximo de espera por vaga em
+     *                                {@link #enfileirar}.
+     * @param entregador              Ação de entrega (null para a entrega
+     *                                padrão).
      */
-    private SistemaNotificacoes() {
+    SistemaNotificacoes(int quantidadeTrabalhadores, int capacidade, int tamanhoLote, long esperaMaximaMillis,
+            Consumer<Notificacao> entregador) {
+        if (quantidadeTrabalhadores < 1 || capacidade < 1 || tamanhoLote < 1) {
+            throw new IllegalArgumentException("Trabalhadores, capacidade e lote devem ser positivos");
+        }
+        this.vagas = new Semaphore(capacidade);
+        this.tamanhoLote = tamanhoLote;
+        this.esperaMaximaMillis = esperaMaximaMillis;
+        this.entregador = entregador != null ? entregador : this::entregarNotificacao;
+
         carregarTemplates();
-        
-        // Tarefa 1: Move da fila de entrada para a fila de prioridade
-        executor.scheduleAtFixedRate(this::moverParaPrioridade, 0, 1, TimeUnit.SECONDS);
-        
-        // Tarefa 2: Processa a fila de prioridade (envia a mais urgente)
-        executor.scheduleAtFixedRate(this::processarFilaPrioridade, 0, 2, TimeUnit.SECONDS);
+
+        AtomicInteger contador = new AtomicInteger();
+        ThreadFactory fabrica = tarefa -> {
+            Thread t = new Thread(tarefa, "notificacoes-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+
+        // Fila curta entre despachante e trabalhadores; cheia, o despachante entrega
+        this.trabalhadores = new ThreadPoolExecutor(quantidadeTrabalhadores, quantidadeTrabalhadores,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(quantidadeTrabalhadores * 2),
+                fabrica, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.despachante = fabrica.newThread(this::despachar);
+        this.despachante.start();
     }
 
     public static SistemaNotificacoes getInstancia() {
@@ -59,45 +142,94 @@ public class SistemaNotificacoes {
 
     private void carregarTemplates() {
         templates.put(TipoNotificacao.AULA_CANCELADA, "Atenção: Sua aula foi cancelada.");
-        
+        templates.put(TipoNotificacao.AVALIACAO_SOLICITADA, "Sua aula terminou. Que tal avaliá-la?");
+
     }
 
     /**
      * Método PÚBLICO que o ServicoAgendamento chama.
+     * Espera por uma vaga se o sistema estiver cheio (contrapressão).
+     *
+     * @return true se a notificação foi aceita, false se foi descartada
+     *         (sistema desligado ou sem vaga dentro do tempo de espera).
      */
-    public void enfileirar(String usuarioId, TipoNotificacao tipo, String mensagem, int prioridade) {
-        if (!running) return;
-        
-        // Adiciona na fila de entrada rápida
-        filaEntrada.add(new Notificacao(usuarioId, tipo, mensagem, prioridade));
+    public boolean enfileirar(String usuarioId, TipoNotificacao tipo, String mensagem, int prioridade) {
+        if (!running) return false;
+
+        try {
+            if (!vagas.tryAcquire(esperaMaximaMillis, TimeUnit.MILLISECONDS)) {
+                totalRejeitadas.incrementAndGet();
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            totalRejeitadas.incrementAndGet();
+            return false;
+        }
+
+        filaPrioridade.add(new Notificacao(usuarioId, tipo, mensagem, prioridade)); // A PriorityQueue ordena sozinha
+        totalEnfileiradas.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Como {@link #enfileirar}, mas nunca espera: sem vaga no momento, a
+     * notificação é descartada. Para chamadas de threads que não podem
+     * bloquear (ex: o tique do {@link AgendadorConclusaoAulas}).
+     *
+     * @return true se a notificação foi aceita, false se foi descartada.
+     */
+    public boolean oferecer(String usuarioId, TipoNotificacao tipo, String mensagem, int prioridade) {
+        if (!running) return false;
+
+        if (!vagas.tryAcquire()) {
+            totalRejeitadas.incrementAndGet();
+            return false;
+        }
+        filaPrioridade.add(new Notificacao(usuarioId, tipo, mensagem, prioridade));
+        totalEnfileiradas.incrementAndGet();
+        return true;
     }
 
     /**
-     * Tarefa 1 (Background): Esvazia a fila de entrada
-     * e joga tudo na fila de prioridade.
+     * Laço do despachante (background): espera a primeira notificação e
+     * retira da fila, em ordem de prioridade, um lote inteiro de uma vez.
      */
-    private void moverParaPrioridade() {
-        if (!running) return;
-        Notificacao notificacao;
-        while ((notificacao = filaEntrada.poll()) != null) {
-            filaPrioridade.add(notificacao); // A PriorityQueue ordena sozinha
+    private void despachar() {
+        while (running) {
+            List<Notificacao> lote = new ArrayList<>(tamanhoLote);
+            try {
+                lote.add(filaPrioridade.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            filaPrioridade.drainTo(lote, tamanhoLote - 1);
+            totalLotes.incrementAndGet();
+
+            // Nunca rejeita: com o pool cheio, o lote roda aqui mesmo
+            trabalhadores.execute(() -> processarLote(lote));
         }
     }
 
     /**
-     * Tarefa 2 (Background): Processa a fila de prioridade.
-     * Pega o item mais urgente e "entrega".
+     * Tarefa dos trabalhadores: entrega cada notificação do lote, respeitando
+     * as configurações do usuário, e libera as vagas ao final.
      */
-    private void processarFilaPrioridade() {
-        if (!running) return;
-        
-        Notificacao notificacao = filaPrioridade.poll(); // Pega o item mais urgente
-        if (notificacao != null) {
-            
-            // Verifica o HashMap de configurações
-            if (configuracoesUsuarios.getOrDefault(notificacao.getUsuarioId(), true)) {
-                entregarNotificacao(notificacao);
+    private void processarLote(List<Notificacao> lote) {
+        try {
+            for (Notificacao notificacao : lote) {
+                // Verifica o HashMap de configurações
+                if (configuracoesUsuarios.getOrDefault(notificacao.getUsuarioId(), true)) {
+                    try {
+                        entregador.accept(notificacao);
+                        totalEntregues.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        e.printStackTrace();
+                    }
+                }
             }
+        } finally {
+            vagas.release(lote.size());
         }
     }
 
@@ -105,15 +237,26 @@ public class SistemaNotificacoes {
      * Simula a entrega da notificação (popup, email, etc.)
      */
     private void entregarNotificacao(Notificacao n) {
-        System.out.println("[NOTIFICAÇÃO] (Prioridade: " + n.getPrioridade() + ") Para " 
+        System.out.println("[NOTIFICAÇÃO] (Prioridade: " + n.getPrioridade() + ") Para "
                            + n.getUsuarioId() + ": " + n.getMensagem());
     }
 
+    /**
+     * Retorna as métricas atuais (vazão e profundidade da fila).
+     */
+    public Metricas getMetricas() {
+        long entregues = totalEntregues.get();
+        double segundos = (System.nanoTime() - inicioNanos) / 1_000_000_000.0;
+        return new Metricas(totalEnfileiradas.get(), entregues, totalRejeitadas.get(), totalLotes.get(),
+                filaPrioridade.size(), segundos > 0 ? entregues / segundos : 0.0);
+    }
+
     /**
      * Desliga o serviço (chamado pelo App.java ao fechar)
      */
     public void shutdown() {
         running = false;
-        executor.shutdown();
+        despachante.interrupt();
+        trabalhadores.shutdown();
     }
-}
\ No newline at end of file
+}
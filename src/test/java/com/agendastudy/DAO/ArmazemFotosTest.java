@@ -0,0 +1,135 @@
+package com.agendastudy.DAO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link ArmazemFotos}.
+ * Valida a deduplicação pelo hash do conteúdo, as formas de leitura, o
+ * limite de mapeamentos guardados e a propagação de falhas de gravação.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class ArmazemFotosTest {
+
+    private Path raiz;
+    private ArmazemFotos armazem;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        raiz = Files.createTempDirectory("fotos");
+        armazem = new ArmazemFotos(raiz);
+    }
+
+    /**
+     * Testa se a mesma foto gravada duas vezes ocupa um único arquivo.
+     */
+    @Test
+    void deveDeduplicarFotosIguais() throws IOException {
+        // ACT
+        String primeira = armazem.salvar(new byte[] { 1, 2, 3 });
+        String repetida = armazem.salvar(new byte[] { 1, 2, 3 });
+        String outra = armazem.salvar(new byte[] { 4, 5, 6 });
+
+        // ASSERT
+        assertEquals(primeira, repetida);
+        assertNotEquals(primeira, outra);
+        assertEquals(64, primeira.length());
+        try (Stream<Path> arquivos = Files.walk(raiz)) {
+            assertEquals(2, arquivos.filter(Files::isRegularFile).count());
+        }
+    }
+
+    /**
+     * Testa a leitura pelo mapeamento, pelo fluxo e pela transferência para
+     * um canal.
+     */
+    @Test
+    void deveLerAFotoSemCopiarParaOHeap() throws IOException {
+        // ARRANGE
+        byte[] foto = new byte[10_000];
+        for (int i = 0; i < foto.length; i++) {
+            foto[i] = (byte) i;
+        }
+        String hash = armazem.salvar(foto);
+
+        // ACT
+        ByteBuffer mapeada = armazem.ler(hash);
+        byte[] doFluxo;
+        try (InputStream fluxo = armazem.abrir(hash)) {
+            doFluxo = fluxo.readAllBytes();
+        }
+        ByteArrayOutputStream destino = new ByteArrayOutputStream();
+        long enviados = armazem.transferir(hash, Channels.newChannel(destino));
+
+        // ASSERT
+        assertTrue(mapeada.isReadOnly());
+        assertEquals(foto.length, mapeada.remaining());
+        assertArrayEquals(foto, doFluxo);
+        assertArrayEquals(foto, armazem.lerBytes(hash));
+        assertEquals(foto.length, enviados);
+        assertArrayEquals(foto, destino.toByteArray());
+    }
+
+    /**
+     * Testa se hashes inexistentes ou mal formados são tratados.
+     */
+    @Test
+    void deveRejeitarHashInvalido() {
+        String inexistente = "0".repeat(64);
+
+        assertNull(armazem.ler(inexistente));
+        assertFalse(armazem.existe(inexistente));
+        assertThrows(IllegalArgumentException.class, () -> armazem.ler("../../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> armazem.salvar(new byte[0]));
+    }
+
+    /**
+     * Testa se o armazém guarda no máximo {@link ArmazemFotos#LIMITE_MAPEADAS}
+     * mapeamentos e continua lendo as fotos que saíram do cache.
+     */
+    @Test
+    void deveLimitarMapeamentosGuardados() throws IOException {
+        // ARRANGE
+        int quantidade = ArmazemFotos.LIMITE_MAPEADAS + 10;
+        String[] hashes = new String[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            hashes[i] = armazem.salvar(new byte[] { (byte) i, (byte) (i >> 8), 42 });
+        }
+
+        // ACT
+        for (String hash : hashes) {
+            assertNotNull(armazem.ler(hash));
+        }
+
+        // ASSERT
+        assertEquals(ArmazemFotos.LIMITE_MAPEADAS, armazem.getQuantidadeMapeadas());
+        assertArrayEquals(new byte[] { 0, 0, 42 }, armazem.lerBytes(hashes[0]));
+    }
+
+    /**
+     * Testa se uma falha de gravação chega a quem chamou.
+     */
+    @Test
+    void deveLancarExcecaoQuandoAGravacaoFalhar() throws IOException {
+        // ARRANGE: a raiz é um arquivo, então os subdiretórios não podem ser criados
+        Path arquivo = Files.createTempFile("nao-e-diretorio", ".tmp");
+        ArmazemFotos invalido = new ArmazemFotos(arquivo);
+
+        // ACT + ASSERT
+        assertThrows(IOException.class, () -> invalido.salvar(new byte[] { 1, 2, 3 }));
+    }
+}
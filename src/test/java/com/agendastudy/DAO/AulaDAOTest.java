@@ -0,0 +1,134 @@
+package com.agendastudy.DAO;
+
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.StatusAula;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes de integração para {@link AulaDAO}.
+ * Valida as consultas por período e por professor feitas sobre o índice
+ * temporal, inclusive após reagendamentos e cancelamentos, e as consultas e
+ * contagens por status.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class AulaDAOTest {
+
+    private AulaDAO aulaDAO;
+    private Professor professor;
+    private Estudante estudante;
+    private LocalDateTime base;
+
+    /**
+     * Limpa o armazenamento estático de aulas antes de cada teste.
+     */
+    @BeforeEach
+    void setUp() {
+        AulaDAO.clear();
+        aulaDAO = new AulaDAO();
+
+        professor = new Professor("P1", "Carlos Silva", "carlos@teste.com", "senha123");
+        estudante = new Estudante("E1", "Ana Souza", "ana@teste.com", "senha123");
+        base = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    /**
+     * Testa se a busca por período retorna apenas as aulas que se sobrepõem à
+     * janela, tanto para o professor quanto para o estudante.
+     */
+    @Test
+    void deveRetornarApenasAulasSobrepostasAoPeriodo() {
+        Aula longa = aulaDAO.salvarOuAtualizar(new Aula(null, "Longa", "", professor, estudante, base, 180));
+        Aula depois = aulaDAO.salvarOuAtualizar(new Aula(null, "Depois", "", professor, null, base.plusHours(5), 60));
+
+        // Janela dentro da aula longa (começou antes da janela)
+        List<Aula> doProfessor = aulaDAO.findAulasPorPeriodo("P1", base.plusHours(2), base.plusHours(3));
+        assertEquals(List.of(longa), doProfessor);
+
+        List<Aula> doEstudante = aulaDAO.findAulasPorPeriodo("E1", base, base.plusHours(6));
+        assertEquals(List.of(longa), doEstudante, "A vaga sem estudante não pertence à agenda do aluno.");
+
+        // Janela que termina exatamente no início da aula não conflita
+        assertTrue(aulaDAO.findAulasPorPeriodo("P1", base.plusHours(4), base.plusHours(5)).isEmpty());
+        assertEquals(List.of(depois), aulaDAO.findAulasPorPeriodo("P1", base.plusHours(4), base.plusHours(6)));
+    }
+
+    /**
+     * Testa se o índice acompanha o reagendamento e o cancelamento de uma aula.
+     */
+    @Test
+    void deveManterIndiceConsistenteAposReagendarECancelar() {
+        Aula aula = aulaDAO.salvarOuAtualizar(new Aula(null, "POO", "", professor, estudante, base, 60));
+
+        aula.setDataHora(base.plusDays(2));
+        aulaDAO.salvarOuAtualizar(aula);
+
+        assertTrue(aulaDAO.findAulasPorPeriodo("P1", base, base.plusHours(1)).isEmpty(),
+                "A posição antiga deveria ter sido removida do índice.");
+        assertEquals(1, aulaDAO.findAulasPorPeriodo("E1", base.plusDays(2), base.plusDays(2).plusHours(1)).size());
+
+        aula.cancelarPorAluno();
+        aulaDAO.salvarOuAtualizar(aula);
+
+        assertTrue(aulaDAO.buscarAulasDoProfessor(professor).isEmpty());
+    }
+
+    /**
+     * Testa se as aulas do professor voltam ordenadas por data e hora.
+     */
+    @Test
+    void deveRetornarAulasDoProfessorEmOrdemCronologica() {
+        aulaDAO.salvarOuAtualizar(new Aula(null, "C", "", professor, null, base.plusHours(4), 60));
+        aulaDAO.salvarOuAtualizar(new Aula(null, "A", "", professor, null, base, 60));
+        aulaDAO.salvarOuAtualizar(new Aula(null, "B", "", professor, null, base.plusHours(2), 60));
+
+        List<Aula> agenda = aulaDAO.buscarAulasDoProfessor(professor);
+
+        assertEquals(3, agenda.size());
+        assertEquals("A", agenda.get(0).getTitulo());
+        assertEquals("B", agenda.get(1).getTitulo());
+        assertEquals("C", agenda.get(2).getTitulo());
+    }
+
+    /**
+     * Testa se as transições de status feitas direto na Aula (sem salvar de
+     * novo) movem a aula de partição e atualizam as contagens.
+     */
+    @Test
+    void deveAtualizarParticoesNasTransicoesDeStatus() {
+        // ARRANGE
+        Aula primeira = aulaDAO.salvarOuAtualizar(new Aula(null, "A", "", professor, estudante, base, 60));
+        Aula segunda = aulaDAO.salvarOuAtualizar(new Aula(null, "B", "", professor, estudante, base.plusHours(2), 60));
+        Aula terceira = aulaDAO.salvarOuAtualizar(new Aula(null, "C", "", professor, null, base.plusHours(4), 60));
+
+        // ACT
+        primeira.setStatus(StatusAula.CONCLUIDA);
+        segunda.cancelarPorAluno();
+
+        // ASSERT
+        assertEquals(1, aulaDAO.contarPorStatus("P1", StatusAula.AGENDADA));
+        assertEquals(1, aulaDAO.contarPorStatus("P1", StatusAula.CONCLUIDA));
+        assertEquals(1, aulaDAO.contarPorStatus("E1", StatusAula.CANCELADA_ALUNO));
+        assertEquals(0, aulaDAO.contarPorStatus("E1", StatusAula.AGENDADA));
+        assertEquals(List.of(primeira, terceira), aulaDAO.buscarAulasDoProfessor(professor));
+        assertEquals(List.of(segunda), aulaDAO.buscarPorStatus("E1", StatusAula.CANCELADA_ALUNO));
+        assertEquals(List.of(primeira),
+                aulaDAO.buscarPorStatusNoPeriodo("P1", StatusAula.CONCLUIDA, base, base.plusHours(1)));
+
+        // Após limpar o DAO, mudanças em aulas antigas não voltam ao índice
+        AulaDAO.clear();
+        terceira.cancelarPorProfessor();
+        assertEquals(0, aulaDAO.contarPorStatus("P1", StatusAula.CANCELADA_PROFESSOR));
+    }
+}
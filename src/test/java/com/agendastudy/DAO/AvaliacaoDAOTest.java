@@ -3,12 +3,25 @@ package com.agendastudy.DAO;
 import com.agendastudy.model.Estudante;
 import com.agendastudy.model.Professor;
 import com.agendastudy.model.Aula;
+import com.agendastudy.model.Avaliacao;
 import com.agendastudy.model.StatusAula;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -94,4 +107,213 @@ public class AvaliacaoDAOTest {
         assertEquals("Perfeita!", lista.get(0).getComentario(), "O comentário salvo deveria bater.");
     }
 
+    /**
+     * Testa se as avaliações gravadas no journal são recuperadas por uma nova
+     * instância do DAO, antes e depois da compactação em snapshot.
+     */
+    @Test
+    void deveRecuperarAvaliacoesDoJournalEDoSnapshot() throws IOException {
+        String diretorio = Files.createTempDirectory("avaliacoes").toString();
+        AvaliacaoDAO dao = new AvaliacaoDAO(diretorio);
+
+        Aula outraAula = new Aula("A2", "POO II", "Herança", professor, estudante, LocalDateTime.now().minusDays(1), 60);
+        dao.avaliar(estudante, aula, 5, "Ótima");
+        dao.avaliar(estudante, outraAula, 3);
+
+        // Replay do journal
+        AvaliacaoDAO recarregado = new AvaliacaoDAO(diretorio);
+        assertEquals(2, recarregado.getAvaliacaoPorEstudante(estudante).size());
+        assertEquals(4.0, recarregado.getMediaAvaliacoes("P1"), 0.001);
+        assertFalse(recarregado.podeAvaliar(estudante, aula), "A aula já avaliada continua bloqueada.");
+
+        // Snapshot + journal vazio
+        recarregado.compactar();
+        assertEquals(0, new File(diretorio, "avaliacoes.journal").length());
+
+        AvaliacaoDAO aposCompactacao = new AvaliacaoDAO(diretorio);
+        assertEquals(2, aposCompactacao.getAvaliacaoPorEstudante(estudante).size());
+        assertEquals(4.0, aposCompactacao.getMediaAvaliacoes("P1"), 0.001);
+    }
+
+    /**
+     * Testa se o agregado do professor (média, variância e distribuição) é
+     * atualizado a cada avaliação e reconstruído ao recarregar o DAO.
+     */
+    @Test
+    void deveManterEstatisticasAtualizadasACadaAvaliacao() throws IOException {
+        // ARRANGE
+        String diretorio = Files.createTempDirectory("estatisticas").toString();
+        AvaliacaoDAO dao = new AvaliacaoDAO(diretorio);
+        Estudante outro = new Estudante("E2", "Ana Souza", "ana@gmail.com", "senha123");
+        Aula outraAula = new Aula("A2", "POO II", "Herança", professor, outro, LocalDateTime.now().minusDays(1), 60);
+
+        // ACT
+        dao.avaliar(estudante, aula, 5);
+        dao.avaliar(outro, outraAula, 3);
+        var estatisticas = dao.getEstatisticas("P1");
+
+        // ASSERT: notas 5 e 3 -> média 4, variância 1
+        assertEquals(2, estatisticas.getTotal());
+        assertEquals(4.0, estatisticas.getMedia(), 0.001);
+        assertEquals(1.0, estatisticas.getVariancia(), 0.001);
+        assertArrayEquals(new long[] { 0, 0, 1, 0, 1 }, estatisticas.getDistribuicao());
+        assertEquals(0, dao.getEstatisticas("INEXISTENTE").getTotal());
+
+        // O agregado é reconstruído a partir do journal
+        var recarregadas = new AvaliacaoDAO(diretorio).getEstatisticas("P1");
+        assertEquals(2, recarregadas.getTotal());
+        assertEquals(1.0, recarregadas.getVariancia(), 0.001);
+    }
+
+    /**
+     * Testa se os arquivos antigos (snapshot e journal em serialização Java)
+     * são lidos e migrados para o formato binário, preservando os dados.
+     */
+    @Test
+    void deveMigrarArquivosNoFormatoAntigo() throws IOException {
+        // ARRANGE: snapshot antigo com uma avaliação e journal antigo com outra
+        File diretorio = Files.createTempDirectory("legado").toFile();
+        Aula outraAula = new Aula("A2", "POO II", "Herança", professor, estudante, LocalDateTime.now().minusDays(1), 60);
+        Avaliacao noSnapshot = new Avaliacao(UUID.randomUUID().toString(), estudante, aula, 5, "Ótima");
+        Avaliacao noJournal = new Avaliacao(UUID.randomUUID().toString(), estudante, outraAula, 2, "Fraca");
+
+        Map<Professor, List<Avaliacao>> snapshot = new HashMap<>();
+        snapshot.put(professor, new ArrayList<>(List.of(noSnapshot)));
+        try (ObjectOutputStream saida = new ObjectOutputStream(
+                new FileOutputStream(new File(diretorio, "avaliacoes.ser")))) {
+            saida.writeObject(snapshot);
+        }
+        ByteArrayOutputStream registro = new ByteArrayOutputStream();
+        try (ObjectOutputStream saida = new ObjectOutputStream(registro)) {
+            saida.writeObject(noJournal);
+        }
+        try (DataOutputStream journal = new DataOutputStream(
+                new FileOutputStream(new File(diretorio, "avaliacoes.journal")))) {
+            journal.writeInt(registro.size());
+            registro.writeTo(journal);
+        }
+
+        // ACT
+        new AvaliacaoDAO(diretorio.getPath());
+        AvaliacaoDAO migrado = new AvaliacaoDAO(diretorio.getPath());
+
+        // ASSERT
+        assertTrue(new File(diretorio, "avaliacoes.dat").exists());
+        assertTrue(new File(diretorio, "avaliacoes.ser.bak").exists());
+        assertFalse(new File(diretorio, "avaliacoes.ser").exists());
+        assertEquals(0, new File(diretorio, "avaliacoes.journal").length());
+        assertEquals(3.5, migrado.getMediaAvaliacoes("P1"), 0.001);
+
+        List<Avaliacao> lidas = migrado.getAvaliacaoPorEstudante(estudante);
+        Avaliacao lida = lidas.stream().filter(a -> a.getIdAvaliacao().equals(noJournal.getIdAvaliacao()))
+                .findFirst().orElseThrow();
+        assertEquals("Fraca", lida.getComentario());
+        assertEquals("POO II", lida.getAula().getTitulo());
+        assertEquals(outraAula.getDataHora().withSecond(0).withNano(0),
+                lida.getAula().getDataHora().withSecond(0).withNano(0));
+        assertEquals(StatusAula.AGENDADA, lida.getAula().getStatus());
+    }
+
+    /**
+     * Testa se o snapshot binário é bem menor que a serialização Java e
+     * guarda só a referência da foto de perfil, mantendo as disciplinas e a
+     * data da avaliação.
+     */
+    @Test
+    void deveGravarSnapshotCompacto() throws IOException {
+        // ARRANGE: 50 aulas avaliadas de um professor com foto
+        String diretorio = Files.createTempDirectory("compacto").toString();
+        AvaliacaoDAO dao = new AvaliacaoDAO(diretorio);
+        professor.adicionarDisciplina("Matemática");
+        professor.setHashFoto(ArmazemFotos.getInstancia().salvar(new byte[20_000]));
+        professor.setTipoImagem("png");
+        Map<Professor, List<Avaliacao>> equivalente = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            Aula passada = new Aula("AP" + i, "Aula " + i, "", professor, estudante, LocalDateTime.now().minusDays(3), 60);
+            passada.setStatus(StatusAula.CONCLUIDA);
+            dao.avaliar(estudante, passada, 1 + i % 5, "Comentário " + i);
+        }
+        equivalente.put(professor, professor.getAvaliacoes());
+
+        // ACT
+        dao.compactar();
+        ByteArrayOutputStream serializacaoJava = new ByteArrayOutputStream();
+        try (ObjectOutputStream saida = new ObjectOutputStream(serializacaoJava)) {
+            saida.writeObject(equivalente);
+        }
+
+        // ASSERT
+        long tamanhoBinario = new File(diretorio, "avaliacoes.dat").length();
+        assertTrue(tamanhoBinario * 2 < serializacaoJava.size(),
+                "Binário: " + tamanhoBinario + " bytes, serialização Java: " + serializacaoJava.size());
+
+        AvaliacaoDAO recarregado = new AvaliacaoDAO(diretorio);
+        Avaliacao primeira = recarregado.getAvaliacaoPorEstudante(estudante).get(0);
+        assertEquals(List.of("Matemática"), primeira.getProfessor().getDisciplinas());
+        assertTrue(tamanhoBinario < 20_000, "Os bytes da foto não devem ir para o snapshot");
+        assertEquals(professor.getHashFoto(), primeira.getProfessor().getHashFoto());
+        assertEquals("png", primeira.getProfessor().getTipoImagem());
+        assertEquals(professor.getAvaliacoes().get(0).getDataAvaliacao().withNano(0),
+                primeira.getDataAvaliacao().withNano(0));
+    }
+
+    /**
+     * Testa que a compactação é proporcional ao tamanho da base: o journal
+     * cresce até metade do snapshot antes de ser regravado, e nada se perde
+     * na recarga.
+     */
+    @Test
+    void deveCompactarJournalPorTamanho() throws IOException {
+        // ARRANGE
+        String diretorio = Files.createTempDirectory("journal").toString();
+        AvaliacaoDAO dao = new AvaliacaoDAO(diretorio);
+        File snapshot = new File(diretorio, "avaliacoes.dat");
+        File journal = new File(diretorio, "avaliacoes.journal");
+
+        // ACT: poucos registros ficam só no journal
+        for (int i = 0; i < 300; i++) {
+            Aula passada = new Aula("AJ" + i, "Aula " + i, "", professor, estudante, LocalDateTime.now().minusDays(3), 60);
+            passada.setStatus(StatusAula.CONCLUIDA);
+            dao.avaliar(estudante, passada, 1 + i % 5, "Comentário " + i);
+        }
+
+        // ASSERT
+        assertFalse(snapshot.exists(), "300 registros não devem disparar compactação");
+        assertTrue(journal.length() > 0);
+
+        // ACT: a base cresce e passa a ter snapshot
+        for (int i = 300; i < 5_000; i++) {
+            Aula passada = new Aula("AJ" + i, "Aula " + i, "", professor, estudante, LocalDateTime.now().minusDays(3), 60);
+            passada.setStatus(StatusAula.CONCLUIDA);
+            dao.avaliar(estudante, passada, 1 + i % 5, "Comentário " + i);
+        }
+        dao.fechar();
+
+        // ASSERT
+        assertTrue(snapshot.exists());
+        assertTrue(journal.length() < Math.max(AvaliacaoDAO.LIMITE_MINIMO_JOURNAL, snapshot.length() / 2));
+        assertEquals(5_000, new AvaliacaoDAO(diretorio).getAvaliacaoPorEstudante(estudante).size());
+    }
+
+    /**
+     * Testa que o formato binário preserva a data com nanossegundos e o
+     * status da aula.
+     */
+    @Test
+    void deveConservarNanossegundosEStatusNoFormatoBinario() throws IOException {
+        // ARRANGE
+        LocalDateTime data = LocalDateTime.of(2025, 11, 30, 14, 7, 59, 123_456_789);
+        Aula cancelada = new Aula("AN", "Aula", "", professor, estudante, data, 60);
+        cancelada.setStatus(StatusAula.CANCELADA_PROFESSOR);
+        Avaliacao avaliacao = new Avaliacao("AV-N", estudante, cancelada, 4, "ok", data);
+
+        // ACT
+        byte[] quadro = new CodecAvaliacoes.Escritor().codificar(avaliacao);
+        Avaliacao lida = new CodecAvaliacoes.Leitor().decodificar(quadro);
+
+        // ASSERT
+        assertEquals(data, lida.getDataAvaliacao());
+        assertEquals(data, lida.getAula().getDataHora());
+        assertEquals(StatusAula.CANCELADA_PROFESSOR, lida.getAula().getStatus());
+    }
 }
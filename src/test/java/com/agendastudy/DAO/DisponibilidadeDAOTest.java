@@ -0,0 +1,94 @@
+package com.agendastudy.DAO;
+
+import com.agendastudy.model.SlotDisponivel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes de integração para {@link DisponibilidadeDAO}.
+ * Valida a união de slots sobrepostos ou adjacentes, as consultas por período
+ * e o descarte dos slots que já terminaram.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DisponibilidadeDAOTest {
+
+    private DisponibilidadeDAO dao;
+    private LocalDateTime base;
+
+    /**
+     * Limpa o armazenamento estático de slots antes de cada teste.
+     */
+    @BeforeEach
+    void setUp() {
+        DisponibilidadeDAO.clear();
+        dao = new DisponibilidadeDAO();
+        base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    /**
+     * Testa se slots sobrepostos e adjacentes são unidos em um único slot.
+     */
+    @Test
+    void deveUnirSlotsSobrepostosEAdjacentes() {
+        // ARRANGE
+        dao.salvarSlot(new SlotDisponivel("P1", base, base.plusHours(1)));
+        dao.salvarSlot(new SlotDisponivel("P1", base.plusHours(2), base.plusHours(3)));
+
+        // ACT: encosta no primeiro e se sobrepõe ao segundo
+        SlotDisponivel unido = dao.salvarSlot(new SlotDisponivel("P1", base.plusHours(1), base.plusMinutes(150)));
+
+        // ASSERT
+        assertEquals(base, unido.getInicio());
+        assertEquals(base.plusHours(3), unido.getFim());
+        List<SlotDisponivel> slots = dao.findDisponibilidade("P1", base.minusDays(1), base.plusDays(1));
+        assertEquals(1, slots.size());
+    }
+
+    /**
+     * Testa se a consulta retorna apenas os slots que se sobrepõem ao período,
+     * inclusive o que começou antes da janela, e ignora os de outro professor.
+     */
+    @Test
+    void deveRetornarApenasSlotsSobrepostosAoPeriodo() {
+        // ARRANGE
+        dao.salvarSlot(new SlotDisponivel("P1", base, base.plusHours(2)));
+        dao.salvarSlot(new SlotDisponivel("P1", base.plusHours(4), base.plusHours(5)));
+        dao.salvarSlot(new SlotDisponivel("P1", base.plusHours(8), base.plusHours(9)));
+        dao.salvarSlot(new SlotDisponivel("P2", base.plusHours(4), base.plusHours(5)));
+
+        // ACT
+        List<SlotDisponivel> slots = dao.findDisponibilidade("P1", base.plusHours(1), base.plusHours(8));
+
+        // ASSERT: o slot das 8h começa exatamente no fim da janela e fica de fora
+        assertEquals(2, slots.size());
+        assertEquals(base, slots.get(0).getInicio());
+        assertEquals(base.plusHours(4), slots.get(1).getInicio());
+    }
+
+    /**
+     * Testa se slots que já terminaram são descartados.
+     */
+    @Test
+    void deveDescartarSlotsPassados() {
+        // ARRANGE
+        LocalDateTime ontem = LocalDateTime.now().minusDays(1);
+        dao.salvarSlot(new SlotDisponivel("P1", ontem, ontem.plusHours(1)));
+        dao.salvarSlot(new SlotDisponivel("P1", base, base.plusHours(1)));
+
+        // ACT
+        List<SlotDisponivel> slots = dao.findDisponibilidade("P1", ontem.minusDays(1), base.plusDays(1));
+
+        // ASSERT
+        assertEquals(1, slots.size());
+        assertEquals(base, slots.get(0).getInicio());
+    }
+}
@@ -0,0 +1,101 @@
+package com.agendastudy.DAO;
+
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.StatusAula;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes de integração para {@link EstudanteDAO}.
+ * Valida as consultas do estudante feitas sobre os índices por estudante do
+ * {@link AulaDAO} e do {@link AvaliacaoDAO}.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EstudanteDAOTest {
+
+    private String diretorio;
+    private AulaDAO aulaDAO;
+    private EstudanteDAO estudanteDAO;
+    private Professor professor;
+    private Estudante estudante;
+    private Estudante outro;
+
+    /**
+     * Limpa as aulas e cria um DAO de avaliações em um diretório temporário.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        AulaDAO.clear();
+        aulaDAO = new AulaDAO();
+        diretorio = Files.createTempDirectory("estudante").toString();
+        estudanteDAO = new EstudanteDAO(new AvaliacaoDAO(diretorio), aulaDAO);
+
+        professor = new Professor("P1", "Carlos Silva", "carlos@teste.com", "senha123");
+        estudante = new Estudante("E1", "Ana Souza", "ana@teste.com", "senha123");
+        outro = new Estudante("E2", "Bruno Lima", "bruno@teste.com", "senha123");
+    }
+
+    /**
+     * Testa se as aulas agendadas e concluídas vêm só do estudante, pelo
+     * status atual e em ordem de data.
+     */
+    @Test
+    void deveSepararAulasDoEstudantePorStatus() {
+        // ARRANGE
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        Aula depois = aulaDAO.salvarOuAtualizar(new Aula(null, "Depois", "", professor, estudante, base.plusHours(3), 60));
+        Aula antes = aulaDAO.salvarOuAtualizar(new Aula(null, "Antes", "", professor, estudante, base, 60));
+        aulaDAO.salvarOuAtualizar(new Aula(null, "De outro", "", professor, outro, base, 60));
+
+        // ACT: a mudança de status sem salvar de novo também deve valer
+        antes.setStatus(StatusAula.CONCLUIDA);
+
+        // ASSERT
+        assertEquals(List.of(depois), estudanteDAO.getAulasAgendadas(estudante));
+        assertEquals(List.of(antes), estudanteDAO.getAulasConcluidas(estudante));
+    }
+
+    /**
+     * Testa se as aulas a avaliar são as concluídas menos as já avaliadas, e
+     * se o índice de aulas avaliadas é reconstruído ao recarregar o DAO.
+     */
+    @Test
+    void deveListarSoAulasConcluidasAindaNaoAvaliadas() {
+        // ARRANGE: três aulas concluídas no passado, uma delas avaliada
+        LocalDateTime passado = LocalDateTime.now().minusDays(3).withNano(0);
+        Aula avaliada = concluida("Avaliada", passado);
+        Aula pendente1 = concluida("Pendente 1", passado.plusHours(2));
+        Aula pendente2 = concluida("Pendente 2", passado.plusHours(4));
+
+        // ACT
+        assertTrue(estudanteDAO.avaliarAula(estudante, avaliada, 5));
+
+        // ASSERT
+        assertTrue(estudanteDAO.jaAvaliouAula(estudante, avaliada));
+        assertFalse(estudanteDAO.jaAvaliouAula(outro, avaliada));
+        assertEquals(List.of(pendente1, pendente2), estudanteDAO.getAulasAAvaliar(estudante));
+
+        EstudanteDAO recarregado = new EstudanteDAO(new AvaliacaoDAO(diretorio), aulaDAO);
+        assertEquals(List.of(pendente1, pendente2), recarregado.getAulasAAvaliar(estudante));
+        assertEquals(3, recarregado.getAulasConcluidas(estudante).size());
+    }
+
+    private Aula concluida(String titulo, LocalDateTime dataHora) {
+        Aula aula = new Aula(null, titulo, "", professor, estudante, dataHora, 60);
+        aula.setStatus(StatusAula.CONCLUIDA);
+        return aulaDAO.salvarOuAtualizar(aula);
+    }
+}
@@ -0,0 +1,128 @@
+package com.agendastudy.DAO;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link GeradorIdsTemporal}.
+ * Valida a unicidade sob concorrência, a ordenação pelo tempo e os campos
+ * embutidos no ID.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class GeradorIdsTemporalTest {
+
+    /**
+     * Testa se várias threads geram IDs sem nenhuma repetição e crescentes
+     * dentro de cada thread.
+     */
+    @Test
+    void deveGerarIdsUnicosEntreThreads() throws InterruptedException {
+        // ARRANGE
+        GeradorIdsTemporal gerador = new GeradorIdsTemporal(7, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        List<String> erros = new ArrayList<>();
+
+        // ACT
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                long anterior = -1;
+                for (int i = 0; i < 50_000; i++) {
+                    long id = gerador.proximo();
+                    if (id <= anterior || !ids.add(id)) {
+                        synchronized (erros) {
+                            erros.add(Long.toHexString(id));
+                        }
+                    }
+                    anterior = id;
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // ASSERT
+        assertTrue(erros.isEmpty(), "IDs repetidos ou fora de ordem: " + erros);
+        assertEquals(400_000, ids.size());
+    }
+
+    /**
+     * Testa se IDs gerados depois, mesmo por outra thread, são maiores, e se
+     * o instante e o nó podem ser extraídos do ID.
+     */
+    @Test
+    void deveOrdenarPeloTempoEEmbutirONo() throws InterruptedException {
+        // ARRANGE: relógio controlado pelo teste
+        AtomicLong relogio = new AtomicLong(GeradorIdsTemporal.EPOCA + 1_000);
+        GeradorIdsTemporal gerador = new GeradorIdsTemporal(42, relogio::get);
+
+        // ACT
+        long primeiro = gerador.proximo();
+        relogio.addAndGet(5);
+        long[] daOutraThread = new long[1];
+        Thread outra = new Thread(() -> daOutraThread[0] = gerador.proximo());
+        outra.start();
+        outra.join();
+        relogio.addAndGet(5);
+        long terceiro = gerador.proximo();
+
+        // ASSERT
+        assertTrue(primeiro < daOutraThread[0]);
+        assertTrue(daOutraThread[0] < terceiro);
+        assertEquals(GeradorIdsTemporal.EPOCA + 1_000, GeradorIdsTemporal.getInstante(primeiro));
+        assertEquals(GeradorIdsTemporal.EPOCA + 1_010, GeradorIdsTemporal.getInstante(terceiro));
+        assertEquals(42, GeradorIdsTemporal.getNo(terceiro));
+        assertTrue(GeradorIds.paraTexto(primeiro).compareTo(GeradorIds.paraTexto(terceiro)) < 0);
+    }
+
+    /**
+     * Testa se o gerador continua crescente quando o relógio volta atrás.
+     */
+    @Test
+    void deveContinuarCrescenteSeORelogioVoltar() {
+        // ARRANGE
+        AtomicLong relogio = new AtomicLong(GeradorIdsTemporal.EPOCA + 10_000);
+        GeradorIdsTemporal gerador = new GeradorIdsTemporal(1, relogio::get);
+        long antes = gerador.proximo();
+
+        // ACT
+        relogio.addAndGet(-5_000);
+        long depois = 0;
+        for (int i = 0; i < 1_000; i++) {
+            depois = gerador.proximo();
+        }
+
+        // ASSERT
+        assertTrue(depois > antes);
+        assertThrows(IllegalArgumentException.class, () -> new GeradorIdsTemporal(1024, relogio::get));
+    }
+
+    /**
+     * Testa a leitura da propriedade {@code agendastudy.no}: valores fora da
+     * faixa ou que não são números falham com uma mensagem clara.
+     */
+    @Test
+    void deveValidarONoConfigurado() {
+        // ACT + ASSERT
+        assertEquals(0, GeradorIdsTemporal.lerNo("0"));
+        assertEquals(1023, GeradorIdsTemporal.lerNo(" 1023 "));
+        IllegalStateException foraDaFaixa = assertThrows(IllegalStateException.class,
+                () -> GeradorIdsTemporal.lerNo("1024"));
+        assertTrue(foraDaFaixa.getMessage().contains("agendastudy.no"));
+        assertThrows(IllegalStateException.class, () -> GeradorIdsTemporal.lerNo("-1"));
+        assertThrows(IllegalStateException.class, () -> GeradorIdsTemporal.lerNo("nó-a"));
+    }
+}
@@ -4,6 +4,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.agendastudy.model.Professor;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -31,7 +39,6 @@ public class ProfessorDAOTest {
 
         // Limpa o estado estático do UsuarioDAO para isolar os testes
         UsuarioDAO.usuarios.clear();
-        UsuarioDAO.proximoId = 1;
 
         professorExemplo = new Professor(null, "Mariana Teste DAO", "mariana@dao.com", "daoSenha123");
     }
@@ -101,4 +108,101 @@ public class ProfessorDAOTest {
         // ASSERT
         assertNull(encontrado);
     }
-}
\ No newline at end of file
+
+    /**
+     * Testa se a busca por e-mail ignora maiúsculas e espaços nas pontas, e se
+     * o índice acompanha a troca de e-mail do usuário.
+     */
+    @Test
+    void deveBuscarPorEmailNormalizadoEAcompanharTrocaDeEmail() {
+        // ARRANGE
+        professorDAO.salvarProfessor(professorExemplo);
+
+        // ACT & ASSERT: variações de caixa e espaços
+        assertNotNull(professorDAO.buscarPorEmail("  Mariana@DAO.com "));
+
+        // ACT: troca o email e salva novamente
+        professorExemplo.setEmail("mariana.nova@dao.com");
+        professorDAO.salvarProfessor(professorExemplo);
+
+        // ASSERT: o email antigo fica livre
+        assertFalse(professorDAO.emailExiste("mariana@dao.com"));
+        assertEquals(professorExemplo.getId(), professorDAO.buscarPorEmail("MARIANA.NOVA@dao.com").getId());
+    }
+
+    /**
+     * Testa se cadastros simultâneos com o mesmo e-mail resultam em apenas um
+     * usuário salvo; os demais são rejeitados com IllegalArgumentException.
+     */
+    @Test
+    void deveRejeitarEmailDuplicadoMesmoEmCadastrosSimultaneos() throws InterruptedException {
+        // ARRANGE
+        int tentativas = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger aceitos = new AtomicInteger();
+        AtomicInteger rejeitados = new AtomicInteger();
+
+        // ACT
+        for (int i = 0; i < tentativas; i++) {
+            String email = (i % 2 == 0) ? "disputado@dao.com" : "DISPUTADO@dao.com ";
+            executor.submit(() -> {
+                try {
+                    largada.await();
+                    professorDAO.salvarProfessor(new Professor(null, "Concorrente", email, "senha123"));
+                    aceitos.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejeitados.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // ASSERT
+        assertEquals(1, aceitos.get(), "Apenas um cadastro deveria ser aceito.");
+        assertEquals(tentativas - 1, rejeitados.get());
+        assertTrue(professorDAO.emailExiste("disputado@dao.com"));
+    }
+
+    /**
+     * Testa as buscas por disciplina (simples, união e interseção) e a
+     * contagem por disciplina, inclusive após a atualização do perfil.
+     */
+    @Test
+    void deveBuscarProfessoresPeloIndiceDeDisciplinas() {
+        // ARRANGE
+        Professor ana = new Professor(null, "Ana", "ana@dao.com", "senha123");
+        ana.adicionarDisciplina("Matemática");
+        ana.adicionarDisciplina("Física");
+        Professor bruno = new Professor(null, "Bruno", "bruno@dao.com", "senha123");
+        bruno.adicionarDisciplina(" matemática ");
+        professorDAO.salvarProfessor(ana);
+        professorDAO.salvarProfessor(bruno);
+
+        // ACT & ASSERT: busca simples, sem diferenciar maiúsculas
+        assertEquals(2, professorDAO.findByDisciplina("MATEMÁTICA").size());
+        assertEquals(List.of(ana), professorDAO.findByDisciplina("física"));
+
+        // União e interseção
+        assertEquals(2, professorDAO.findByQualquerDisciplina(List.of("Física", "Química", "Matemática")).size());
+        assertEquals(List.of(ana), professorDAO.findByTodasDisciplinas(List.of("Física", "Matemática")));
+        assertTrue(professorDAO.findByTodasDisciplinas(List.of("Física", "Química")).isEmpty());
+
+        // Facetas
+        Map<String, Integer> contagem = professorDAO.contarPorDisciplina();
+        assertEquals(2, contagem.get("matemática").intValue());
+        assertEquals(1, contagem.get("Física").intValue());
+
+        // ACT: atualização do perfil remove a disciplina do índice
+        ana.getDisciplinas().remove("Física");
+        professorDAO.salvarProfessor(ana);
+
+        // ASSERT
+        assertTrue(professorDAO.findByDisciplina("Física").isEmpty());
+        assertFalse(professorDAO.contarPorDisciplina().containsKey("Física"));
+    }
+}
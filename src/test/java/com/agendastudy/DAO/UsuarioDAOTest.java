@@ -0,0 +1,223 @@
+package com.agendastudy.DAO;
+
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.Usuario;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes de integração para a busca paginada do {@link UsuarioDAO}.
+ * Valida a busca por trecho de nome e email sobre o índice de trigramas,
+ * inclusive após a troca de nome e email, os filtros de tipo e status e o
+ * total retornado junto com a página, além da paginação por cursor e da
+ * reserva atômica dos IDs gerados.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.3
+ * @since 2026-10-18
+ */
+public class UsuarioDAOTest {
+
+    private UsuarioDAO usuarioDAO;
+
+    /**
+     * Limpa o armazenamento estático de usuários e os índices antes de cada
+     * teste.
+     */
+    @BeforeEach
+    void setUp() {
+        UsuarioDAO.clear();
+        usuarioDAO = new UsuarioDAO() {
+        };
+    }
+
+    /**
+     * Testa se o trecho é encontrado no nome ou no email, sem diferenciar
+     * maiúsculas, e se a página vem com o total dos filtrados.
+     */
+    @Test
+    void deveBuscarPorTrechoDeNomeOuEmail() {
+        // ARRANGE
+        usuarioDAO.salvar(new Professor("U1", "Mariana Souza", "mari@escola.com", "senha123"));
+        usuarioDAO.salvar(new Estudante("U2", "Carlos Lima", "carlos.mariano@gmail.com", "senha123"));
+        usuarioDAO.salvar(new Estudante("U3", "Ana Costa", "ana@gmail.com", "senha123"));
+        usuarioDAO.salvar(new Professor("U4", "Rosa MARIA", "rosa@escola.com", "senha123"));
+
+        // ACT
+        UsuarioDAO.PaginaUsuarios primeira = usuarioDAO.buscarPagina("mari", null, null, 1, 2);
+        UsuarioDAO.PaginaUsuarios segunda = usuarioDAO.buscarPagina("mari", null, null, 2, 2);
+
+        // ASSERT: U1 (nome), U2 (email) e U4 (nome em maiúsculas), em ordem de ID
+        assertEquals(3, primeira.total());
+        assertEquals(List.of("U1", "U2"), ids(primeira.usuarios()));
+        assertEquals(List.of("U4"), ids(segunda.usuarios()));
+        assertEquals(3, usuarioDAO.contarUsuariosFiltrados("MARI", null, null));
+        assertEquals(2, usuarioDAO.contarUsuariosFiltrados("mari", "Professor", null));
+        assertEquals(4, usuarioDAO.contarUsuariosFiltrados("a", null, null), "Termos curtos conferem todos.");
+        assertEquals(0, usuarioDAO.contarUsuariosFiltrados("xyz", null, null));
+        assertTrue(usuarioDAO.buscarPaginada("mari", null, null, 3, 2).isEmpty());
+    }
+
+    /**
+     * Testa se o índice acompanha a troca de nome e email e o filtro de
+     * status.
+     */
+    @Test
+    void deveAtualizarIndiceAoSalvarNovamente() {
+        // ARRANGE
+        Estudante estudante = new Estudante("U1", "Pedro Alves", "pedro@gmail.com", "senha123");
+        usuarioDAO.salvar(estudante);
+
+        // ACT
+        estudante.setNome("Paulo Alves");
+        estudante.setEmail("paulo@gmail.com");
+        usuarioDAO.salvar(estudante);
+        usuarioDAO.alterarStatus("U1", false);
+
+        // ASSERT
+        assertEquals(0, usuarioDAO.contarUsuariosFiltrados("pedro", null, null));
+        assertEquals(1, usuarioDAO.contarUsuariosFiltrados("paulo", null, null));
+        assertEquals(0, usuarioDAO.contarUsuariosFiltrados("paulo", null, true));
+        assertEquals(1, usuarioDAO.contarUsuariosFiltrados("paulo", "estudante", false));
+    }
+
+    /**
+     * Testa se a paginação por cursor em ordem de criação percorre todos os
+     * usuários sem repetir nem pular nenhum, mesmo com cadastros entre uma
+     * página e outra.
+     */
+    @Test
+    void devePaginarPorCursorSemRepetirComCadastrosConcorrentes() {
+        // ARRANGE
+        for (int i = 0; i < 5; i++) {
+            usuarioDAO.salvar(new Estudante(null, "Aluno " + i, "aluno" + i + "@gmail.com", "senha123"));
+        }
+
+        // ACT: primeira página, um cadastro novo, depois o resto
+        UsuarioDAO.PaginaCursor primeira = usuarioDAO.buscarComCursor(null, null, null,
+                UsuarioDAO.OrdemUsuarios.CRIACAO, null, 2);
+        usuarioDAO.salvar(new Estudante(null, "Aluno novo", "novo@gmail.com", "senha123"));
+        List<String> nomes = new ArrayList<>(nomes(primeira.usuarios()));
+        String cursor = primeira.proximoCursor();
+        while (cursor != null) {
+            UsuarioDAO.PaginaCursor pagina = usuarioDAO.buscarComCursor(null, null, null,
+                    UsuarioDAO.OrdemUsuarios.CRIACAO, cursor, 2);
+            nomes.addAll(nomes(pagina.usuarios()));
+            cursor = pagina.proximoCursor();
+        }
+
+        // ASSERT
+        assertEquals(List.of("Aluno 0", "Aluno 1", "Aluno 2", "Aluno 3", "Aluno 4", "Aluno novo"), nomes);
+    }
+
+    /**
+     * Testa a paginação por cursor em ordem de nome, com termo de busca, e a
+     * rejeição de cursores inválidos ou de outra ordem.
+     */
+    @Test
+    void devePaginarPorNomeComTermoERejeitarCursorInvalido() {
+        // ARRANGE
+        usuarioDAO.salvar(new Professor("U1", "Zeca Silva", "zeca@escola.com", "senha123"));
+        usuarioDAO.salvar(new Professor("U2", "ana silva", "ana@escola.com", "senha123"));
+        usuarioDAO.salvar(new Estudante("U3", "Bruno Silveira", "bruno@gmail.com", "senha123"));
+        usuarioDAO.salvar(new Estudante("U4", "Carla Souza", "carla@gmail.com", "senha123"));
+
+        // ACT
+        UsuarioDAO.PaginaCursor primeira = usuarioDAO.buscarComCursor("silv", null, null,
+                UsuarioDAO.OrdemUsuarios.NOME, null, 2);
+        UsuarioDAO.PaginaCursor segunda = usuarioDAO.buscarComCursor("silv", null, null,
+                UsuarioDAO.OrdemUsuarios.NOME, primeira.proximoCursor(), 2);
+        UsuarioDAO.PaginaCursor todosPorNome = usuarioDAO.buscarComCursor(null, null, null,
+                UsuarioDAO.OrdemUsuarios.NOME, null, 10);
+
+        // ASSERT
+        assertEquals(List.of("ana silva", "Bruno Silveira"), nomes(primeira.usuarios()));
+        assertEquals(List.of("Zeca Silva"), nomes(segunda.usuarios()));
+        assertNull(segunda.proximoCursor());
+        assertEquals(List.of("ana silva", "Bruno Silveira", "Carla Souza", "Zeca Silva"),
+                nomes(todosPorNome.usuarios()));
+        assertThrows(IllegalArgumentException.class, () -> usuarioDAO.buscarComCursor(null, null, null,
+                UsuarioDAO.OrdemUsuarios.CRIACAO, primeira.proximoCursor(), 2));
+        assertThrows(IllegalArgumentException.class, () -> usuarioDAO.buscarComCursor(null, null, null,
+                UsuarioDAO.OrdemUsuarios.NOME, "@@@", 2));
+    }
+
+    private static List<String> nomes(List<Usuario> usuarios) {
+        return usuarios.stream().map(Usuario::getNome).toList();
+    }
+
+    private static List<String> ids(List<Usuario> usuarios) {
+        return usuarios.stream().map(Usuario::getId).toList();
+    }
+
+    /**
+     * Testa se cadastros simultâneos recebem IDs distintos mesmo com um
+     * gerador que repete valores.
+     */
+    @Test
+    void deveReservarIdsDistintosEmCadastrosConcorrentes() throws Exception {
+        // ARRANGE: cada valor sai duas vezes do gerador
+        AtomicLong contador = new AtomicLong();
+        UsuarioDAO.setGeradorIds(() -> contador.incrementAndGet() / 2);
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            // ACT
+            List<Future<String>> ids = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                int n = i;
+                ids.add(threads.submit(() -> usuarioDAO.salvar(
+                        new Estudante(null, "Aluno " + n, "aluno" + n + "@gmail.com", "senha123")).getId()));
+            }
+            Set<String> distintos = new HashSet<>();
+            for (Future<String> id : ids) {
+                distintos.add(id.get());
+            }
+
+            // ASSERT
+            assertEquals(400, distintos.size());
+            assertEquals(400, UsuarioDAO.usuarios.size());
+        } finally {
+            threads.shutdown();
+            UsuarioDAO.setGeradorIds(GeradorIdsTemporal.getInstancia());
+        }
+    }
+
+    /**
+     * Testa se a ordem de criação segue a ordem dos cadastros, e não a dos
+     * IDs, quando os IDs são informados manualmente.
+     */
+    @Test
+    void devePaginarPorCriacaoNaOrdemDosCadastros() {
+        // ARRANGE
+        usuarioDAO.salvar(new Estudante("Z9", "Primeiro", "primeiro@gmail.com", "senha123"));
+        usuarioDAO.salvar(new Estudante("A1", "Segundo", "segundo@gmail.com", "senha123"));
+        usuarioDAO.salvar(new Estudante(null, "Terceiro", "terceiro@gmail.com", "senha123"));
+
+        // ACT
+        UsuarioDAO.PaginaCursor primeira = usuarioDAO.buscarComCursor(null, null, null,
+                UsuarioDAO.OrdemUsuarios.CRIACAO, null, 2);
+        usuarioDAO.salvar(new Estudante("A0", "Quarto", "quarto@gmail.com", "senha123"));
+        UsuarioDAO.PaginaCursor segunda = usuarioDAO.buscarComCursor(null, null, null,
+                UsuarioDAO.OrdemUsuarios.CRIACAO, primeira.proximoCursor(), 2);
+        UsuarioDAO.PaginaCursor comTermo = usuarioDAO.buscarComCursor("gmail", null, null,
+                UsuarioDAO.OrdemUsuarios.CRIACAO, null, 10);
+
+        // ASSERT
+        assertEquals(List.of("Primeiro", "Segundo"), nomes(primeira.usuarios()));
+        assertEquals(List.of("Terceiro", "Quarto"), nomes(segunda.usuarios()));
+        assertEquals(List.of("Primeiro", "Segundo", "Terceiro", "Quarto"), nomes(comTermo.usuarios()));
+    }
+}
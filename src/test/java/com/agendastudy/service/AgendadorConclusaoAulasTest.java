@@ -0,0 +1,232 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.AulaDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Notificacao;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.StatusAula;
+import com.agendastudy.model.TipoNotificacao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link AgendadorConclusaoAulas}.
+ * Usa um relógio controlado pelo teste para validar a conclusão das aulas
+ * vencidas e o pedido de avaliação, o descarte de aulas canceladas, o
+ * reagendamento, a descida de términos distantes pelos níveis da roda e a
+ * reconstrução a partir do {@link AulaDAO}.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class AgendadorConclusaoAulasTest {
+
+    private static final long MINUTO = 60_000L;
+
+    private final AtomicLong relogio = new AtomicLong();
+    private final List<Notificacao> entregues = new CopyOnWriteArrayList<>();
+
+    private LocalDateTime base;
+
+    private AulaDAO aulaDAO;
+    private SistemaNotificacoes notificacoes;
+    private AgendadorConclusaoAulas agendador;
+    private Professor professor;
+    private Estudante estudante;
+
+    /**
+     * Parte de uma data futura, longe do relógio real.
+     */
+    @BeforeEach
+    void setUp() {
+        base = LocalDateTime.now().plusYears(1).truncatedTo(ChronoUnit.MINUTES);
+        relogio.set(emMillis(base));
+        entregues.clear();
+        AulaDAO.clear();
+        aulaDAO = new AulaDAO();
+        notificacoes = new SistemaNotificacoes(1, 100, 10, 1_000, entregues::add);
+        agendador = new AgendadorConclusaoAulas(aulaDAO, notificacoes, 1_000, 1024, relogio::get);
+        professor = new Professor("P1", "Carlos Silva", "carlos@gmail.com", "senha123");
+        estudante = new Estudante("E1", "Ana Souza", "ana@gmail.com", "senha123");
+    }
+
+    @AfterEach
+    void tearDown() {
+        agendador.parar();
+        notificacoes.shutdown();
+        AulaDAO.clear();
+    }
+
+    /**
+     * Testa se a aula é concluída só depois do término e se o estudante
+     * recebe o pedido de avaliação.
+     */
+    @Test
+    void deveConcluirAulaAposOTerminoEPedirAvaliacao() throws InterruptedException {
+        // ARRANGE: aula de 60 minutos começando em 30 minutos
+        Aula aula = new Aula("A1", "POO", "", professor, estudante, base.plusMinutes(30), 60);
+        assertTrue(agendador.agendar(aula));
+
+        // ACT + ASSERT: um segundo antes do término nada acontece
+        relogio.set(emMillis(base) + 90 * MINUTO - 1_000);
+        assertEquals(0, agendador.processar());
+        assertEquals(StatusAula.AGENDADA, aula.getStatus());
+
+        relogio.set(emMillis(base) + 90 * MINUTO);
+        assertEquals(1, agendador.processar());
+        assertEquals(StatusAula.CONCLUIDA, aula.getStatus());
+
+        aguardarEntregas(1);
+        assertEquals("E1", entregues.get(0).getUsuarioId());
+        assertEquals(TipoNotificacao.AVALIACAO_SOLICITADA, entregues.get(0).getTipo());
+        assertEquals(1, agendador.getTotalConcluidas());
+        assertEquals(0, agendador.getPendentes());
+    }
+
+    /**
+     * Testa se aulas canceladas antes do término não são concluídas e se
+     * uma aula reagendada para depois volta para a roda.
+     */
+    @Test
+    void deveIgnorarCanceladasERespeitarReagendamento() {
+        // ARRANGE
+        Aula cancelada = new Aula("A1", "POO", "", professor, estudante, base.plusMinutes(10), 30);
+        Aula reagendada = new Aula("A2", "BD", "", professor, estudante, base.plusMinutes(10), 30);
+        agendador.agendar(cancelada);
+        agendador.agendar(reagendada);
+        cancelada.cancelarPorAluno();
+        reagendada.setDataHora(base.plusDays(1));
+
+        // ACT: o término original passa
+        relogio.set(emMillis(base) + 40 * MINUTO);
+        int concluidasNoTerminoOriginal = agendador.processar();
+
+        // ASSERT
+        assertEquals(0, concluidasNoTerminoOriginal);
+        assertEquals(StatusAula.CANCELADA_ALUNO, cancelada.getStatus());
+        assertEquals(StatusAula.AGENDADA, reagendada.getStatus());
+        assertEquals(1, agendador.getPendentes(), "A aula reagendada deveria voltar para a roda.");
+
+        relogio.set(emMillis(base.plusDays(1)) + 30 * MINUTO);
+        assertEquals(1, agendador.processar());
+        assertEquals(StatusAula.CONCLUIDA, reagendada.getStatus());
+    }
+
+    /**
+     * Testa se términos em níveis diferentes da roda (minutos, dias e anos)
+     * descem corretamente e vencem na ordem certa.
+     */
+    @Test
+    void deveDescerTerminosDistantesPelosNiveis() {
+        // ARRANGE
+        Aula proxima = new Aula("A1", "POO", "", professor, estudante, base.plusMinutes(1), 1);
+        Aula semanaQueVem = new Aula("A2", "BD", "", professor, estudante, base.plusDays(7), 60);
+        Aula daquiAAnos = new Aula("A3", "IA", "", professor, estudante, base.plusYears(40), 60);
+        agendador.agendar(proxima);
+        agendador.agendar(semanaQueVem);
+        agendador.agendar(daquiAAnos);
+
+        // ACT + ASSERT
+        relogio.set(emMillis(base.plusDays(7).plusMinutes(59)));
+        assertEquals(1, agendador.processar());
+        assertEquals(StatusAula.CONCLUIDA, proxima.getStatus());
+        assertEquals(StatusAula.AGENDADA, semanaQueVem.getStatus());
+
+        relogio.set(emMillis(base.plusDays(7).plusMinutes(60)));
+        assertEquals(1, agendador.processar());
+        assertEquals(StatusAula.CONCLUIDA, semanaQueVem.getStatus());
+
+        relogio.set(emMillis(base.plusYears(40).plusMinutes(59)));
+        assertEquals(0, agendador.processar());
+        relogio.set(emMillis(base.plusYears(40).plusMinutes(60)));
+        assertEquals(1, agendador.processar());
+        assertEquals(StatusAula.CONCLUIDA, daquiAAnos.getStatus());
+        assertEquals(0, agendador.getPendentes());
+    }
+
+    /**
+     * Testa se, ao iniciar, as aulas já cadastradas são agendadas e se as
+     * aulas salvas depois também entram na roda.
+     */
+    @Test
+    void deveReconstruirAPartirDoDAOEAgendarNovosSalvamentos() {
+        // ARRANGE: uma aula já vencida, uma futura e uma vaga sem estudante
+        aulaDAO.salvarOuAtualizar(new Aula("A1", "POO", "", professor, estudante, base.minusHours(3), 60));
+        aulaDAO.salvarOuAtualizar(new Aula("A2", "BD", "", professor, estudante, base.plusHours(1), 60));
+        aulaDAO.salvarOuAtualizar(new Aula("A3", "IA", "", professor, null, base.minusHours(3), 60));
+        AgendadorConclusaoAulas reiniciado = new AgendadorConclusaoAulas(aulaDAO, notificacoes, 3_600_000, 1024,
+                relogio::get);
+
+        // ACT
+        reiniciado.iniciar();
+        try {
+            aulaDAO.salvarOuAtualizar(new Aula("A4", "ED", "", professor, estudante, base.plusHours(2), 60));
+            int vencidasAoIniciar = reiniciado.processar();
+            relogio.set(emMillis(base.plusHours(3)));
+            int vencidasDepois = reiniciado.processar();
+
+            // ASSERT
+            assertEquals(1, vencidasAoIniciar);
+            assertEquals(StatusAula.CONCLUIDA, aulaDAO.buscarPorId("A1").getStatus());
+            assertEquals(2, vencidasDepois);
+            assertEquals(StatusAula.AGENDADA, aulaDAO.buscarPorId("A3").getStatus());
+            assertEquals(3, aulaDAO.contarPorStatus("P1", StatusAula.CONCLUIDA));
+        } finally {
+            reiniciado.parar();
+        }
+    }
+
+    /**
+     * Testa se salvar a mesma aula várias vezes mantém um único término e se
+     * o término de um horário antigo não conclui a aula antes da hora.
+     */
+    @Test
+    void deveManterUmTerminoPorAula() {
+        // ARRANGE
+        agendador.iniciar();
+        Aula aula = new Aula("A1", "POO", "", professor, estudante, base.plusMinutes(10), 30);
+
+        // ACT: salva 100 vezes no mesmo horário e depois adianta a aula
+        for (int i = 0; i < 100; i++) {
+            aulaDAO.salvarOuAtualizar(aula);
+        }
+        long pendentesAntes = agendador.getPendentes();
+        aula.setDataHora(base.plusMinutes(60));
+        aulaDAO.salvarOuAtualizar(aula);
+        aula.setDataHora(base.plusMinutes(5));
+        aulaDAO.salvarOuAtualizar(aula);
+
+        // ASSERT
+        assertEquals(1, pendentesAntes);
+        assertEquals(1, agendador.getPendentes());
+        relogio.set(emMillis(base.plusMinutes(35)));
+        assertEquals(1, agendador.processar());
+        relogio.set(emMillis(base.plusMinutes(90)));
+        assertEquals(0, agendador.processar(), "O término do horário antigo deveria ser descartado.");
+        assertEquals(0, agendador.getPendentes());
+    }
+
+    private void aguardarEntregas(int quantidade) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5_000;
+        while (entregues.size() < quantidade && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static long emMillis(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,298 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.ProfessorDAO;
+import com.agendastudy.DAO.UsuarioDAO;
+import com.agendastudy.model.Coordenadas;
+import com.agendastudy.model.Professor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link BuscaService}.
+ * Valida os filtros e a ordenação por preço, por proximidade e por
+ * relevância do texto livre sobre os índices do {@link ProfessorDAO}, e o
+ * mesmo comportamento com uma lista simples.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.3
+ * @since 2026-10-18
+ */
+public class BuscaServiceTest {
+
+    private ProfessorDAO professorDAO;
+
+    /**
+     * Limpa o armazenamento estático de usuários e cadastra professores com
+     * preços variados (um sem preço).
+     */
+    @BeforeEach
+    void setUp() {
+        UsuarioDAO.clear();
+        professorDAO = new ProfessorDAO();
+        salvar("P1", "Ana", "Matemática", 80);
+        salvar("P2", "Bruno", "Química", 40);
+        salvar("P3", "Carla", "Matemática", 120);
+        salvar("P4", "Diego", "Matemática", 0);
+        salvar("P5", "Elisa", "História", 60);
+    }
+
+    /**
+     * Testa se a faixa de preço seleciona só os professores dentro dela e se
+     * os demais filtros continuam valendo sobre os candidatos.
+     */
+    @Test
+    void deveFiltrarPorFaixaDePreco() {
+        // ARRANGE
+        BuscaService busca = new BuscaService(professorDAO);
+        CriteriosBusca criterios = new CriteriosBusca();
+        criterios.precoMin = 50.0;
+        criterios.precoMax = 120.0;
+
+        // ACT
+        List<String> naFaixa = nomes(busca.filtrarProfessores(criterios));
+        criterios.disciplinasSelecionadas = List.of("Matemática");
+        List<String> naFaixaDeMatematica = nomes(busca.filtrarProfessores(criterios));
+
+        // ASSERT: o resultado já vem em ordem de preço
+        assertEquals(List.of("Elisa", "Ana", "Carla"), naFaixa);
+        assertEquals(List.of("Ana", "Carla"), naFaixaDeMatematica);
+    }
+
+    /**
+     * Testa a ordenação por preço (sem preço por último) pelo índice do DAO
+     * e pela lista, e se o novo preço vale depois de salvar de novo.
+     */
+    @Test
+    void deveOrdenarPorPrecoEAcompanharAlteracoes() {
+        // ARRANGE
+        CriteriosBusca criterios = new CriteriosBusca();
+        criterios.ordenacao = CriteriosBusca.Ordenacao.MAIOR_PRECO;
+        BuscaService pelaLista = new BuscaService(professorDAO.listarProfessores());
+
+        // ACT
+        List<String> peloIndice = nomes(new BuscaService(professorDAO).filtrarProfessores(criterios));
+        List<String> ordenadosPelaLista = nomes(pelaLista.filtrarProfessores(criterios));
+
+        Professor bruno = professorDAO.buscarPorId("P2");
+        bruno.setPrecoHora(200);
+        professorDAO.salvarProfessor(bruno);
+        criterios.ordenacao = CriteriosBusca.Ordenacao.MENOR_PRECO;
+        List<String> aposAlteracao = nomes(new BuscaService(professorDAO).filtrarProfessores(criterios));
+
+        // ASSERT
+        assertEquals(List.of("Carla", "Ana", "Elisa", "Bruno", "Diego"), peloIndice);
+        assertEquals(peloIndice, ordenadosPelaLista);
+        assertEquals(List.of("Elisa", "Ana", "Carla", "Bruno", "Diego"), aposAlteracao);
+        assertThrows(IllegalArgumentException.class, () -> bruno.setPrecoHora(-1));
+    }
+
+    /**
+     * Testa se a busca por raio e a ordenação por proximidade batem com o
+     * cálculo direto de todas as distâncias, e se o limite de resultados é
+     * respeitado.
+     */
+    @Test
+    void deveBuscarPorRaioEOrdenarPorProximidade() {
+        // ARRANGE: 2.000 professores espalhados em torno de Salvador e Vitória da Conquista
+        UsuarioDAO.clear();
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            Professor professor = new Professor("G" + i, "Prof " + i, "g" + i + "@escola.com", "senha123");
+            professor.adicionarDisciplina(i % 2 == 0 ? "Matemática" : "Física");
+            professor.setCoordenadas(new Coordenadas(-15 + aleatorio.nextGaussian() * 2,
+                    -40 + aleatorio.nextGaussian() * 2));
+            professorDAO.salvarProfessor(professor);
+        }
+        Coordenadas conquista = new Coordenadas(-14.86, -40.84);
+        BuscaService busca = new BuscaService(professorDAO);
+
+        CriteriosBusca noRaio = new CriteriosBusca();
+        noRaio.origem = conquista;
+        noRaio.distanciaMaxKm = 80.0;
+        CriteriosBusca maisProximos = new CriteriosBusca();
+        maisProximos.origem = conquista;
+        maisProximos.ordenacao = CriteriosBusca.Ordenacao.PROXIMIDADE;
+        maisProximos.disciplinasSelecionadas = List.of("Matemática");
+        maisProximos.limite = 10;
+
+        // ACT
+        List<Professor> encontrados = busca.filtrarProfessores(noRaio);
+        List<Professor> dezMaisProximos = busca.filtrarProfessores(maisProximos);
+
+        // ASSERT: mesmo resultado do cálculo direto, em ordem de distância
+        Comparator<Professor> porDistancia = Comparator.comparingDouble(p -> conquista.distanciaKm(p.getCoordenadas()));
+        List<Professor> esperados = professorDAO.listarProfessores().stream()
+                .filter(p -> conquista.distanciaKm(p.getCoordenadas()) <= 80.0)
+                .sorted(porDistancia).toList();
+        assertFalse(esperados.isEmpty());
+        assertEquals(nomes(esperados), nomes(encontrados));
+
+        List<Professor> esperadosProximos = professorDAO.listarProfessores().stream()
+                .filter(p -> p.getDisciplina().equals("Matemática"))
+                .sorted(porDistancia).limit(10).toList();
+        assertEquals(nomes(esperadosProximos), nomes(dezMaisProximos));
+        assertEquals(nomes(esperadosProximos),
+                nomes(new BuscaService(professorDAO.listarProfessores()).filtrarProfessores(maisProximos)));
+    }
+
+    /**
+     * Testa a busca por proximidade dos dois lados da linha de data e a
+     * exigência da origem para ordenar por proximidade.
+     */
+    @Test
+    void deveEncontrarVizinhosDoOutroLadoDaLinhaDeData() {
+        // ARRANGE
+        UsuarioDAO.clear();
+        salvarEm("L1", "Leste", 0, 179.95);
+        salvarEm("L2", "Oeste", 0, -179.95);
+        salvarEm("L3", "Longe", 0, 170);
+        CriteriosBusca criterios = new CriteriosBusca();
+        criterios.origem = new Coordenadas(0, 179.99);
+        criterios.ordenacao = CriteriosBusca.Ordenacao.PROXIMIDADE;
+        BuscaService busca = new BuscaService(professorDAO);
+
+        // ACT
+        List<String> ordem = nomes(busca.filtrarProfessores(criterios));
+        criterios.distanciaMaxKm = 50.0;
+        List<String> noRaio = nomes(busca.filtrarProfessores(criterios));
+
+        // ASSERT
+        assertEquals(List.of("Leste", "Oeste", "Longe"), ordem);
+        assertEquals(List.of("Leste", "Oeste"), noRaio);
+        criterios.origem = null;
+        assertThrows(IllegalArgumentException.class, () -> busca.filtrarProfessores(criterios));
+    }
+
+    /**
+     * Testa se, sem raio, a ordenação por proximidade coloca os professores
+     * sem localização no fim, pelo índice do DAO e pela lista, e se com raio
+     * eles ficam de fora nos dois caminhos.
+     */
+    @Test
+    void deveColocarProfessoresSemLocalizacaoNoFim() {
+        // ARRANGE: os 5 do setUp não têm coordenadas
+        salvarEm("L1", "Perto", -14.9, -40.8);
+        salvarEm("L2", "Longe", -12.9, -38.5);
+        CriteriosBusca criterios = new CriteriosBusca();
+        criterios.origem = new Coordenadas(-14.86, -40.84);
+        criterios.ordenacao = CriteriosBusca.Ordenacao.PROXIMIDADE;
+        BuscaService peloIndice = new BuscaService(professorDAO);
+        BuscaService pelaLista = new BuscaService(professorDAO.listarProfessores());
+
+        // ACT
+        List<String> ordemIndice = nomes(peloIndice.filtrarProfessores(criterios));
+        List<String> ordemLista = nomes(pelaLista.filtrarProfessores(criterios));
+        criterios.distanciaMaxKm = 1_000.0;
+        List<String> noRaioIndice = nomes(peloIndice.filtrarProfessores(criterios));
+        List<String> noRaioLista = nomes(pelaLista.filtrarProfessores(criterios));
+
+        // ASSERT
+        assertEquals(7, ordemIndice.size());
+        assertEquals(List.of("Perto", "Longe"), ordemIndice.subList(0, 2));
+        assertEquals(ordemLista.subList(0, 2), ordemIndice.subList(0, 2));
+        assertEquals(new HashSet<>(ordemLista), new HashSet<>(ordemIndice));
+        assertEquals(List.of("Perto", "Longe"), noRaioIndice);
+        assertEquals(noRaioIndice, noRaioLista);
+    }
+
+    /**
+     * Testa se o texto livre é buscado em todos os campos do perfil (sem
+     * acentos e por prefixo) e se os resultados vêm por relevância.
+     */
+    @Test
+    void deveOrdenarBuscaLivrePorRelevancia() {
+        // ARRANGE
+        UsuarioDAO.clear();
+        Professor especialista = perfil("T1", "Beatriz Ramos", "Cálculo",
+                "Doutora em cálculo numérico; ensino cálculo há 10 anos.");
+        perfil("T2", "Caio Nunes", "Física", "Uso cálculo nas aulas de física.");
+        Professor semRelacao = perfil("T3", "Davi Costa", "História", "História do Brasil.");
+        especialista.adicionarQualificacao("Mestrado em Matemática Aplicada");
+        professorDAO.salvarProfessor(especialista);
+        BuscaService busca = new BuscaService(professorDAO);
+
+        CriteriosBusca criterios = new CriteriosBusca();
+        criterios.textoBuscaLivre = "calculo";
+
+        // ACT
+        List<String> porCalculo = nomes(busca.filtrarProfessores(criterios));
+        criterios.textoBuscaLivre = "matemát";
+        List<String> porPrefixo = nomes(busca.filtrarProfessores(criterios));
+        criterios.textoBuscaLivre = "historia brasil";
+        List<String> porHistoria = nomes(busca.filtrarProfessores(criterios));
+
+        // ASSERT
+        assertEquals(List.of("Beatriz Ramos", "Caio Nunes"), porCalculo);
+        assertEquals(List.of("Beatriz Ramos"), porPrefixo);
+        assertEquals(List.of(semRelacao.getNome()), porHistoria);
+    }
+
+    /**
+     * Testa se o índice de texto acompanha a atualização do perfil e se o
+     * limite devolve só os mais relevantes, também com outros filtros.
+     */
+    @Test
+    void deveAtualizarIndiceTextualERespeitarLimite() {
+        // ARRANGE
+        UsuarioDAO.clear();
+        for (int i = 0; i < 50; i++) {
+            perfil("R" + i, "Prof " + i, i % 2 == 0 ? "Química" : "Biologia",
+                    "química ".repeat(1 + i % 5) + "laboratório");
+        }
+        Professor mudou = professorDAO.buscarPorId("R0");
+        mudou.setBiografia("Agora só ensino redação.");
+        professorDAO.salvarProfessor(mudou);
+        BuscaService busca = new BuscaService(professorDAO);
+
+        CriteriosBusca criterios = new CriteriosBusca();
+        criterios.textoBuscaLivre = "química";
+        criterios.limite = 3;
+        CriteriosBusca porRedacao = new CriteriosBusca();
+        porRedacao.textoBuscaLivre = "redacao";
+
+        // ACT
+        List<Professor> tresMaisRelevantes = busca.filtrarProfessores(criterios);
+        criterios.disciplinasSelecionadas = List.of("Biologia");
+        List<Professor> deBiologia = busca.filtrarProfessores(criterios);
+
+        // ASSERT: a disciplina Química pesa mais que a biografia
+        assertEquals(3, tresMaisRelevantes.size());
+        assertTrue(tresMaisRelevantes.stream().allMatch(p -> p.getDisciplina().equals("Química")));
+        assertEquals(3, deBiologia.size());
+        assertEquals("Biologia", deBiologia.get(0).getDisciplina());
+        assertEquals(List.of("Prof 0"), nomes(busca.filtrarProfessores(porRedacao)));
+    }
+
+    private Professor perfil(String id, String nome, String disciplina, String biografia) {
+        Professor professor = new Professor(id, nome, id.toLowerCase() + "@escola.com", "senha123");
+        professor.adicionarDisciplina(disciplina);
+        professor.setBiografia(biografia);
+        professorDAO.salvarProfessor(professor);
+        return professor;
+    }
+
+    private void salvarEm(String id, String nome, double latitude, double longitude) {
+        Professor professor = new Professor(id, nome, nome.toLowerCase() + "@escola.com", "senha123");
+        professor.setCoordenadas(new Coordenadas(latitude, longitude));
+        professorDAO.salvarProfessor(professor);
+    }
+
+    private void salvar(String id, String nome, String disciplina, double preco) {
+        Professor professor = new Professor(id, nome, nome.toLowerCase() + "@escola.com", "senha123");
+        professor.adicionarDisciplina(disciplina);
+        professor.setPrecoHora(preco);
+        professorDAO.salvarProfessor(professor);
+    }
+
+    private static List<String> nomes(List<Professor> professores) {
+        return professores.stream().map(Professor::getNome).toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.agendastudy.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link CacheLRU}.
+ * Valida o descarte pela ordem de uso quando o peso total passa do limite.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CacheLRUTest {
+
+    /**
+     * Testa se a entrada usada há mais tempo é descartada ao passar do peso
+     * máximo, e se o valor carregado é reaproveitado.
+     */
+    @Test
+    void deveDescartarEntradaMenosUsadaRecentemente() {
+        // ARRANGE: limite de 10, cada texto pesa o seu tamanho
+        CacheLRU<String, String> cache = new CacheLRU<>(10, String::length);
+        cache.obter("a", c -> "aaaa");
+        cache.obter("b", c -> "bbbb");
+        cache.obter("a", c -> "outro"); // "a" passa a ser a mais recente
+
+        // ACT
+        cache.obter("c", c -> "cccc");
+
+        // ASSERT
+        assertEquals("aaaa", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("cccc", cache.get("c"));
+        assertEquals(8, cache.getPesoAtual());
+        assertEquals(1, cache.getAcertos());
+        assertEquals(3, cache.getFaltas());
+    }
+
+    /**
+     * Testa se um valor mais pesado que o limite é devolvido sem ser guardado.
+     */
+    @Test
+    void naoDeveGuardarValorMaiorQueOLimite() {
+        // ARRANGE
+        CacheLRU<String, String> cache = new CacheLRU<>(3, String::length);
+
+        // ACT
+        String valor = cache.obter("x", c -> "grande");
+
+        // ASSERT
+        assertEquals("grande", valor);
+        assertEquals(0, cache.tamanho());
+        assertNull(cache.obter("y", c -> null));
+    }
+}
@@ -0,0 +1,64 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.AvaliacaoDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.StatusAula;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link ContextoAplicacao}.
+ * Valida que o contexto é único e que os DAOs e serviços entregues às telas
+ * compartilham o mesmo estado carregado.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ContextoAplicacaoTest {
+
+    /**
+     * Testa se todas as chamadas retornam o mesmo contexto e os mesmos objetos.
+     */
+    @Test
+    void deveRetornarSempreAMesmaInstancia() {
+        // ACT
+        ContextoAplicacao primeiro = ContextoAplicacao.getInstancia();
+        ContextoAplicacao segundo = ContextoAplicacao.getInstancia();
+
+        // ASSERT
+        assertSame(primeiro, segundo);
+        assertSame(primeiro.getEstudanteDAO(), segundo.getEstudanteDAO());
+        assertSame(primeiro.getServicoAgendamento(), segundo.getServicoAgendamento());
+    }
+
+    /**
+     * Testa se uma avaliação registrada pelo DAO de avaliações do contexto é
+     * vista pelo DAO de estudantes, sem recarregar nada do disco.
+     */
+    @Test
+    void deveCompartilharOAvaliacaoDAOEntreOsDAOs() throws IOException {
+        // ARRANGE
+        AvaliacaoDAO avaliacaoDAO = new AvaliacaoDAO(Files.createTempDirectory("contexto").toString());
+        ContextoAplicacao contexto = new ContextoAplicacao(avaliacaoDAO);
+        Professor professor = new Professor("P1", "Carlos Silva", "carlos@gmail.com", "senha123");
+        Estudante estudante = new Estudante("E1", "Ana Souza", "ana@gmail.com", "senha123");
+        Aula aula = new Aula("A1", "POO", "", professor, estudante, LocalDateTime.now().minusDays(1), 60);
+        aula.setStatus(StatusAula.CONCLUIDA);
+
+        // ACT
+        boolean avaliada = contexto.getAvaliacaoDAO().avaliar(estudante, aula, 5);
+
+        // ASSERT
+        assertTrue(avaliada);
+        assertTrue(contexto.getEstudanteDAO().jaAvaliouAula(estudante, aula));
+    }
+}
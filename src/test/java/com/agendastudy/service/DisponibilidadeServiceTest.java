@@ -0,0 +1,78 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.DisponibilidadeDAO;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.SlotDisponivel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link DisponibilidadeService}.
+ * Fixa o índice de compatibilidade de horários: ele depende do tempo livre
+ * do professor, e não de como o {@link DisponibilidadeDAO} agrupou os slots.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DisponibilidadeServiceTest {
+
+    private DisponibilidadeDAO dao;
+    private DisponibilidadeService service;
+    private Estudante estudante;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        DisponibilidadeDAO.clear();
+        dao = new DisponibilidadeDAO();
+        service = new DisponibilidadeService(dao);
+        estudante = new Estudante("E1", "Ana Souza", "ana@gmail.com", "senha123");
+        base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    /**
+     * Testa se 15 horas livres valem 0.5, estejam em slots separados ou
+     * unidas em um único slot.
+     */
+    @Test
+    void deveCalcularCompatibilidadePeloTempoLivre() {
+        // ARRANGE: 15 slots de uma hora separados e 15 slots de uma hora seguidos
+        Professor separados = new Professor("P1", "Carlos Silva", "carlos@gmail.com", "senha123");
+        Professor seguidos = new Professor("P2", "Beatriz Lima", "bia@gmail.com", "senha123");
+        for (int i = 0; i < 15; i++) {
+            dao.salvarSlot(new SlotDisponivel("P1", base.plusHours(2L * i), base.plusHours(2L * i + 1)));
+            dao.salvarSlot(new SlotDisponivel("P2", base.plusHours(i), base.plusHours(i + 1)));
+        }
+
+        // ACT
+        double compatibilidadeSeparados = service.calcularCompatibilidadeHorarios(separados, estudante);
+        double compatibilidadeSeguidos = service.calcularCompatibilidadeHorarios(seguidos, estudante);
+
+        // ASSERT
+        assertEquals(1, dao.findDisponibilidade("P2", base, base.plusDays(2)).size());
+        assertEquals(0.5, compatibilidadeSeparados, 1e-9);
+        assertEquals(0.5, compatibilidadeSeguidos, 1e-9);
+    }
+
+    /**
+     * Testa se o índice fica entre 0 e 1.
+     */
+    @Test
+    void deveLimitarCompatibilidadeEntreZeroEUm() {
+        // ARRANGE
+        Professor semAgenda = new Professor("P1", "Carlos Silva", "carlos@gmail.com", "senha123");
+        Professor agendaCheia = new Professor("P2", "Beatriz Lima", "bia@gmail.com", "senha123");
+        dao.salvarSlot(new SlotDisponivel("P2", base, base.plusDays(3)));
+
+        // ACT + ASSERT
+        assertEquals(0.0, service.calcularCompatibilidadeHorarios(semAgenda, estudante));
+        assertEquals(1.0, service.calcularCompatibilidadeHorarios(agendaCheia, estudante));
+    }
+}
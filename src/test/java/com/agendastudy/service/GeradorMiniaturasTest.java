@@ -0,0 +1,103 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.ArmazemFotos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.imageio.ImageIO;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link GeradorMiniaturas}.
+ * Valida o tamanho e a proporção das variantes geradas em segundo plano e o
+ * tratamento de conteúdos que não são imagens.
+ *
+ * @author Paulo Vitor Dias Soares
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GeradorMiniaturasTest {
+
+    private ArmazemFotos armazem;
+    private GeradorMiniaturas gerador;
+
+    @BeforeEach
+    void setUp() {
+        armazem = ArmazemFotos.getInstancia();
+        gerador = new GeradorMiniaturas(armazem, 1);
+    }
+
+    /**
+     * Testa se cada variante cabe no seu lado e mantém a proporção do original.
+     */
+    @Test
+    void deveGerarMiniaturasMantendoProporcao()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        // ARRANGE: foto 800x400, com um pixel único para não colidir com outros testes
+        String hash = armazem.salvar(png(800, 400));
+
+        // ACT
+        boolean sucesso = gerador.gerar(hash).get(10, TimeUnit.SECONDS);
+
+        // ASSERT
+        assertTrue(sucesso);
+        assertTrue(gerador.prontas(hash));
+        for (int lado : GeradorMiniaturas.LADOS) {
+            BufferedImage variante;
+            try (InputStream entrada = armazem.abrirVariante(hash, lado)) {
+                variante = ImageIO.read(entrada);
+            }
+            assertEquals(lado, variante.getWidth());
+            assertEquals(lado / 2, variante.getHeight());
+        }
+        assertTrue(gerador.gerar(hash).isDone(), "Variantes já gravadas não são geradas de novo");
+    }
+
+    /**
+     * Testa se imagens menores que o lado pedido não são ampliadas.
+     */
+    @Test
+    void naoDeveAmpliarImagensPequenas() {
+        // ACT
+        BufferedImage reduzida = GeradorMiniaturas.reduzir(new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), 128);
+
+        // ASSERT
+        assertEquals(40, reduzida.getWidth());
+        assertEquals(20, reduzida.getHeight());
+    }
+
+    /**
+     * Testa se um conteúdo que não é imagem termina sem variantes, sem erro.
+     */
+    @Test
+    void deveIgnorarConteudoQueNaoEImagem()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        // ARRANGE
+        String hash = armazem.salvar(("não é imagem " + System.nanoTime()).getBytes());
+
+        // ACT
+        boolean sucesso = gerador.gerar(hash).get(10, TimeUnit.SECONDS);
+
+        // ASSERT
+        assertFalse(sucesso);
+        assertFalse(gerador.prontas(hash));
+    }
+
+    private static byte[] png(int largura, int altura) throws IOException {
+        BufferedImage imagem = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+        imagem.setRGB(0, 0, (int) System.nanoTime());
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ImageIO.write(imagem, "png", saida);
+        return saida.toByteArray();
+    }
+}
@@ -0,0 +1,136 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.DisponibilidadeDAO;
+import com.agendastudy.DAO.ProfessorDAO;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.SlotDisponivel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link MotorRanking}.
+ * Valida a ordenação do top-N e a atualização incremental das pontuações a
+ * partir das alterações registradas pelos DAOs.
+ *
+ * @author Lucas Chagas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class MotorRankingTest {
+
+    private ProfessorDAO professorDAO;
+    private DisponibilidadeDAO disponibilidadeDAO;
+    private Map<String, Double> medias;
+    private MotorRanking motor;
+    private String sufixo;
+
+    /**
+     * Limpa os slots estáticos e cria um motor cuja média de avaliações vem de
+     * um mapa controlado pelo teste.
+     */
+    @BeforeEach
+    void setUp() {
+        DisponibilidadeDAO.clear();
+        professorDAO = new ProfessorDAO();
+        disponibilidadeDAO = new DisponibilidadeDAO();
+        medias = new HashMap<>();
+        motor = new MotorRanking(professorDAO, p -> medias.getOrDefault(p.getId(), 0.0),
+                new DisponibilidadeService(disponibilidadeDAO));
+        sufixo = String.valueOf(System.nanoTime());
+    }
+
+    private Professor novoProfessor(String nome, double media, boolean comDisponibilidade) {
+        Professor professor = new Professor(null, nome, nome + sufixo + "@ranking.com", "senha123");
+        professor.adicionarDisciplina("Cálculo");
+        professorDAO.salvarProfessor(professor);
+        medias.put(professor.getId(), media);
+        if (comDisponibilidade) {
+            LocalDateTime inicio = LocalDateTime.now().plusHours(2);
+            disponibilidadeDAO.salvarSlot(new SlotDisponivel(professor.getId(), inicio, inicio.plusHours(1)));
+        }
+        return professor;
+    }
+
+    /**
+     * Testa se o top-N vem ordenado pelo score e ignora professores sem
+     * disponibilidade nas próximas 72 horas.
+     */
+    @Test
+    void deveOrdenarPorScoreEIgnorarProfessoresSemDisponibilidade() {
+        // ARRANGE
+        Professor bom = novoProfessor("bom", 4.0, true);
+        Professor otimo = novoProfessor("otimo", 5.0, true);
+        novoProfessor("indisponivel", 5.0, false);
+
+        // ACT
+        List<Professor> top = motor.getTopN("cálculo", 10);
+
+        // ASSERT
+        assertEquals(List.of(otimo, bom), top);
+        assertEquals(List.of(otimo), motor.getTopN("Cálculo", 1));
+    }
+
+    /**
+     * Testa se alterações registradas pelos DAOs (perfil salvo e nova
+     * disponibilidade) atualizam o ranking já carregado.
+     */
+    @Test
+    void deveAtualizarRankingAPartirDasAlteracoes() {
+        // ARRANGE
+        Professor bom = novoProfessor("bom", 4.0, true);
+        Professor otimo = novoProfessor("otimo", 4.5, true);
+        Professor novato = novoProfessor("novato", 3.0, false);
+        assertEquals(List.of(otimo, bom), motor.getTopN("Cálculo", 10));
+
+        // ACT: muitos cancelamentos derrubam o primeiro colocado
+        otimo.setTaxaCancelamento(1.0);
+        professorDAO.salvarProfessor(otimo);
+
+        // ACT: o novato cadastra disponibilidade
+        LocalDateTime inicio = LocalDateTime.now().plusHours(5);
+        disponibilidadeDAO.salvarSlot(new SlotDisponivel(novato.getId(), inicio, inicio.plusHours(1)));
+
+        // ASSERT
+        assertEquals(List.of(bom, otimo, novato), motor.getTopN("Cálculo", 10));
+    }
+
+    /**
+     * Testa se a busca com estudante reordena os primeiros colocados pela
+     * compatibilidade de horários com ele, sem mudar o ranking global.
+     */
+    @Test
+    void devePersonalizarRankingPeloEstudante() {
+        // ARRANGE: compatibilidade que depende do estudante
+        Estudante manha = new Estudante("E1", "Ana Souza", "ana@gmail.com", "senha123");
+        Map<String, Double> compatibilidadeComAna = new HashMap<>();
+        motor = new MotorRanking(professorDAO, p -> medias.getOrDefault(p.getId(), 0.0),
+                new DisponibilidadeService(disponibilidadeDAO) {
+                    @Override
+                    public double calcularCompatibilidadeHorarios(Professor professor, Estudante estudante) {
+                        return estudante == null ? 0.0 : compatibilidadeComAna.getOrDefault(professor.getId(), 0.0);
+                    }
+                });
+        Professor otimo = novoProfessor("otimo", 5.0, true);
+        Professor bom = novoProfessor("bom", 4.0, true);
+        compatibilidadeComAna.put(bom.getId(), 1.0);
+
+        // ACT
+        List<Professor> global = motor.getTopN("Cálculo", 10);
+        List<Professor> paraAna = motor.getTopN("Cálculo", 10, manha);
+
+        // ASSERT: 0.5 + 0 contra 0.4 + 0.4
+        assertEquals(List.of(otimo, bom), global);
+        assertEquals(List.of(bom, otimo), paraAna);
+        assertEquals(List.of(bom), motor.getTopN("Cálculo", 1, manha));
+        assertEquals(global, motor.getTopN("Cálculo", 10, null));
+    }
+}
@@ -57,7 +57,8 @@ public class ProfessorServiceTest {
         professorValido.setBiografia("Doutora em História.");
         professorValido.adicionarDisciplina("Matemática");
         professorValido.adicionarQualificacao("Mestrado em Álgebra");
-        professorValido.setFotoPerfil(new byte[] { 1, 2, 3 }, "jpg");
+        professorValido.setHashFoto("ab".repeat(32));
+        professorValido.setTipoImagem("jpg");
 
         // Professor Incompleto/Inválido para cenários de exceção
         professorComDadosIncompletos = new Professor(null, "Pedro", "pedro@teste.com", "123");
@@ -133,7 +134,7 @@ public class ProfessorServiceTest {
     @Test
     void naoDeveRetornarVerificadoQuandoFaltarFoto() {
         // ARRANGE: Remove a foto
-        professorValido.setFotoPerfil(null, null);
+        professorValido.setHashFoto(null);
         assertFalse(professorService.podeSerVerificado(professorValido));
     }
 
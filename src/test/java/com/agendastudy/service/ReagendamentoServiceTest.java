@@ -0,0 +1,96 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.AulaDAO;
+import com.agendastudy.DAO.DisponibilidadeDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.HorarioSugerido;
+import com.agendastudy.model.Professor;
+import com.agendastudy.model.SlotDisponivel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link ReagendamentoService}.
+ * Valida as sugestões geradas pela varredura sobre a disponibilidade do
+ * professor e os horários ocupados do professor e do aluno.
+ *
+ * @author Lucas Chagas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReagendamentoServiceTest {
+
+    private AulaDAO aulaDAO;
+    private DisponibilidadeDAO dispDAO;
+    private ReagendamentoService service;
+    private Professor professor;
+    private Estudante estudante;
+    private LocalDateTime base;
+    private Aula aulaParaReagendar;
+
+    /**
+     * Cenário: professor disponível das 8h às 12h de amanhã, ocupado das 9h às
+     * 10h; aluno ocupado das 10h30 às 11h; aula de 60 minutos a reagendar.
+     */
+    @BeforeEach
+    void setUp() {
+        AulaDAO.clear();
+        DisponibilidadeDAO.clear();
+        aulaDAO = new AulaDAO();
+        dispDAO = new DisponibilidadeDAO();
+        service = new ReagendamentoService(dispDAO, aulaDAO);
+
+        professor = new Professor("P1", "Carlos Silva", "carlos@teste.com", "senha123");
+        estudante = new Estudante("E1", "Ana Souza", "ana@teste.com", "senha123");
+        Estudante outroEstudante = new Estudante("E2", "Bia Lima", "bia@teste.com", "senha123");
+        Professor outroProfessor = new Professor("P2", "Davi Reis", "davi@teste.com", "senha123");
+        base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+
+        dispDAO.salvarSlot(new SlotDisponivel("P1", base, base.plusHours(4)));
+        aulaDAO.salvarOuAtualizar(new Aula(null, "Ocupado prof", "", professor, outroEstudante, base.plusHours(1), 60));
+        aulaDAO.salvarOuAtualizar(new Aula(null, "Ocupado aluno", "", outroProfessor, estudante, base.plusMinutes(150), 30));
+
+        // A própria aula (às 8h) não deve bloquear as sugestões
+        aulaParaReagendar = aulaDAO.salvarOuAtualizar(new Aula(null, "POO", "", professor, estudante, base, 60));
+    }
+
+    /**
+     * Testa se apenas os horários livres para ambos são sugeridos.
+     */
+    @Test
+    void deveSugerirApenasHorariosLivresParaProfessorEAluno() {
+        // ACT
+        List<HorarioSugerido> sugestoes = service.getSugestoesReagendamento(aulaParaReagendar);
+
+        // ASSERT
+        List<LocalDateTime> inicios = sugestoes.stream().map(HorarioSugerido::getInicio).collect(Collectors.toList());
+        assertEquals(List.of(base, base.plusHours(3)), inicios);
+        assertEquals(base.plusHours(4), sugestoes.get(1).getFim());
+    }
+
+    /**
+     * Testa o limite de sugestões e a ordenação por proximidade de um horário.
+     */
+    @Test
+    void deveLimitarEOrdenarSugestoes() {
+        // ACT
+        List<HorarioSugerido> primeira = service.getSugestoesReagendamento(aulaParaReagendar, 1);
+        HorarioSugerido maisProxima = service.streamSugestoesReagendamento(aulaParaReagendar)
+                .sorted(ReagendamentoService.maisProximoDe(base.plusHours(3)))
+                .findFirst()
+                .orElseThrow();
+
+        // ASSERT
+        assertEquals(1, primeira.size());
+        assertEquals(base, primeira.get(0).getInicio());
+        assertEquals(base.plusHours(3), maisProxima.getInicio());
+    }
+}
@@ -1,5 +1,6 @@
 package com.agendastudy.service;
 
+import com.agendastudy.DAO.AulaDAO;
 import com.agendastudy.model.Aula;
 import com.agendastudy.model.Estudante;
 import com.agendastudy.model.Professor;
@@ -67,6 +68,29 @@ public class RelatoriodeRendimentoteste {
         assertEquals(1, cancelamentos.get("João"));
     }
 
+    @Test
+    public void testRelatorioSobreOAulaDAO() {
+        AulaDAO.clear();
+        AulaDAO aulaDAO = new AulaDAO();
+        Professor professor = new Professor("P1", "Carlos", "carlos@email.com", "123");
+
+        List<Aula> aulas = criarAulasMock(professor);
+        aulas.forEach(aulaDAO::salvarOuAtualizar);
+
+        RelatoriodeRendimento relatorio = new RelatoriodeRendimento(aulaDAO);
+
+        assertEquals(3, relatorio.calcularTotalAulas(professor,
+                LocalDateTime.now().minusDays(10), LocalDateTime.now().plusDays(1)));
+        assertEquals(20.0, relatorio.calcularTaxaCancelamentoAluno(professor));
+        assertEquals(20.0, relatorio.calcularTaxaCancelamentoProfessor(professor));
+        assertEquals(1, relatorio.calcularCancelamentosPorAluno(professor).get("João"));
+
+        // Cancelamento feito depois de salvar também entra na taxa
+        aulas.get(0).cancelarPorProfessor();
+        assertEquals(40.0, relatorio.calcularTaxaCancelamentoProfessor(professor));
+        AulaDAO.clear();
+    }
+
     // ---------------------------------------------------
     // MOCK REAL COMPATÍVEL COM SUA CLASSE AULA
     // ---------------------------------------------------
@@ -0,0 +1,165 @@
+package com.agendastudy.service;
+
+import com.agendastudy.DAO.AulaDAO;
+import com.agendastudy.DAO.DisponibilidadeDAO;
+import com.agendastudy.model.Aula;
+import com.agendastudy.model.Estudante;
+import com.agendastudy.model.Professor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de concorrência para {@link ServicoAgendamento}.
+ * Dispara muitas reservas e criações simultâneas e verifica que nenhuma aula
+ * é reservada duas vezes e que nenhum professor fica com aulas sobrepostas.
+ *
+ * @author VINICIUS ALVES RIBEIRO SILVA
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ServicoAgendamentoTest {
+
+    private static final int THREADS = 16;
+
+    private ServicoAgendamento servico;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        AulaDAO.clear();
+        servico = new ServicoAgendamento(new AulaDAO(), new DisponibilidadeDAO());
+        base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    /**
+     * Testa se, com vários estudantes disputando as mesmas vagas ao mesmo
+     * tempo, cada vaga é reservada exatamente uma vez.
+     */
+    @Test
+    void naoDeveReservarAMesmaVagaDuasVezes() throws InterruptedException {
+        // ARRANGE: 8 professores com 25 vagas cada
+        List<Aula> vagas = new ArrayList<>();
+        for (int p = 0; p < 8; p++) {
+            Professor professor = new Professor("P" + p, "Professor " + p, "p" + p + "@teste.com", "senha123");
+            for (int i = 0; i < 25; i++) {
+                vagas.add(servico.criarDisponibilidade(professor, "Aula", "", base.plusHours(i), 60));
+            }
+        }
+        Map<String, String> vencedores = new ConcurrentHashMap<>();
+        AtomicInteger reservas = new AtomicInteger();
+
+        // ACT: todas as threads tentam todas as vagas
+        executarEmParalelo(t -> {
+            Estudante estudante = new Estudante("E" + t, "Estudante " + t, "e" + t + "@teste.com", "senha123");
+            for (Aula vaga : vagas) {
+                try {
+                    servico.agendarAula(vaga.getIdAula(), estudante);
+                    reservas.incrementAndGet();
+                    assertNull(vencedores.put(vaga.getIdAula(), estudante.getId()), "Vaga reservada duas vezes");
+                } catch (IllegalStateException e) {
+                    // vaga já levada por outro estudante
+                }
+            }
+        });
+
+        // ASSERT
+        assertEquals(vagas.size(), reservas.get());
+        for (Aula vaga : vagas) {
+            assertEquals(vencedores.get(vaga.getIdAula()), vaga.getEstudante().getId());
+        }
+    }
+
+    /**
+     * Testa se criações e reagendamentos simultâneos nunca deixam um professor
+     * com duas aulas no mesmo horário.
+     */
+    @Test
+    void naoDeveCriarAulasSobrepostasParaOProfessor() throws InterruptedException {
+        // ARRANGE
+        Professor professor = new Professor("P1", "Carlos Silva", "carlos@teste.com", "senha123");
+
+        // ACT: cada thread tenta ocupar os mesmos 20 horários (30 min de deslocamento
+        // entre as threads pares e ímpares) e reagendar o que conseguiu
+        executarEmParalelo(t -> {
+            for (int i = 0; i < 20; i++) {
+                LocalDateTime inicio = base.plusHours(i).plusMinutes(30L * (t % 2));
+                try {
+                    Aula aula = servico.criarDisponibilidade(professor, "Aula", "", inicio, 60);
+                    servico.reagendarAula(aula.getIdAula(), professor, inicio.plusHours(20), -1);
+                } catch (IllegalStateException e) {
+                    // horário já ocupado
+                }
+            }
+        });
+
+        // ASSERT
+        List<Aula> agenda = servico.getAgendaDoProfessor(professor);
+        assertFalse(agenda.isEmpty());
+        for (int i = 1; i < agenda.size(); i++) {
+            Aula anterior = agenda.get(i - 1);
+            Aula atual = agenda.get(i);
+            assertFalse(atual.getDataHora().isBefore(anterior.getFimAula()),
+                    "Aulas sobrepostas: " + anterior.getIdAula() + " e " + atual.getIdAula());
+        }
+    }
+
+    /**
+     * Testa se uma aula ainda AGENDADA, mas já terminada, não pode ser
+     * reagendada (ela está para ser concluída pelo agendador).
+     */
+    @Test
+    void naoDeveReagendarAulaJaTerminada() {
+        // ARRANGE
+        Professor professor = new Professor("P1", "Professor", "p1@teste.com", "senha123");
+        Estudante estudante = new Estudante("E1", "Estudante", "e1@teste.com", "senha123");
+        Aula aula = new Aula("A1", "Aula", "", professor, estudante, LocalDateTime.now().minusHours(2), 60);
+        new AulaDAO().salvarOuAtualizar(aula);
+
+        // ACT + ASSERT
+        assertThrows(IllegalStateException.class,
+                () -> servico.reagendarAula("A1", estudante, base.plusHours(3), -1));
+        assertTrue(aula.getDataHora().isBefore(LocalDateTime.now()));
+    }
+
+    /** Tarefa executada por cada thread do teste, recebendo o número da thread. */
+    private interface Tarefa {
+        void executar(int thread);
+    }
+
+    private void executarEmParalelo(Tarefa tarefa) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Throwable> falhas = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    largada.await();
+                    tarefa.executar(thread);
+                } catch (Throwable e) {
+                    synchronized (falhas) {
+                        falhas.add(e);
+                    }
+                }
+            });
+        }
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(falhas.isEmpty(), "Falhas nas threads: " + falhas);
+    }
+}
@@ -0,0 +1,111 @@
+package com.agendastudy.service;
+
+import com.agendastudy.model.TipoNotificacao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes para {@link SistemaNotificacoes}.
+ * Valida a entrega em lotes pelo pool de trabalhadores, a contrapressão em
+ * {@code enfileirar} e as métricas reportadas.
+ *
+ * @author Enzo Andrade
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class SistemaNotificacoesTest {
+
+    /**
+     * Testa se uma rajada de notificações é entregue por completo e se as
+     * métricas refletem o processamento.
+     */
+    @Test
+    void deveEntregarRajadaEmLotes() throws InterruptedException {
+        // ARRANGE
+        AtomicInteger entregues = new AtomicInteger();
+        SistemaNotificacoes sistema = new SistemaNotificacoes(4, 5_000, 32, 1_000, n -> entregues.incrementAndGet());
+
+        // ACT
+        for (int i = 0; i < 2_000; i++) {
+            assertTrue(sistema.enfileirar("U" + (i % 50), TipoNotificacao.AULA_CANCELADA, "Aula cancelada", i % 5));
+        }
+        long limite = System.currentTimeMillis() + 5_000;
+        while (entregues.get() < 2_000 && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+
+        // ASSERT
+        SistemaNotificacoes.Metricas metricas = sistema.getMetricas();
+        assertEquals(2_000, entregues.get());
+        assertEquals(2_000, metricas.enfileiradas());
+        assertEquals(0, metricas.profundidadeFila());
+        assertTrue(metricas.lotes() < 2_000, "As notificações deveriam ser despachadas em lotes.");
+        assertTrue(metricas.entregasPorSegundo() > 0);
+        sistema.shutdown();
+    }
+
+    /**
+     * Testa se, sem vagas, enfileirar espera o tempo máximo e descarta a
+     * notificação.
+     */
+    @Test
+    void deveAplicarContrapressaoQuandoCheio() throws InterruptedException {
+        // ARRANGE: a entrega fica bloqueada até o fim do teste
+        CountDownLatch liberar = new CountDownLatch(1);
+        SistemaNotificacoes sistema = new SistemaNotificacoes(1, 2, 1, 50, n -> {
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // ACT
+        assertTrue(sistema.enfileirar("U1", TipoNotificacao.AULA_CANCELADA, "1", 1));
+        assertTrue(sistema.enfileirar("U1", TipoNotificacao.AULA_CANCELADA, "2", 1));
+        boolean terceira = sistema.enfileirar("U1", TipoNotificacao.AULA_CANCELADA, "3", 1);
+
+        // ASSERT
+        assertFalse(terceira, "Sem vaga, a notificação deveria ser descartada.");
+        assertEquals(1, sistema.getMetricas().rejeitadas());
+
+        liberar.countDown();
+        sistema.shutdown();
+    }
+
+    /**
+     * Testa se as métricas contam como entregues só as notificações que
+     * chegaram ao entregador sem erro.
+     */
+    @Test
+    void deveContarSomenteEntregasRealizadas() throws InterruptedException {
+        // ARRANGE: metade das entregas falha
+        AtomicInteger tentativas = new AtomicInteger();
+        SistemaNotificacoes sistema = new SistemaNotificacoes(2, 100, 8, 1_000, n -> {
+            if (tentativas.incrementAndGet() % 2 == 0) {
+                throw new IllegalStateException("Falha simulada de entrega");
+            }
+        });
+
+        // ACT
+        for (int i = 0; i < 20; i++) {
+            assertTrue(sistema.enfileirar("U1", TipoNotificacao.AULA_CANCELADA, "Aula cancelada", 1));
+        }
+        long limite = System.currentTimeMillis() + 5_000;
+        while (tentativas.get() < 20 && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+
+        // ASSERT
+        assertEquals(20, tentativas.get());
+        assertEquals(10, sistema.getMetricas().entregues());
+        sistema.shutdown();
+    }
+}